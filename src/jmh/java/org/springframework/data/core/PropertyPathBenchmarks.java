@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.core;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.data.BenchmarkSettings;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Benchmarks for {@link PropertyPath} parsing as used by derived queries. {@code cached…} benchmarks resolve paths
+ * through {@link PropertyPathCache}, {@code parse…} benchmarks bypass the cache to measure tokenizing and property
+ * resolution.
+ */
+@Testable
+@State(Scope.Benchmark)
+public class PropertyPathBenchmarks extends BenchmarkSettings {
+
+	private static final TypeInformation<Person> PERSON = TypeInformation.of(Person.class);
+
+	@Benchmark
+	public Object cachedSimplePath() {
+		return PropertyPath.from("firstname", PERSON);
+	}
+
+	@Benchmark
+	public Object cachedDottedPath() {
+		return PropertyPath.from("address.zipCode", PERSON);
+	}
+
+	@Benchmark
+	public Object cachedCamelCasePath() {
+		return PropertyPath.from("addressZipCode", PERSON);
+	}
+
+	@Benchmark
+	public Object parseSimplePath() {
+		return SimplePropertyPath.parse("firstname", PERSON);
+	}
+
+	@Benchmark
+	public Object parseDottedPath() {
+		return SimplePropertyPath.parse("address.zipCode", PERSON);
+	}
+
+	@Benchmark
+	public Object parseCamelCasePath() {
+		return SimplePropertyPath.parse("addressZipCode", PERSON);
+	}
+
+	@Benchmark
+	public Object tokenize() {
+		return SimplePropertyPath.tokenize("address_country.isoCode");
+	}
+
+	@Benchmark
+	public Object derivedQuery() {
+		return new PartTree("findByFirstnameAndAddressZipCodeOrderByLastnameAsc", Person.class);
+	}
+
+	record Person(String firstname, String lastname, Address address) {
+
+	}
+
+	record Address(String street, String zipCode, Country country) {
+
+	}
+
+	record Country(String isoCode) {
+
+	}
+}
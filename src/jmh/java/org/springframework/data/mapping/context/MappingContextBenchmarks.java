@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import org.springframework.data.BenchmarkSettings;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.mapping.model.BasicPersistentEntity;
+
+/**
+ * Benchmarks for multi-threaded {@link AbstractMappingContext} entity lookups. {@code readLocked…} benchmarks replicate
+ * the previous lookup that acquired the read lock on every call to compare against the lock-free lookup.
+ */
+@Testable
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+public class MappingContextBenchmarks extends BenchmarkSettings {
+
+	private static final TypeInformation<Person> PERSON = TypeInformation.of(Person.class);
+	private static final TypeInformation<String> STRING = TypeInformation.of(String.class);
+
+	private SampleMappingContext context;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Lock read = lock.readLock();
+	private final Map<TypeInformation<?>, Optional<BasicPersistentEntity<Object, SamplePersistentProperty>>> entities = new HashMap<>();
+
+	@Setup
+	public void setUp() {
+
+		context = new SampleMappingContext();
+		context.getRequiredPersistentEntity(PERSON);
+		context.getPersistentEntity(STRING);
+
+		entities.put(PERSON, Optional.of(context.getRequiredPersistentEntity(PERSON)));
+		entities.put(STRING, Optional.empty());
+	}
+
+	@Benchmark
+	public Object lookupEntity() {
+		return context.getPersistentEntity(PERSON);
+	}
+
+	@Benchmark
+	public Object lookupSimpleType() {
+		return context.getPersistentEntity(STRING);
+	}
+
+	@Benchmark
+	public boolean hasPersistentEntity() {
+		return context.hasPersistentEntityFor(Person.class);
+	}
+
+	@Benchmark
+	public Object readLockedLookupEntity() {
+		return readLocked(PERSON);
+	}
+
+	@Benchmark
+	public Object readLockedLookupSimpleType() {
+		return readLocked(STRING);
+	}
+
+	private Object readLocked(TypeInformation<?> type) {
+
+		try {
+
+			read.lock();
+
+			return entities.get(type).orElse(null);
+		} finally {
+			read.unlock();
+		}
+	}
+
+	static class Person {
+
+		String firstname;
+		String lastname;
+		Address address;
+	}
+
+	static class Address {
+
+		String street;
+		String city;
+	}
+
+}
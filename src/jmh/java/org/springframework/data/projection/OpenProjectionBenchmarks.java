@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.projection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.BenchmarkSettings;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+/**
+ * Benchmarks projecting {@link #ROWS} rows onto an open projection using {@link Value} expressions evaluated by
+ * {@link SpelAwareProxyProjectionFactory} with the given {@link SpelCompilerMode}. {@code closedProjection} projects the
+ * same rows onto a closed projection as baseline.
+ */
+@Testable
+@State(Scope.Benchmark)
+public class OpenProjectionBenchmarks extends BenchmarkSettings {
+
+	private static final int ROWS = 100_000;
+
+	@Param({ "OFF", "MIXED", "IMMEDIATE" }) SpelCompilerMode compilerMode;
+
+	private SpelAwareProxyProjectionFactory factory;
+	private List<Person> rows;
+
+	@Setup
+	public void setUp() {
+
+		factory = new SpelAwareProxyProjectionFactory(compilerMode);
+		rows = new ArrayList<>(ROWS);
+
+		for (int i = 0; i < ROWS; i++) {
+			rows.add(new Person("Dave" + i, "Matthews", i % 100));
+		}
+	}
+
+	@Benchmark
+	public void openProjection(Blackhole blackhole) {
+
+		for (Person row : rows) {
+			blackhole.consume(factory.createProjection(PersonSummary.class, row).getFullName());
+		}
+	}
+
+	@Benchmark
+	public void openProjectionWithArithmetic(Blackhole blackhole) {
+
+		for (Person row : rows) {
+			blackhole.consume(factory.createProjection(PersonSummary.class, row).getAgeInMonths());
+		}
+	}
+
+	@Benchmark
+	public void closedProjection(Blackhole blackhole) {
+
+		for (Person row : rows) {
+			blackhole.consume(factory.createProjection(PersonName.class, row).getFirstname());
+		}
+	}
+
+	public interface PersonSummary {
+
+		@Value("#{target.firstname + ' ' + target.lastname}")
+		String getFullName();
+
+		@Value("#{target.age * 12}")
+		int getAgeInMonths();
+	}
+
+	public interface PersonName {
+
+		String getFirstname();
+	}
+
+	public static class Person {
+
+		private final String firstname;
+		private final String lastname;
+		private final int age;
+
+		public Person(String firstname, String lastname, int age) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+
+		public int getAge() {
+			return age;
+		}
+	}
+}
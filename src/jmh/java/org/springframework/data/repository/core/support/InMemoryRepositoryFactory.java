@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+
+/**
+ * {@link RepositoryFactorySupport} backed by an in-memory list of entities to benchmark the repository proxy pipeline
+ * without store interaction. Query methods return all entities for collection-like, {@link Stream} and {@link Slice}
+ * return types and the first entity otherwise. Results are post-processed through the query method's
+ * {@link org.springframework.data.repository.query.ResultProcessor} to apply projections.
+ */
+class InMemoryRepositoryFactory extends RepositoryFactorySupport {
+
+	private final List<?> entities;
+
+	InMemoryRepositoryFactory(List<?> entities) {
+		this.entities = entities;
+	}
+
+	@Override
+	protected Object getTargetRepository(RepositoryInformation metadata) {
+		return new Object();
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		return Object.class;
+	}
+
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable Key key,
+			ValueExpressionDelegate valueExpressionDelegate) {
+		return Optional.of(this::resolveQuery);
+	}
+
+	private RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+			NamedQueries namedQueries) {
+		return new InMemoryRepositoryQuery(method, new QueryMethod(method, metadata, factory));
+	}
+
+	/**
+	 * {@link RepositoryQuery} returning the backing entities.
+	 */
+	class InMemoryRepositoryQuery implements RepositoryQuery {
+
+		private final QueryMethod queryMethod;
+		private final Class<?> returnType;
+
+		InMemoryRepositoryQuery(Method method, QueryMethod queryMethod) {
+			this.queryMethod = queryMethod;
+			this.returnType = method.getReturnType();
+		}
+
+		@Override
+		public @Nullable Object execute(@Nullable Object[] parameters) {
+			return queryMethod.getResultProcessor().processResult(doExecute());
+		}
+
+		private @Nullable Object doExecute() {
+
+			if (Stream.class.isAssignableFrom(returnType)) {
+				return entities.stream();
+			}
+
+			if (Slice.class.isAssignableFrom(returnType)) {
+				return new PageImpl<>(entities);
+			}
+
+			if (Iterable.class.isAssignableFrom(returnType)) {
+				return entities;
+			}
+
+			return entities.isEmpty() ? null : entities.get(0);
+		}
+
+		@Override
+		public QueryMethod getQueryMethod() {
+			return queryMethod;
+		}
+	}
+
+}
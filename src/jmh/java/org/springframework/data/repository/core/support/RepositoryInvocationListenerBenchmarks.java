@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.util.List;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.data.BenchmarkSettings;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Benchmarks for repository proxy invocation overhead with and without {@link RepositoryMethodInvocationListener}s.
+ */
+@Testable
+@State(Scope.Benchmark)
+public class RepositoryInvocationListenerBenchmarks extends BenchmarkSettings {
+
+	private PersonRepository withoutListeners;
+	private PersonRepository withListener;
+	private PersonRepository sampled;
+
+	@Setup
+	public void setUp() {
+
+		List<Person> people = List.of(new Person("Walter", "White"));
+
+		withoutListeners = createRepository(new InMemoryRepositoryFactory(people));
+
+		InMemoryRepositoryFactory listening = new InMemoryRepositoryFactory(people);
+		listening.addInvocationListener(it -> {});
+		withListener = createRepository(listening);
+
+		InMemoryRepositoryFactory sampling = new InMemoryRepositoryFactory(people);
+		sampling.addInvocationListener(it -> {});
+		sampling.setInvocationSampleRate(100);
+		sampled = createRepository(sampling);
+	}
+
+	private static PersonRepository createRepository(RepositoryFactorySupport factory) {
+		return factory.getRepository(PersonRepository.class, new PersonFragmentImpl());
+	}
+
+	@Benchmark
+	public Object queryMethodWithoutListeners() {
+		return withoutListeners.findByFirstname("Walter");
+	}
+
+	@Benchmark
+	public Object queryMethodWithListener() {
+		return withListener.findByFirstname("Walter");
+	}
+
+	@Benchmark
+	public Object queryMethodSampled() {
+		return sampled.findByFirstname("Walter");
+	}
+
+	@Benchmark
+	public Object fragmentMethodWithoutListeners() {
+		return withoutListeners.findHeisenberg();
+	}
+
+	@Benchmark
+	public Object fragmentMethodWithListener() {
+		return withListener.findHeisenberg();
+	}
+
+	@Benchmark
+	public Object fragmentMethodSampled() {
+		return sampled.findHeisenberg();
+	}
+
+	record Person(String firstname, String lastname) {
+
+	}
+
+	interface PersonRepository extends Repository<Person, String>, PersonFragment {
+
+		Person findByFirstname(String firstname);
+	}
+
+	interface PersonFragment {
+
+		Person findHeisenberg();
+	}
+
+	static class PersonFragmentImpl implements PersonFragment {
+
+		@Override
+		public Person findHeisenberg() {
+			return new Person("Walter", "White");
+		}
+	}
+
+}
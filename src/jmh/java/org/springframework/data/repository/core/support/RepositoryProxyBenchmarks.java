@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.data.BenchmarkSettings;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Benchmarks for the repository proxy invocation pipeline created by {@link RepositoryFactorySupport} backed by
+ * {@link InMemoryRepositoryFactory}. Benchmarks cover query method execution through
+ * {@link QueryExecutorMethodInterceptor}, result adaptation for various return types, projections, fragment dispatch
+ * through {@link RepositoryComposition} and domain event publication through
+ * {@link EventPublishingRepositoryProxyPostProcessor}. {@code direct…} benchmarks invoke the fragment implementation
+ * without a proxy to provide a baseline.
+ */
+@Testable
+@State(Scope.Benchmark)
+public class RepositoryProxyBenchmarks extends BenchmarkSettings {
+
+	private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+
+	@Param({ "false", "true" }) boolean directMethodDispatch;
+
+	private PersonRepository repository;
+	private PersonRepository publishingRepository;
+	private PersonStore store;
+	private Person person;
+
+	@Setup
+	public void setUp() {
+
+		person = new Person("Walter", "White");
+		List<Person> people = List.of(person, new Person("Skyler", "White"), new Person("Walter Jr.", "White"));
+		store = new PersonStoreImpl();
+
+		InMemoryRepositoryFactory factory = new InMemoryRepositoryFactory(people);
+		factory.setDirectMethodDispatch(directMethodDispatch);
+		repository = factory.getRepository(PersonRepository.class, store);
+
+		InMemoryRepositoryFactory publishingFactory = new InMemoryRepositoryFactory(people);
+		publishingFactory.setDirectMethodDispatch(directMethodDispatch);
+		publishingFactory.addRepositoryProxyPostProcessor(new EventPublishingRepositoryProxyPostProcessor(event -> {}));
+		publishingRepository = publishingFactory.getRepository(PersonRepository.class, store);
+	}
+
+	@Benchmark
+	public Object queryEntity() {
+		return repository.findByFirstname("Walter");
+	}
+
+	@Benchmark
+	public Object queryOptional() {
+		return repository.findOptionalByFirstname("Walter");
+	}
+
+	@Benchmark
+	public Object queryList() {
+		return repository.findAllByLastname("White");
+	}
+
+	@Benchmark
+	public void queryStream(Blackhole blackhole) {
+
+		try (Stream<Person> stream = repository.streamAllByLastname("White")) {
+			stream.forEach(blackhole::consume);
+		}
+	}
+
+	@Benchmark
+	public Object queryPage() {
+		return repository.findPageByLastname("White", PAGEABLE);
+	}
+
+	@Benchmark
+	public void queryProjection(Blackhole blackhole) {
+
+		for (PersonSummary summary : repository.findSummariesByLastname("White")) {
+			blackhole.consume(summary.getFirstname());
+		}
+	}
+
+	@Benchmark
+	public Object fragment() {
+		return repository.save(person);
+	}
+
+	@Benchmark
+	public Object fragmentWithEventPublication() {
+		return publishingRepository.save(person);
+	}
+
+	@Benchmark
+	public Object directFragment() {
+		return store.save(person);
+	}
+
+	static class Person {
+
+		private static final List<Object> EVENTS = List.of(new Object());
+
+		private final String firstname;
+		private final String lastname;
+
+		Person(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+
+		@DomainEvents
+		Collection<Object> events() {
+			return EVENTS;
+		}
+
+		@AfterDomainEventPublication
+		void clearEvents() {}
+	}
+
+	interface PersonSummary {
+
+		String getFirstname();
+	}
+
+	interface PersonRepository extends Repository<Person, Long>, PersonStore {
+
+		Person findByFirstname(String firstname);
+
+		Optional<Person> findOptionalByFirstname(String firstname);
+
+		List<Person> findAllByLastname(String lastname);
+
+		Stream<Person> streamAllByLastname(String lastname);
+
+		Page<Person> findPageByLastname(String lastname, Pageable pageable);
+
+		List<PersonSummary> findSummariesByLastname(String lastname);
+	}
+
+	interface PersonStore {
+
+		Person save(Person person);
+	}
+
+	static class PersonStoreImpl implements PersonStore {
+
+		@Override
+		public Person save(Person person) {
+			return person;
+		}
+	}
+
+}
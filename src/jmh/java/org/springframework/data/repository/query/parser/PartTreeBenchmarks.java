@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.query.parser;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.data.BenchmarkSettings;
+
+/**
+ * Startup benchmarks for derived query method name parsing over a synthetic repository declaring {@link #methods}
+ * query methods. {@code regexLexer} tokenizes method names using the regular expressions previously used by
+ * {@link PartTree}, {@code trieLexer} uses {@link MethodNameLexer}. {@code partTree} creates the full {@link PartTree}
+ * including property path resolution.
+ */
+@Testable
+@State(Scope.Benchmark)
+public class PartTreeBenchmarks extends BenchmarkSettings {
+
+	private static final String[] SUBJECTS = { "find", "findDistinct", "findFirst", "findTop10", "count", "exists",
+			"delete", "stream" };
+	private static final String[] PROPERTIES = { "Firstname", "Lastname", "Age", "AddressCity", "AddressZipCode",
+			"Active", "CreatedAt" };
+	private static final String[] OPERATORS = { "", "IsNot", "GreaterThan", "LessThanEqual", "Like", "StartingWith",
+			"IgnoreCase", "In", "IsNull", "Between" };
+
+	@Param({ "1000", "10000" }) int methods;
+
+	private List<String> methodNames;
+
+	@Setup
+	public void setUp() {
+
+		methodNames = new ArrayList<>(methods);
+
+		for (int i = 0; methodNames.size() < methods; i++) {
+
+			StringBuilder name = new StringBuilder(SUBJECTS[i % SUBJECTS.length]).append("By");
+			int predicates = 1 + i % 3;
+
+			for (int j = 0; j < predicates; j++) {
+
+				if (j > 0) {
+					name.append(j % 2 == 0 ? "Or" : "And");
+				}
+
+				name.append(PROPERTIES[(i + j) % PROPERTIES.length]).append(OPERATORS[(i / 7 + j) % OPERATORS.length]);
+			}
+
+			if (i % 5 == 0) {
+				name.append("AllIgnoreCase");
+			}
+
+			if (i % 4 == 0) {
+				name.append("OrderBy").append(PROPERTIES[i % PROPERTIES.length]).append("Desc")
+						.append(PROPERTIES[(i + 1) % PROPERTIES.length]).append("Asc");
+			}
+
+			methodNames.add(name.toString());
+		}
+	}
+
+	@Benchmark
+	public void regexLexer(Blackhole blackhole) {
+
+		for (String methodName : methodNames) {
+			RegexLexer.lex(methodName, blackhole);
+		}
+	}
+
+	@Benchmark
+	public void trieLexer(Blackhole blackhole) {
+
+		for (String methodName : methodNames) {
+			TrieLexer.lex(methodName, blackhole);
+		}
+	}
+
+	@Benchmark
+	public void partTree(Blackhole blackhole) {
+
+		for (String methodName : methodNames) {
+			blackhole.consume(new PartTree(methodName, Person.class));
+		}
+	}
+
+	/**
+	 * Method name tokenization using the regular expressions previously used by {@link PartTree}, {@link Part} and
+	 * {@link OrderBySource}.
+	 */
+	static class RegexLexer {
+
+		private static final String KEYWORD_TEMPLATE = "(%s)(?=(\\p{Lu}|\\P{InBASIC_LATIN}))";
+		private static final String QUERY_PATTERN = "find|read|get|query|search|stream";
+		private static final Pattern PREFIX_TEMPLATE = Pattern
+				.compile("^(" + QUERY_PATTERN + "|count|exists|delete|remove)((\\p{Lu}.*?))??By");
+		private static final Pattern COUNT_BY_TEMPLATE = Pattern.compile("^count(\\p{Lu}.*?)??By");
+		private static final Pattern EXISTS_BY_TEMPLATE = Pattern.compile("^(exists)(\\p{Lu}.*?)??By");
+		private static final Pattern DELETE_BY_TEMPLATE = Pattern.compile("^(delete|remove)(\\p{Lu}.*?)??By");
+		private static final Pattern LIMITED_QUERY_TEMPLATE = Pattern
+				.compile("^(" + QUERY_PATTERN + ")(Distinct)?(First|Top)(\\d*)?(\\p{Lu}.*?)??By");
+		private static final Pattern ALL_IGNORE_CASE = Pattern.compile("AllIgnor(ing|e)Case");
+		private static final Pattern IGNORE_CASE = Pattern.compile("Ignor(ing|e)Case");
+		private static final String BLOCK_SPLIT = "(?<=Asc|Desc)(?=\\p{Lu})";
+		private static final Pattern DIRECTION_SPLIT = Pattern.compile("(.+?)(Asc|Desc)?$");
+
+		static void lex(String source, Blackhole blackhole) {
+
+			Matcher matcher = PREFIX_TEMPLATE.matcher(source);
+			String predicate = source;
+
+			if (matcher.find()) {
+
+				String subject = matcher.group(0);
+				blackhole.consume(COUNT_BY_TEMPLATE.matcher(subject).find());
+				blackhole.consume(EXISTS_BY_TEMPLATE.matcher(subject).find());
+				blackhole.consume(DELETE_BY_TEMPLATE.matcher(subject).find());
+				blackhole.consume(LIMITED_QUERY_TEMPLATE.matcher(subject).find());
+				predicate = source.substring(subject.length());
+			}
+
+			Matcher allIgnoreCase = ALL_IGNORE_CASE.matcher(predicate);
+
+			if (allIgnoreCase.find()) {
+				predicate = predicate.substring(0, allIgnoreCase.start()) + predicate.substring(allIgnoreCase.end());
+			}
+
+			String[] parts = split(predicate, "OrderBy");
+
+			for (String orPart : split(parts[0], "Or")) {
+				for (String part : split(orPart, "And")) {
+
+					Matcher ignoreCase = IGNORE_CASE.matcher(part);
+
+					if (ignoreCase.find()) {
+						part = part.substring(0, ignoreCase.start()) + part.substring(ignoreCase.end());
+					}
+
+					blackhole.consume(Part.Type.fromProperty(part));
+				}
+			}
+
+			if (parts.length == 2) {
+				for (String block : parts[1].split(BLOCK_SPLIT)) {
+					Matcher direction = DIRECTION_SPLIT.matcher(block);
+					blackhole.consume(direction.find() ? direction.group(2) : null);
+				}
+			}
+		}
+
+		private static String[] split(String text, String keyword) {
+			return Pattern.compile(String.format(KEYWORD_TEMPLATE, keyword)).split(text);
+		}
+	}
+
+	/**
+	 * Method name tokenization using {@link MethodNameLexer}.
+	 */
+	static class TrieLexer {
+
+		static void lex(String source, Blackhole blackhole) {
+
+			MethodNameLexer.Subject subject = MethodNameLexer.findSubject(source);
+			String predicate = source;
+
+			if (subject != null) {
+				blackhole.consume(subject.type());
+				blackhole.consume(MethodNameLexer.findMaxResults(source, subject));
+				predicate = source.substring(subject.end());
+			}
+
+			String stripped = MethodNameLexer.stripIgnoreCase(predicate, "AllIgnor");
+
+			if (stripped != null) {
+				predicate = stripped;
+			}
+
+			List<String> parts = MethodNameLexer.split(predicate, "OrderBy");
+
+			for (String orPart : MethodNameLexer.split(parts.get(0), "Or")) {
+				for (String part : MethodNameLexer.split(orPart, "And")) {
+
+					String strippedPart = MethodNameLexer.stripIgnoreCase(part, "Ignor");
+					blackhole.consume(Part.Type.fromProperty(strippedPart != null ? strippedPart : part));
+				}
+			}
+
+			if (parts.size() == 2) {
+				for (String block : MethodNameLexer.splitOrderBy(parts.get(1))) {
+					blackhole.consume(MethodNameLexer.findDirection(block));
+				}
+			}
+		}
+	}
+
+	static class Person {
+
+		String firstname;
+		String lastname;
+		int age;
+		Address address;
+		boolean active;
+		Date createdAt;
+	}
+
+	static class Address {
+
+		String city;
+		String zipCode;
+	}
+}
@@ -22,6 +22,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.function.Predicate;
 
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.TypeReference;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.geo.Point;
@@ -31,6 +34,7 @@ import org.springframework.data.mapping.context.AbstractMappingContext;
 import org.springframework.data.mapping.model.AnnotationBasedPersistentProperty;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.mapping.model.ClassGeneratingPropertyAccessorFactory;
+import org.springframework.data.mapping.model.EntityAccessorSourceGenerator;
 import org.springframework.data.mapping.model.EntityInstantiator;
 import org.springframework.data.mapping.model.EntityInstantiatorSource;
 import org.springframework.data.mapping.model.EntityInstantiators;
@@ -38,6 +42,7 @@ import org.springframework.data.mapping.model.Property;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeCollector;
+import org.springframework.javapoet.JavaFile;
 
 /**
  * Simple {@link AbstractMappingContext} for processing of AOT contributions.
@@ -78,16 +83,60 @@ class AotMappingContext extends
 		BasicPersistentEntity<?, AotPersistentProperty> entity = getPersistentEntity(entityType);
 
 		if (entity != null) {
+			contributeInstantiator(entity);
+			propertyAccessorFactory.initialize(entity);
+		}
+	}
 
-			EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
-			if (instantiator instanceof EntityInstantiatorSource source) {
-				source.getInstantiatorFor(entity);
-			}
+	/**
+	 * Contribute entity instantiators and property accessors for the given {@link PersistentEntity} as Java source code
+	 * that is compiled along with the application. Precompiled implementations are picked up at runtime without
+	 * generating bytecode. Falls back to {@link #contribute(Class) bytecode capturing} for components that cannot be
+	 * expressed in source code (e.g. because they require reflective access to private members).
+	 *
+	 * @param entityType
+	 * @param generationContext
+	 * @since 4.2
+	 * @see EntityAccessorSourceGenerator
+	 */
+	public void contributeSources(Class<?> entityType, GenerationContext generationContext) {
 
+		BasicPersistentEntity<?, AotPersistentProperty> entity = getPersistentEntity(entityType);
+
+		if (entity == null) {
+			return;
+		}
+
+		if (EntityAccessorSourceGenerator.isInstantiatorSupported(entity)) {
+			contributeSource(EntityAccessorSourceGenerator.getInstantiatorClassName(entity),
+					EntityAccessorSourceGenerator.generateInstantiator(entity), generationContext);
+		} else {
+			contributeInstantiator(entity);
+		}
+
+		if (EntityAccessorSourceGenerator.isPropertyAccessorSupported(entity)) {
+			contributeSource(EntityAccessorSourceGenerator.getPropertyAccessorClassName(entity),
+					EntityAccessorSourceGenerator.generatePropertyAccessor(entity), generationContext);
+		} else {
 			propertyAccessorFactory.initialize(entity);
 		}
 	}
 
+	private void contributeInstantiator(BasicPersistentEntity<?, AotPersistentProperty> entity) {
+
+		EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
+		if (instantiator instanceof EntityInstantiatorSource source) {
+			source.getInstantiatorFor(entity);
+		}
+	}
+
+	private static void contributeSource(String className, JavaFile javaFile, GenerationContext generationContext) {
+
+		generationContext.getGeneratedFiles().addSourceFile(javaFile);
+		generationContext.getRuntimeHints().reflection().registerType(TypeReference.of(className),
+				MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+	}
+
 	@Override
 	protected boolean shouldCreatePersistentEntityFor(TypeInformation<?> typeInformation) {
 
@@ -257,7 +257,12 @@ class DefaultAotContext implements AotContext {
 
 				AccessorContributionConfiguration configuration = AccessorContributionConfiguration.of(environment);
 				if (configuration.shouldContributeAccessors(type)) {
-					mappingContext.contribute(type);
+
+					if (configuration.sourceEnabled()) {
+						mappingContext.contributeSources(type, generationContext);
+					} else {
+						mappingContext.contribute(type);
+					}
 				}
 			}
 
@@ -282,7 +287,8 @@ class DefaultAotContext implements AotContext {
 	/**
 	 * Configuration for accessor to determine whether accessors should be contributed for a given type.
 	 */
-	private record AccessorContributionConfiguration(boolean enabled, Lazy<String> include, Lazy<String> exclude) {
+	private record AccessorContributionConfiguration(boolean enabled, boolean sourceEnabled, Lazy<String> include,
+			Lazy<String> exclude) {
 
 		/**
 		 * {@code boolean }Environment property to enable/disable accessor contribution. Enabled by default.
@@ -303,14 +309,24 @@ class DefaultAotContext implements AotContext {
 		 */
 		public static final String EXCLUDE_PATTERNS = "spring.aot.data.accessors.exclude";
 
+		/**
+		 * {@code boolean} Environment property to contribute accessors and instantiators as Java source code instead of
+		 * capturing runtime-generated bytecode where possible. Disabled by default.
+		 *
+		 * @since 4.2
+		 */
+		public static final String SOURCE_ENABLED = "spring.aot.data.accessors.source.enabled";
+
 		private static final AntPathMatcher antPathMatcher = new AntPathMatcher(".");
 
-		private AccessorContributionConfiguration(boolean enabled, Supplier<String> include, Supplier<String> exclude) {
-			this(enabled, Lazy.of(include), Lazy.of(exclude));
+		private AccessorContributionConfiguration(boolean enabled, boolean sourceEnabled, Supplier<String> include,
+				Supplier<String> exclude) {
+			this(enabled, sourceEnabled, Lazy.of(include), Lazy.of(exclude));
 		}
 
 		public static AccessorContributionConfiguration of(Environment environment) {
 			return new AccessorContributionConfiguration(environment.getProperty(ACCESSORS_ENABLED, Boolean.class, true),
+					environment.getProperty(SOURCE_ENABLED, Boolean.class, false),
 					() -> environment.getProperty(INCLUDE_PATTERNS, String.class, ""),
 					() -> environment.getProperty(EXCLUDE_PATTERNS, String.class, ""));
 		}
@@ -17,6 +17,8 @@ package org.springframework.data.convert;
 
 import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -479,6 +481,44 @@ public class CustomConversions {
 		return customReadTargetTypes.computeIfAbsent(sourceType, targetType, getReadTarget);
 	}
 
+	/**
+	 * Enable or disable collecting statistics about custom conversion target lookups exposed through
+	 * {@link #getReadTargetStatistics()} and {@link #getWriteTargetStatistics()}. Statistics are disabled by default so
+	 * that target lookups do not maintain counters. Enabling statistics starts with fresh counters.
+	 *
+	 * @param enabled whether to collect lookup statistics.
+	 * @since 4.2
+	 */
+	public void setStatisticsEnabled(boolean enabled) {
+
+		customReadTargetTypes.setStatisticsEnabled(enabled);
+		customWriteTargetTypes.setStatisticsEnabled(enabled);
+	}
+
+	/**
+	 * Returns statistics about custom read target lookups performed through {@link #hasCustomReadTarget(Class, Class)}.
+	 * A high miss rate for types expected to be converted can point to a missing or misconfigured converter.
+	 *
+	 * @return the current read target lookup statistics. Empty statistics if
+	 *         {@link #setStatisticsEnabled(boolean) statistics are disabled}.
+	 * @since 4.2
+	 */
+	public ConversionTargetStatistics getReadTargetStatistics() {
+		return customReadTargetTypes.getStatistics();
+	}
+
+	/**
+	 * Returns statistics about custom write target lookups performed through {@link #getCustomWriteTarget(Class)} and
+	 * {@link #getCustomWriteTarget(Class, Class)}.
+	 *
+	 * @return the current write target lookup statistics. Empty statistics if
+	 *         {@link #setStatisticsEnabled(boolean) statistics are disabled}.
+	 * @since 4.2
+	 */
+	public ConversionTargetStatistics getWriteTargetStatistics() {
+		return customWriteTargetTypes.getStatistics();
+	}
+
 	/**
 	 * Inspects the given {@link ConvertiblePair ConvertiblePairs} for ones that have a source compatible type as source.
 	 * Additionally, checks assignability of the target type if one is given.
@@ -514,13 +554,24 @@ public class CustomConversions {
 	}
 
 	/**
-	 * Value object to cache custom conversion targets.
+	 * Value object to cache custom conversion targets. Uses concurrent maps so that lookups for already computed targets
+	 * neither block nor copy the cache when new source/target pairs are added.
 	 *
 	 * @author Mark Paluch
 	 */
 	static class ConversionTargetsCache {
 
-		private volatile Map<Class<?>, TargetTypes> customReadTargetTypes = new HashMap<>();
+		private final Map<Class<?>, TargetTypes> customReadTargetTypes = new ConcurrentHashMap<>();
+		private volatile @Nullable LookupStatistics statistics;
+
+		/**
+		 * Enable or disable collecting lookup statistics.
+		 *
+		 * @param enabled whether to collect lookup statistics.
+		 */
+		void setStatisticsEnabled(boolean enabled) {
+			this.statistics = enabled ? new LookupStatistics() : null;
+		}
 
 		/**
 		 * Get or compute a target type given its {@code sourceType}. Returns a cached {@link Optional} if the value
@@ -549,26 +600,32 @@ public class CustomConversions {
 		public @Nullable Class<?> computeIfAbsent(Class<?> sourceType, Class<?> targetType,
 				Function<ConvertiblePair, Class<?>> mappingFunction) {
 
+			LookupStatistics statistics = this.statistics;
+
+			if (statistics != null) {
+				statistics.recordLookup();
+			}
+
 			TargetTypes targetTypes = customReadTargetTypes.get(sourceType);
 
 			if (targetTypes == null) {
+				// avoid computeIfAbsent locking on the hot path
+				targetTypes = customReadTargetTypes.computeIfAbsent(sourceType, TargetTypes::new);
+			}
 
-				synchronized (this) {
+			return targetTypes.computeIfAbsent(targetType, mappingFunction, statistics);
+		}
 
-					TargetTypes customReadTarget = customReadTargetTypes.get(sourceType);
-					if (customReadTarget != null) {
-						targetTypes = customReadTarget;
-					} else {
+		/**
+		 * Return a snapshot of the lookup statistics.
+		 *
+		 * @return the current lookup statistics or empty statistics if statistics are disabled.
+		 */
+		ConversionTargetStatistics getStatistics() {
 
-						Map<Class<?>, TargetTypes> customReadTargetTypes = new HashMap<>(this.customReadTargetTypes);
-						targetTypes = new TargetTypes(sourceType);
-						customReadTargetTypes.put(sourceType, targetTypes);
-						this.customReadTargetTypes = customReadTargetTypes;
-					}
-				}
-			}
+			LookupStatistics statistics = this.statistics;
 
-			return targetTypes.computeIfAbsent(targetType, mappingFunction);
+			return statistics != null ? statistics.snapshot() : new ConversionTargetStatistics(0, 0, 0);
 		}
 
 		/**
@@ -585,7 +642,7 @@ public class CustomConversions {
 	static class TargetTypes {
 
 		private final Class<?> sourceType;
-		private volatile Map<Class<?>, Class<?>> conversionTargets = new HashMap<>();
+		private final Map<Class<?>, Class<?>> conversionTargets = new ConcurrentHashMap<>();
 
 		TargetTypes(Class<?> sourceType) {
 			this.sourceType = sourceType;
@@ -594,7 +651,8 @@ public class CustomConversions {
 		/**
 		 * Get or compute a target type given its {@code targetType}. Returns a cached {@link Optional} if the value
 		 * (present/absent target) was computed once. Otherwise, uses a {@link Function mappingFunction} to determine a
-		 * possibly existing target type.
+		 * possibly existing target type. Concurrent computations for the same {@code targetType} may invoke the
+		 * {@code mappingFunction} more than once, the first computed target is retained.
 		 *
 		 * @param targetType must not be {@literal null}.
 		 * @param mappingFunction must not be {@literal null}.
@@ -602,23 +660,35 @@ public class CustomConversions {
 		 */
 		public @Nullable Class<?> computeIfAbsent(Class<?> targetType,
 				Function<ConvertiblePair, Class<?>> mappingFunction) {
+			return computeIfAbsent(targetType, mappingFunction, null);
+		}
+
+		/**
+		 * Get or compute a target type given its {@code targetType} recording resolutions that are not served from the
+		 * cache in the given {@link LookupStatistics}.
+		 *
+		 * @param targetType must not be {@literal null}.
+		 * @param mappingFunction must not be {@literal null}.
+		 * @param statistics the statistics to record resolutions in, can be {@literal null}.
+		 * @return the optional target type.
+		 */
+		@Nullable Class<?> computeIfAbsent(Class<?> targetType, Function<ConvertiblePair, Class<?>> mappingFunction,
+				@Nullable LookupStatistics statistics) {
 
 			Class<?> optionalTarget = conversionTargets.get(targetType);
 
 			if (optionalTarget == null) {
 
-				synchronized (this) {
+				Class<?> conversionTarget = mappingFunction.apply(new ConvertiblePair(sourceType, targetType));
+				optionalTarget = conversionTarget == null ? Void.class : conversionTarget;
 
-					Class<?> conversionTarget = conversionTargets.get(targetType);
-					if (conversionTarget != null) {
-						optionalTarget = conversionTarget;
-					} else {
+				if (statistics != null) {
+					statistics.recordResolution(conversionTarget != null);
+				}
 
-						optionalTarget = mappingFunction.apply(new ConvertiblePair(sourceType, targetType));
-						Map<Class<?>, Class<?>> conversionTargets = new HashMap<>(this.conversionTargets);
-						conversionTargets.put(targetType, optionalTarget == null ? Void.class : optionalTarget);
-						this.conversionTargets = conversionTargets;
-					}
+				Class<?> existing = conversionTargets.putIfAbsent(targetType, optionalTarget);
+				if (existing != null) {
+					optionalTarget = existing;
 				}
 			}
 
@@ -626,6 +696,62 @@ public class CustomConversions {
 		}
 	}
 
+	/**
+	 * Counters of custom conversion target lookups.
+	 */
+	static class LookupStatistics {
+
+		private final LongAdder lookups = new LongAdder();
+		private final LongAdder resolutions = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+
+		/**
+		 * Record a target lookup.
+		 */
+		void recordLookup() {
+			lookups.increment();
+		}
+
+		/**
+		 * Record a lookup that was not served from the cache.
+		 *
+		 * @param found whether the resolution found a custom conversion target.
+		 */
+		void recordResolution(boolean found) {
+
+			resolutions.increment();
+
+			if (!found) {
+				misses.increment();
+			}
+		}
+
+		ConversionTargetStatistics snapshot() {
+			return new ConversionTargetStatistics(lookups.sum(), resolutions.sum(), misses.sum());
+		}
+	}
+
+	/**
+	 * Statistics of custom conversion target lookups.
+	 *
+	 * @param lookupCount the number of target lookups.
+	 * @param resolutionCount the number of lookups that were not served from the cache and required inspecting the
+	 *          registered converters.
+	 * @param missCount the number of resolutions that did not find a custom conversion target. Lookups served from the
+	 *          cache are not counted as misses.
+	 * @since 4.2
+	 */
+	public record ConversionTargetStatistics(long lookupCount, long resolutionCount, long missCount) {
+
+		/**
+		 * @return the ratio of resolutions that did not find a custom conversion target or {@code 0.0} if no resolutions
+		 *         were recorded.
+		 */
+		public double missRate() {
+			return resolutionCount == 0 ? 0.0 : (double) missCount / resolutionCount;
+		}
+	}
+
 	/**
 	 * Value class tying together a {@link ConverterRegistration} and its {@link ConverterOrigin origin} to allow
 	 * fine-grained registration based on store supported types.
@@ -15,6 +15,12 @@
  */
 package org.springframework.data.convert;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.mapping.InstanceCreatorMetadata;
@@ -25,14 +31,19 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.SimpleAssociationHandler;
 import org.springframework.data.mapping.SimplePropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
-import org.springframework.data.mapping.model.EntityInstantiator;
 import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.EntityMaterializationPlan;
 import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.lang.Contract;
 import org.springframework.util.Assert;
 
 /**
  * Spring {@link Converter} to create instances of the given DTO type from the source value handed into the conversion.
+ * <p>
+ * The converter computes a copy plan per source type on first use. The plan resolves the source properties backing
+ * creator arguments and the remaining DTO properties once so that converting a source object only instantiates the DTO
+ * through its {@link EntityMaterializationPlan} and copies the remaining values in a single
+ * {@link PersistentPropertyAccessor#setProperties(PersistentProperty[], Object[]) bulk operation}.
  *
  * @author Mark Paluch
  * @author Oliver Drotbohm
@@ -43,7 +54,9 @@ public class DtoInstantiatingConverter implements Converter<Object, Object> {
 
 	private final Class<?> targetType;
 	private final MappingContext<? extends PersistentEntity<?, ?>, ? extends PersistentProperty<?>> context;
-	private final EntityInstantiator instantiator;
+	private final PersistentEntity<?, ? extends PersistentProperty<?>> targetEntity;
+	private final EntityMaterializationPlan<?, ?> materializationPlan;
+	private final Map<Class<?>, CopyPlan> copyPlans = new ConcurrentHashMap<>();
 
 	/**
 	 * Create a new {@link Converter} to instantiate DTOs.
@@ -52,6 +65,7 @@ public class DtoInstantiatingConverter implements Converter<Object, Object> {
 	 * @param context must not be {@literal null}.
 	 * @param instantiators must not be {@literal null}.
 	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public DtoInstantiatingConverter(Class<?> dtoType,
 			MappingContext<? extends PersistentEntity<?, ?>, ? extends PersistentProperty<?>> context,
 			EntityInstantiators instantiators) {
@@ -62,7 +76,8 @@ public class DtoInstantiatingConverter implements Converter<Object, Object> {
 
 		this.targetType = dtoType;
 		this.context = context;
-		this.instantiator = instantiators.getInstantiatorFor(context.getRequiredPersistentEntity(dtoType));
+		this.targetEntity = context.getRequiredPersistentEntity(dtoType);
+		this.materializationPlan = instantiators.getMaterializationPlan((PersistentEntity) targetEntity);
 	}
 
 	@Override
@@ -73,49 +88,152 @@ public class DtoInstantiatingConverter implements Converter<Object, Object> {
 			return source;
 		}
 
-		PersistentEntity<?, ? extends PersistentProperty<?>> sourceEntity = context
-				.getRequiredPersistentEntity(source.getClass());
-		PersistentPropertyAccessor<Object> sourceAccessor = sourceEntity.getPropertyAccessor(source);
-		PersistentEntity<?, ? extends PersistentProperty<?>> targetEntity = context.getRequiredPersistentEntity(targetType);
+		return getCopyPlan(source.getClass()).copy(source);
+	}
 
-		@SuppressWarnings({ "rawtypes", "unchecked" })
-		Object dto = instantiator.createInstance(targetEntity, new ParameterValueProvider() {
+	private CopyPlan getCopyPlan(Class<?> sourceType) {
 
-			@Override
-			@SuppressWarnings({ "rawtypes" })
-			public @Nullable Object getParameterValue(Parameter parameter) {
+		CopyPlan plan = copyPlans.get(sourceType);
 
-				String name = parameter.getName();
+		if (plan == null) {
+			// avoid computeIfAbsent locking on the hot path
+			plan = copyPlans.computeIfAbsent(sourceType,
+					it -> CopyPlan.of(context.getRequiredPersistentEntity(it), targetEntity, materializationPlan));
+		}
+
+		return plan;
+	}
 
-				if (name == null) {
-					throw new IllegalArgumentException(String.format("Parameter %s does not have a name", parameter));
+	/**
+	 * Plan to copy a source object into a new DTO instance. Holds the source properties backing DTO creator arguments and
+	 * the pairs of source and DTO properties to copy after instantiating the DTO.
+	 */
+	private static final class CopyPlan {
+
+		private final PersistentEntity<?, ? extends PersistentProperty<?>> sourceEntity;
+		private final PersistentEntity<?, ? extends PersistentProperty<?>> targetEntity;
+		private final EntityMaterializationPlan<?, ?> materializationPlan;
+		private final Map<Parameter<?, ?>, PersistentProperty<?>> parameterSources;
+		private final PersistentProperty<?>[] sourceProperties;
+		private final PersistentProperty<?>[] targetProperties;
+
+		private CopyPlan(PersistentEntity<?, ? extends PersistentProperty<?>> sourceEntity,
+				PersistentEntity<?, ? extends PersistentProperty<?>> targetEntity,
+				EntityMaterializationPlan<?, ?> materializationPlan,
+				Map<Parameter<?, ?>, PersistentProperty<?>> parameterSources, PersistentProperty<?>[] sourceProperties,
+				PersistentProperty<?>[] targetProperties) {
+
+			this.sourceEntity = sourceEntity;
+			this.targetEntity = targetEntity;
+			this.materializationPlan = materializationPlan;
+			this.parameterSources = parameterSources;
+			this.sourceProperties = sourceProperties;
+			this.targetProperties = targetProperties;
+		}
+
+		/**
+		 * Create a {@link CopyPlan} to copy instances of {@code sourceEntity} into {@code targetEntity}.
+		 *
+		 * @param sourceEntity must not be {@literal null}.
+		 * @param targetEntity must not be {@literal null}.
+		 * @param materializationPlan the materialization plan of {@code targetEntity}.
+		 * @return a new {@link CopyPlan}.
+		 */
+		static CopyPlan of(PersistentEntity<?, ? extends PersistentProperty<?>> sourceEntity,
+				PersistentEntity<?, ? extends PersistentProperty<?>> targetEntity,
+				EntityMaterializationPlan<?, ?> materializationPlan) {
+
+			InstanceCreatorMetadata<? extends PersistentProperty<?>> creator = targetEntity.getInstanceCreatorMetadata();
+			Map<Parameter<?, ?>, PersistentProperty<?>> parameterSources = new HashMap<>();
+
+			if (creator != null) {
+
+				for (Parameter<?, ?> parameter : creator.getParameters()) {
+
+					String name = parameter.getName();
+
+					if (name == null) {
+						throw new IllegalArgumentException(String.format("Parameter %s does not have a name", parameter));
+					}
+
+					if (!parameter.isTransient()) {
+						parameterSources.put(parameter, sourceEntity.getRequiredPersistentProperty(name));
+					}
 				}
+			}
 
-				if (parameter.isTransient()) {
-					return ParameterValueProvider.getDefaultValue(parameter.getRawType());
+			List<PersistentProperty<?>> sourceProperties = new ArrayList<>();
+			List<PersistentProperty<?>> targetProperties = new ArrayList<>();
+
+			SimplePropertyHandler simplePropertyHandler = property -> {
+
+				if ((creator != null) && creator.isCreatorParameter(property)) {
+					return;
 				}
 
-				return sourceAccessor.getProperty(sourceEntity.getRequiredPersistentProperty(name));
+				sourceProperties.add(sourceEntity.getRequiredPersistentProperty(property.getName()));
+				targetProperties.add(property);
+			};
+
+			targetEntity.doWithProperties(simplePropertyHandler);
+			targetEntity.doWithAssociations(
+					(SimpleAssociationHandler) property -> simplePropertyHandler.doWithPersistentProperty(property.getInverse()));
+
+			return new CopyPlan(sourceEntity, targetEntity, materializationPlan, parameterSources,
+					sourceProperties.toArray(new PersistentProperty<?>[0]),
+					targetProperties.toArray(new PersistentProperty<?>[0]));
+		}
+
+		/**
+		 * Create a new DTO instance from {@code source}.
+		 *
+		 * @param source the source object.
+		 * @return the new DTO instance.
+		 */
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		Object copy(Object source) {
+
+			PersistentPropertyAccessor<Object> sourceAccessor = sourceEntity.getPropertyAccessor(source);
+			ParameterValueProvider provider = new SourceParameterValueProvider(sourceAccessor);
+			Object dto = materializationPlan.createInstance(provider);
+
+			if (targetProperties.length == 0) {
+				return dto;
 			}
-		});
 
-		PersistentPropertyAccessor<Object> targetAccessor = targetEntity.getPropertyAccessor(dto);
-		InstanceCreatorMetadata<? extends PersistentProperty<?>> creator = targetEntity.getInstanceCreatorMetadata();
+			PersistentPropertyAccessor<Object> targetAccessor = targetEntity.getPropertyAccessor(dto);
+			@Nullable Object[] values = new Object[targetProperties.length];
 
-		SimplePropertyHandler simplePropertyHandler = property -> {
+			for (int i = 0; i < targetProperties.length; i++) {
+				values[i] = sourceAccessor.getProperty(sourceProperties[i]);
+			}
 
-			if ((creator != null) && creator.isCreatorParameter(property)) {
-				return;
+			targetAccessor.setProperties(targetProperties, values);
+
+			return targetAccessor.getBean();
+		}
+
+		/**
+		 * {@link ParameterValueProvider} reading DTO creator arguments from the source property of the same name. Transient
+		 * parameters resolve to their default value.
+		 */
+		@SuppressWarnings("rawtypes")
+		private final class SourceParameterValueProvider implements ParameterValueProvider {
+
+			private final PersistentPropertyAccessor<Object> sourceAccessor;
+
+			SourceParameterValueProvider(PersistentPropertyAccessor<Object> sourceAccessor) {
+				this.sourceAccessor = sourceAccessor;
 			}
 
-			targetAccessor.setProperty(property,
-					sourceAccessor.getProperty(sourceEntity.getRequiredPersistentProperty(property.getName())));
-		};
+			@Override
+			public @Nullable Object getParameterValue(Parameter parameter) {
 
-		targetEntity.doWithProperties(simplePropertyHandler);
-		targetEntity.doWithAssociations(
-				(SimpleAssociationHandler) property -> simplePropertyHandler.doWithPersistentProperty(property.getInverse()));
+				PersistentProperty<?> property = parameterSources.get(parameter);
 
-		return dto;
+				return property != null ? sourceAccessor.getProperty(property)
+						: ParameterValueProvider.getDefaultValue(parameter.getRawType());
+			}
+		}
 	}
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.core;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.data.util.CacheStatistics;
+import org.springframework.data.util.ClassLoaderScopedCache;
+
+/**
+ * Bounded cache for {@link PropertyPath} instances parsed through {@link PropertyPath#from(String, TypeInformation)}.
+ * Parsed paths are cached per {@link ClassLoader} of the owning type, strongly referenced and evicted in
+ * least-recently-used order once the cache exceeds its capacity so that frequently used paths are retained under memory
+ * pressure. Paths cached for a class loader that is discarded must be released through {@link #clear(ClassLoader)}.
+ * <p>
+ * The capacity per class loader defaults to {@value #DEFAULT_CACHE_SIZE} entries and can be configured through the
+ * {@value #CACHE_SIZE_PROPERTY} system property or {@link SpringProperties}. A capacity of {@code 0} disables caching.
+ *
+ * @since 4.2
+ * @see ClassLoaderScopedCache
+ */
+public final class PropertyPathCache {
+
+	/**
+	 * System property to configure the maximum number of cached property paths.
+	 */
+	public static final String CACHE_SIZE_PROPERTY = "spring.data.property-path.cache-size";
+
+	/**
+	 * Default number of cached property paths.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private static final ClassLoaderScopedCache<CacheKey, SimplePropertyPath> cache = new ClassLoaderScopedCache<>(
+			ClassLoaderScopedCache.getConfiguredCapacity(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE),
+			key -> SimplePropertyPath.parse(key.path(), key.type()));
+
+	private PropertyPathCache() {}
+
+	/**
+	 * Return a snapshot of the cache statistics.
+	 *
+	 * @return the current cache statistics.
+	 */
+	public static CacheStatistics getStatistics() {
+		return cache.getStatistics();
+	}
+
+	/**
+	 * Remove all cached property paths and reset the cache statistics.
+	 */
+	public static void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * Remove all property paths cached for types loaded by the given {@link ClassLoader}.
+	 *
+	 * @param classLoader the class loader to remove cached property paths for.
+	 */
+	public static void clear(@Nullable ClassLoader classLoader) {
+		cache.clear(classLoader);
+	}
+
+	static SimplePropertyPath get(String source, TypeInformation<?> type) {
+		return cache.get(type.getType().getClassLoader(), new CacheKey(type, source));
+	}
+
+	private record CacheKey(TypeInformation<?> type, String path) {
+
+	}
+}
@@ -20,16 +20,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Stack;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 /**
@@ -46,11 +43,6 @@ class SimplePropertyPath implements PropertyPath {
 	private static final String PARSE_DEPTH_EXCEEDED = "Trying to parse a path with depth greater than 1000; This has been disabled for security reasons to prevent parsing overflows";
 	private static final int MAX_PARSE_DEPTH = 1000;
 
-	private static final String DELIMITERS = "_\\.";
-	private static final Pattern SPLITTER = Pattern.compile("(?:[%s]?([%s]*?[^%s]+))".replaceAll("%s", DELIMITERS));
-	private static final Pattern SPLITTER_FOR_QUOTED = Pattern.compile("(?:[%s]?([%s]*?[^%s]+))".replaceAll("%s", "\\."));
-	private static final Pattern NESTED_PROPERTY_PATTERN = Pattern.compile("\\p{Lu}[\\p{Ll}\\p{Nd}]*$");
-	private static final Map<Property, SimplePropertyPath> cache = new ConcurrentReferenceHashMap<>();
 
 	private final TypeInformation<?> owningType;
 	private final String name;
@@ -188,13 +180,11 @@ class SimplePropertyPath implements PropertyPath {
 
 	/**
 	 * Extracts the {@link SimplePropertyPath} chain from the given source {@link String} and {@link TypeInformation}.
-	 * <br />
-	 * Uses {@link #SPLITTER} by default and {@link #SPLITTER_FOR_QUOTED} for {@link Pattern#quote(String) quoted}
-	 * literals.
 	 * <p>
 	 * Separate parts of the path may be separated by {@code "."} or by {@code "_"} or by camel case. When the match to
 	 * properties is ambiguous longer property names are preferred. So for "userAddressCity" the interpretation
-	 * "userAddress.city" is preferred over "user.address.city".
+	 * "userAddress.city" is preferred over "user.address.city". {@link Pattern#quote(String) Quoted} paths are split by
+	 * {@code "."} only.
 	 * </p>
 	 *
 	 * @param source a String denoting the property path, must not be {@literal null}.
@@ -207,13 +197,12 @@ class SimplePropertyPath implements PropertyPath {
 
 	/**
 	 * Extracts the {@link SimplePropertyPath} chain from the given source {@link String} and {@link TypeInformation}.
-	 * <br />
-	 * Uses {@link #SPLITTER} by default and {@link #SPLITTER_FOR_QUOTED} for {@link Pattern#quote(String) quoted}
-	 * literals.
+	 * Parsed paths are cached in {@link PropertyPathCache}.
 	 * <p>
 	 * Separate parts of the path may be separated by {@code "."} or by {@code "_"} or by camel case. When the match to
 	 * properties is ambiguous longer property names are preferred. So for "userAddressCity" the interpretation
-	 * "userAddress.city" is preferred over "user.address.city".
+	 * "userAddress.city" is preferred over "user.address.city". {@link Pattern#quote(String) Quoted} paths are split by
+	 * {@code "."} only.
 	 * </p>
 	 *
 	 * @param source a String denoting the property path, must not be {@literal null}.
@@ -225,46 +214,144 @@ class SimplePropertyPath implements PropertyPath {
 		Assert.hasText(source, "Source must not be null or empty");
 		Assert.notNull(type, "TypeInformation must not be null or empty");
 
-		return cache.computeIfAbsent(new Property(type, source), it -> {
-
-			List<String> iteratorSource = new ArrayList<>();
+		return PropertyPathCache.get(source, type);
+	}
 
-			Matcher matcher = isQuoted(it.path) ? SPLITTER_FOR_QUOTED.matcher(it.path.replace("\\Q", "").replace("\\E", ""))
-					: SPLITTER.matcher("_" + it.path);
+	/**
+	 * Parse the given source into a {@link SimplePropertyPath} chain bypassing the cache.
+	 *
+	 * @param source a String denoting the property path, must not be {@literal null}.
+	 * @param type the owning type of the property path, must not be {@literal null}.
+	 * @return a new {@link SimplePropertyPath} guaranteed to be not {@literal null}.
+	 */
+	static SimplePropertyPath parse(String source, TypeInformation<?> type) {
 
-			while (matcher.find()) {
+		SimplePropertyPath result = null;
+		Stack<SimplePropertyPath> current = new Stack<>();
 
-				iteratorSource.add(matcher.group(1));
-				if(iteratorSource.size() > MAX_PARSE_DEPTH) {
-					throw new IllegalArgumentException(PARSE_DEPTH_EXCEEDED);
-				}
+		for (String part : tokenize(source)) {
+			if (result == null) {
+				result = create(part, type, current);
+				current.push(result);
+			} else {
+				current.push(create(part, current));
 			}
+		}
 
-			Iterator<String> parts = iteratorSource.iterator();
+		if (result == null) {
+			throw new IllegalStateException(
+					String.format("Expected parsing to yield a PropertyPath from %s but got null", source));
+		}
 
-			SimplePropertyPath result = null;
-			Stack<SimplePropertyPath> current = new Stack<>();
+		return result;
+	}
 
-			while (parts.hasNext()) {
-				if (result == null) {
-					result = create(parts.next(), it.type, current);
-					current.push(result);
-				} else {
-					current.push(create(parts.next(), current));
-				}
+	/**
+	 * Split the given source into its parts. Parts are separated by a single {@code "."} or {@code "_"} delimiter
+	 * (respectively {@code "."} only for {@link Pattern#quote(String) quoted} sources). Additional delimiters directly
+	 * following a delimiter are retained as prefix of the next part, trailing delimiters are dropped.
+	 *
+	 * @param source the source to split.
+	 * @return the parts of the path.
+	 */
+	static List<String> tokenize(String source) {
+
+		boolean quoted = isQuoted(source);
+		String path = quoted ? source.replace("\\Q", "").replace("\\E", "") : source;
+		List<String> parts = new ArrayList<>(4);
+
+		int length = path.length();
+		int position = 0;
+
+		// unquoted paths start with an implicit delimiter
+		boolean skipDelimiter = quoted;
+
+		while (position < length) {
+
+			int start = skipDelimiter && isDelimiter(path.charAt(position), quoted) ? position + 1 : position;
+			int end = start;
+
+			while (end < length && isDelimiter(path.charAt(end), quoted)) {
+				end++;
 			}
 
-			if (result == null) {
-				throw new IllegalStateException(
-						String.format("Expected parsing to yield a PropertyPath from %s but got null", source));
+			if (end == length) {
+				break;
+			}
+
+			while (end < length && !isDelimiter(path.charAt(end), quoted)) {
+				end++;
+			}
+
+			parts.add(path.substring(start, end));
+
+			if (parts.size() > MAX_PARSE_DEPTH) {
+				throw new IllegalArgumentException(PARSE_DEPTH_EXCEEDED);
 			}
 
-			return result;
-		});
+			position = end;
+			skipDelimiter = true;
+		}
+
+		return parts;
 	}
 
+	private static boolean isDelimiter(char c, boolean quoted) {
+		return c == '.' || (!quoted && c == '_');
+	}
+
+	/**
+	 * Returns whether the source is enclosed in {@code \Q} and {@code \E}.
+	 *
+	 * @param source
+	 * @return
+	 */
 	private static boolean isQuoted(String source) {
-		return source.matches("^\\\\Q.*\\\\E$");
+
+		if (source.length() < 4 || !source.startsWith("\\Q") || !source.endsWith("\\E")) {
+			return false;
+		}
+
+		for (int i = 2; i < source.length() - 2; i++) {
+
+			char c = source.charAt(i);
+
+			if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the index of the trailing camel-case part of the given source, i.e. the position of the last upper case
+	 * letter that is followed by lower case letters or digits only.
+	 *
+	 * @param source
+	 * @return the start index of the trailing camel-case part or {@literal -1} if the source does not end with a
+	 *         camel-case part.
+	 */
+	static int findNestedPropertyStart(String source) {
+
+		int index = source.length();
+
+		while (index > 0) {
+
+			int codePoint = source.codePointBefore(index);
+			int type = Character.getType(codePoint);
+			index -= Character.charCount(codePoint);
+
+			if (type == Character.UPPERCASE_LETTER) {
+				return index;
+			}
+
+			if (type != Character.LOWERCASE_LETTER && type != Character.DECIMAL_DIGIT_NUMBER) {
+				return -1;
+			}
+		}
+
+		return -1;
 	}
 
 	/**
@@ -343,11 +430,10 @@ class SimplePropertyPath implements PropertyPath {
 			exception = e;
 		}
 
-		Matcher matcher = NESTED_PROPERTY_PATTERN.matcher(source);
+		int position = findNestedPropertyStart(source);
 
-		if (matcher.find() && matcher.start() != 0) {
+		if (position > 0) {
 
-			int position = matcher.start();
 			String head = source.substring(0, position);
 			String tail = source.substring(position);
 
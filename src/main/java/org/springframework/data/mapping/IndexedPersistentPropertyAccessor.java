@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link PersistentPropertyAccessor} that additionally provides positional access to properties by their
+ * {@link PersistentEntity#getPropertySlot(PersistentProperty) slot}. Positional access does not require resolving a
+ * property by its name which allows store converters to read and write rows positionally.
+ * <p>
+ * Accessors generated by {@link org.springframework.data.mapping.model.ClassGeneratingPropertyAccessorFactory}
+ * implement this interface directly. Other accessors can be adapted through
+ * {@link #of(PersistentEntity, PersistentPropertyAccessor)}.
+ *
+ * @since 4.2
+ * @see PersistentEntity#getPropertySlot(PersistentProperty)
+ */
+public interface IndexedPersistentPropertyAccessor<T> extends PersistentPropertyAccessor<T> {
+
+	/**
+	 * Sets the property in the given slot to the given value.
+	 *
+	 * @param slot the property slot.
+	 * @param value can be {@literal null}.
+	 * @throws MappingException in case an exception occurred when setting the property value.
+	 * @throws UnsupportedOperationException if the slot is not assigned or the property cannot be set.
+	 */
+	void setProperty(int slot, @Nullable Object value);
+
+	/**
+	 * Sets the properties in the given slots to the values at the same index of {@code values}. The default
+	 * implementation sets each slot individually.
+	 *
+	 * @param slots must not be {@literal null}.
+	 * @param values must not be {@literal null} and must have the same length as {@code slots}.
+	 * @throws MappingException in case an exception occurred when setting a property value.
+	 * @throws UnsupportedOperationException if a slot is not assigned or the property cannot be set.
+	 * @see #setProperties(PersistentProperty[], Object[])
+	 */
+	default void setProperties(int[] slots, @Nullable Object[] values) {
+
+		Assert.notNull(slots, "Slots must not be null");
+		Assert.notNull(values, "Values must not be null");
+		Assert.isTrue(slots.length == values.length, "Number of slots must match the number of values");
+
+		for (int i = 0; i < slots.length; i++) {
+			setProperty(slots[i], values[i]);
+		}
+	}
+
+	/**
+	 * Returns the value of the property in the given slot.
+	 *
+	 * @param slot the property slot.
+	 * @return can be {@literal null}.
+	 * @throws UnsupportedOperationException if the slot is not assigned or the property cannot be read.
+	 */
+	@Nullable
+	Object getProperty(int slot);
+
+	/**
+	 * Return an {@link IndexedPersistentPropertyAccessor} for the given {@link PersistentPropertyAccessor}. Returns the
+	 * given accessor if it already implements {@link IndexedPersistentPropertyAccessor} or an adapter resolving slots
+	 * through the given {@link PersistentEntity}.
+	 *
+	 * @param entity the entity owning the properties, must not be {@literal null}.
+	 * @param accessor the accessor to adapt, must not be {@literal null}.
+	 * @return the {@link IndexedPersistentPropertyAccessor}.
+	 */
+	static <T> IndexedPersistentPropertyAccessor<T> of(PersistentEntity<?, ?> entity,
+			PersistentPropertyAccessor<T> accessor) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(accessor, "PersistentPropertyAccessor must not be null");
+
+		return accessor instanceof IndexedPersistentPropertyAccessor<T> indexed ? indexed
+				: new SlotResolvingPropertyAccessor<>(entity, accessor);
+	}
+
+	/**
+	 * Adapter resolving slots to properties of the owning {@link PersistentEntity}.
+	 */
+	record SlotResolvingPropertyAccessor<T>(PersistentEntity<?, ?> entity,
+			PersistentPropertyAccessor<T> delegate) implements IndexedPersistentPropertyAccessor<T> {
+
+		@Override
+		public void setProperty(int slot, @Nullable Object value) {
+			delegate.setProperty(getRequiredProperty(slot), value);
+		}
+
+		@Override
+		public void setProperties(int[] slots, @Nullable Object[] values) {
+
+			Assert.notNull(slots, "Slots must not be null");
+
+			PersistentProperty<?>[] properties = new PersistentProperty<?>[slots.length];
+
+			for (int i = 0; i < slots.length; i++) {
+				properties[i] = getRequiredProperty(slots[i]);
+			}
+
+			delegate.setProperties(properties, values);
+		}
+
+		@Override
+		public @Nullable Object getProperty(int slot) {
+			return delegate.getProperty(getRequiredProperty(slot));
+		}
+
+		@Override
+		public void setProperty(PersistentProperty<?> property, @Nullable Object value) {
+			delegate.setProperty(property, value);
+		}
+
+		@Override
+		public void setProperties(PersistentProperty<?>[] properties, @Nullable Object[] values) {
+			delegate.setProperties(properties, values);
+		}
+
+		@Override
+		public @Nullable Object getProperty(PersistentProperty<?> property) {
+			return delegate.getProperty(property);
+		}
+
+		@Override
+		public T getBean() {
+			return delegate.getBean();
+		}
+
+		private PersistentProperty<?> getRequiredProperty(int slot) {
+
+			PersistentProperty<?> property = entity.getPersistentProperty(slot);
+
+			if (property == null) {
+				throw new UnsupportedOperationException(String.format("No property in slot %s of %s", slot, entity));
+			}
+
+			return property;
+		}
+	}
+}
@@ -164,6 +164,34 @@ public interface PersistentEntity<T, P extends PersistentProperty<P>> extends It
 		throw new IllegalStateException(String.format("Required property %s not found for %s", name, getType()));
 	}
 
+	/**
+	 * Returns the slot of the given {@link PersistentProperty}. Slots are dense, zero-based positions assigned to all
+	 * persistent properties including association properties that remain stable for the lifetime of this entity. Slots
+	 * allow positional property access through {@link IndexedPersistentPropertyAccessor}. Implementations should assign
+	 * slots in a reproducible order (such as ordered by property name) so that entities created for the same type in
+	 * different mapping contexts assign identical slots.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the slot of the property or {@code -1} if the property is not a persistent property of this entity or this
+	 *         entity does not assign slots.
+	 * @since 4.2
+	 */
+	default int getPropertySlot(PersistentProperty<?> property) {
+		return -1;
+	}
+
+	/**
+	 * Returns the {@link PersistentProperty} assigned to the given slot.
+	 *
+	 * @param slot the property slot.
+	 * @return the {@link PersistentProperty} or {@literal null} if no property is assigned to the slot.
+	 * @since 4.2
+	 * @see #getPropertySlot(PersistentProperty)
+	 */
+	default @Nullable P getPersistentProperty(int slot) {
+		return null;
+	}
+
 	/**
 	 * Returns the first property equipped with an {@link Annotation} of the given type.
 	 *
@@ -18,6 +18,7 @@ package org.springframework.data.mapping;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.util.Assert;
 
 /**
  * Domain service to allow accessing and setting {@link PersistentProperty}s of an entity. Usually obtained through
@@ -46,6 +47,29 @@ public interface PersistentPropertyAccessor<T> {
 	 */
 	void setProperty(PersistentProperty<?> property, @Nullable Object value);
 
+	/**
+	 * Sets the given {@link PersistentProperty properties} to the values at the same index of {@code values}. Store
+	 * converters populating a whole row at once should prefer this method over individual
+	 * {@link #setProperty(PersistentProperty, Object)} calls as implementations can apply all values in a single pass,
+	 * e.g. create a new instance of an immutable type only once instead of once per property. The default implementation
+	 * sets each property individually.
+	 *
+	 * @param properties must not be {@literal null}.
+	 * @param values must not be {@literal null} and must have the same length as {@code properties}.
+	 * @throws MappingException in case an exception occurred when setting a property value.
+	 * @since 4.2
+	 */
+	default void setProperties(PersistentProperty<?>[] properties, @Nullable Object[] values) {
+
+		Assert.notNull(properties, "PersistentProperties must not be null");
+		Assert.notNull(values, "Values must not be null");
+		Assert.isTrue(properties.length == values.length, "Number of properties must match the number of values");
+
+		for (int i = 0; i < properties.length; i++) {
+			setProperty(properties[i], values[i]);
+		}
+	}
+
 	/**
 	 * Returns the value of the given {@link PersistentProperty} of the underlying bean instance.
 	 *
@@ -19,15 +19,23 @@ import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -46,10 +54,13 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.NativeDetector;
 import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.data.core.CustomCollections;
 import org.springframework.data.core.NullableWrapperConverters;
 import org.springframework.data.core.PropertyPath;
@@ -82,7 +93,17 @@ import org.springframework.util.ReflectionUtils.FieldFilter;
  * {@link PersistentProperty}.
  * <p>
  * The implementation uses a {@link ReentrantReadWriteLock} to make sure {@link PersistentEntity} are completely
- * populated before accessing them from outside.
+ * populated before accessing them from outside. Once the outermost write operation has completed, the entities it
+ * created are published to a concurrent lookup table that serves subsequent lookups without acquiring any lock. The
+ * write lock is only taken for types that have not been seen before.
+ * <p>
+ * Contexts that do not expect new entity types after startup can be {@link #freeze() frozen} to serve lookups from a
+ * compact, read-only table and precomputed {@link PersistentPropertyPath}s.
+ * <p>
+ * {@link #initialize() Initialization} of the managed types can be performed concurrently by configuring an
+ * {@link #setInitializationExecutor(Executor) initialization executor}. Initialization is reported as
+ * {@code spring.data.mapping-context.initialize} {@link StartupStep} through the configured
+ * {@link ApplicationStartup}.
  *
  * @param <E> the concrete {@link PersistentEntity} type the {@link MappingContext} implementation creates
  * @param <P> the concrete {@link PersistentProperty} type the {@link MappingContext} implementation creates
@@ -98,22 +119,27 @@ import org.springframework.util.ReflectionUtils.FieldFilter;
  */
 public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?, P>, P extends PersistentProperty<P>>
 		implements MappingContext<E, P>, ApplicationEventPublisherAware, ApplicationContextAware, BeanFactoryAware,
-		EnvironmentAware, InitializingBean {
+		EnvironmentAware, ApplicationStartupAware, InitializingBean {
 
 	private static final Log LOGGER = LogFactory.getLog(MappingContext.class);
 
 	private final Optional<E> NONE = Optional.empty();
 	private final Map<TypeInformation<?>, Optional<E>> persistentEntities = new HashMap<>();
+	private final Map<TypeInformation<?>, Optional<E>> publishedEntities = new ConcurrentHashMap<>();
+	private final List<TypeInformation<?>> pendingPublication = new ArrayList<>();
 	private final PersistentPropertyAccessorFactory persistentPropertyAccessorFactory;
 	private final PersistentPropertyPathFactory<E, P> persistentPropertyPathFactory;
 
 	private @Nullable ApplicationEventPublisher applicationEventPublisher;
 	private EvaluationContextProvider evaluationContextProvider = EvaluationContextProvider.DEFAULT;
 	private @Nullable Environment environment;
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
 
 	private ManagedTypes managedTypes = ManagedTypes.empty();
+	private @Nullable Executor initializationExecutor;
 
 	private boolean strict = false;
+	private volatile @Nullable Map<TypeInformation<?>, Optional<E>> frozenEntities;
 	private SimpleTypeHolder simpleTypeHolder = SimpleTypeHolder.DEFAULT;
 
 	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
@@ -181,6 +207,18 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 		this.environment = environment;
 	}
 
+	/**
+	 * @param applicationStartup the {@link ApplicationStartup} to report initialization steps to.
+	 * @since 4.2
+	 */
+	@Override
+	public void setApplicationStartup(ApplicationStartup applicationStartup) {
+
+		Assert.notNull(applicationStartup, "ApplicationStartup must not be null");
+
+		this.applicationStartup = applicationStartup;
+	}
+
 	/**
 	 * Sets the {@link Set} of types to populate the context initially.
 	 *
@@ -201,6 +239,23 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 		this.managedTypes = managedTypes;
 	}
 
+	/**
+	 * Configures the {@link Executor} to build the {@link PersistentEntity} instances for the
+	 * {@link #setManagedTypes(ManagedTypes) managed types} concurrently during {@link #initialize()}. Typically a
+	 * {@link java.util.concurrent.ForkJoinPool} or a virtual thread executor. Defaults to {@literal null} to initialize
+	 * managed types sequentially.
+	 * <p>
+	 * Concurrent initialization requires {@link #createPersistentEntity(TypeInformation)} and
+	 * {@link #createPersistentProperty(Property, MutablePersistentEntity, SimpleTypeHolder)} to be thread-safe. Entities
+	 * are only published to the context once all managed types have been initialized successfully.
+	 *
+	 * @param initializationExecutor can be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setInitializationExecutor(@Nullable Executor initializationExecutor) {
+		this.initializationExecutor = initializationExecutor;
+	}
+
 	/**
 	 * Configures whether the {@link MappingContext} is in strict mode which means, that it will throw
 	 * {@link MappingException}s in case one tries to lookup a {@link PersistentEntity} not already in the context. This
@@ -255,6 +310,12 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 
 		TypeInformation<?> typeInformation = TypeInformation.of(type);
 
+		Optional<E> published = getPublishedEntity(typeInformation);
+
+		if (published != null) {
+			return published.isPresent();
+		}
+
 		try {
 
 			read.lock();
@@ -289,6 +350,12 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 
 		Assert.notNull(type, "Type must not be null");
 
+		Optional<E> published = getPublishedEntity(type);
+
+		if (published != null) {
+			return published.orElse(null);
+		}
+
 		try {
 
 			read.lock();
@@ -307,9 +374,9 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 
 			try {
 				write.lock();
-				persistentEntities.put(type, NONE);
+				cache(type, NONE);
 			} finally {
-				write.unlock();
+				releaseWriteLock();
 			}
 
 			return null;
@@ -319,6 +386,10 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 			throw new MappingException("Unknown persistent entity " + type);
 		}
 
+		if (isFrozen() && LOGGER.isWarnEnabled()) {
+			LOGGER.warn(String.format("Adding unknown persistent entity %s to frozen MappingContext", type));
+		}
+
 		return addPersistentEntity(type).orElse(null);
 	}
 
@@ -396,6 +467,12 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 
 		Assert.notNull(typeInformation, "TypeInformation must not be null");
 
+		Optional<E> published = getPublishedEntity(typeInformation);
+
+		if (published != null) {
+			return published;
+		}
+
 		try {
 
 			read.lock();
@@ -419,7 +496,7 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 			Optional<E> userTypeEntity = persistentEntities.get(typeInformation.getUserTypeInformation());
 
 			if (userTypeEntity != null) {
-				persistentEntities.put(typeInformation, userTypeEntity);
+				cache(typeInformation, userTypeEntity);
 				return userTypeEntity;
 			}
 
@@ -429,7 +506,7 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 			throw new MappingException(
 					"Cannot create PersistentEntity for '%s'".formatted(typeInformation.getType().getName()), e);
 		} finally {
-			write.unlock();
+			releaseWriteLock();
 		}
 
 		// Inform listeners
@@ -446,49 +523,133 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 
 		try {
 
-			Class<?> type = userTypeInformation.getType();
-
-			E entity = createPersistentEntity(userTypeInformation);
-			entity.setEvaluationContextProvider(evaluationContextProvider);
-			if (environment != null) {
-				entity.setEnvironment(environment);
-			}
+			E entity = instantiatePersistentEntity(userTypeInformation);
 
 			// Eagerly cache the entity as we might have to find it during recursive lookups.
-			persistentEntities.put(userTypeInformation, Optional.of(entity));
+			cache(userTypeInformation, Optional.of(entity));
 
 			// Cache original TypeInformation as well.
 			if (!userTypeInformation.equals(typeInformation)) {
-				persistentEntities.put(typeInformation, Optional.of(entity));
+				cache(typeInformation, Optional.of(entity));
 			}
 
-			if (shouldCreateProperties(userTypeInformation)) {
-				PropertyDescriptor[] pds = BeanUtils.getPropertyDescriptors(type);
-				Map<String, PropertyDescriptor> descriptors = new HashMap<>(pds.length);
+			populatePersistentEntity(entity, this::addPersistentEntity);
 
-				for (PropertyDescriptor descriptor : pds) {
-					descriptors.put(descriptor.getName(), descriptor);
-				}
+			return entity;
+
+		} catch (RuntimeException e) {
+
+			persistentEntities.remove(userTypeInformation);
+			persistentEntities.remove(typeInformation);
+
+			throw e;
+		}
+	}
+
+	private E instantiatePersistentEntity(TypeInformation<?> userTypeInformation) {
+
+		E entity = createPersistentEntity(userTypeInformation);
+		entity.setEvaluationContextProvider(evaluationContextProvider);
+		if (environment != null) {
+			entity.setEnvironment(environment);
+		}
+
+		return entity;
+	}
+
+	/**
+	 * Creates the properties of the given entity and verifies it.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param nestedEntityTypes callback for types of properties that should be added as {@link PersistentEntity} as well.
+	 */
+	private void populatePersistentEntity(E entity, Consumer<TypeInformation<?>> nestedEntityTypes) {
+
+		TypeInformation<?> userTypeInformation = entity.getTypeInformation();
+
+		if (shouldCreateProperties(userTypeInformation)) {
+
+			Class<?> type = userTypeInformation.getType();
+			PropertyDescriptor[] pds = BeanUtils.getPropertyDescriptors(type);
+			Map<String, PropertyDescriptor> descriptors = new HashMap<>(pds.length);
 
-				PersistentPropertyCreator persistentPropertyCreator = new PersistentPropertyCreator(entity, descriptors);
-				ReflectionUtils.doWithFields(type, persistentPropertyCreator, PersistentPropertyFilter.INSTANCE);
-				persistentPropertyCreator.addPropertiesForRemainingDescriptors();
+			for (PropertyDescriptor descriptor : pds) {
+				descriptors.put(descriptor.getName(), descriptor);
 			}
 
-			entity.verify();
+			PersistentPropertyCreator persistentPropertyCreator = new PersistentPropertyCreator(entity, descriptors,
+					nestedEntityTypes);
+			ReflectionUtils.doWithFields(type, persistentPropertyCreator, PersistentPropertyFilter.INSTANCE);
+			persistentPropertyCreator.addPropertiesForRemainingDescriptors();
+		}
+
+		entity.verify();
+
+		if (persistentPropertyAccessorFactory.isSupported(entity)) {
+			entity.setPersistentPropertyAccessorFactory(persistentPropertyAccessorFactory);
+		}
+	}
+
+	/**
+	 * Looks up the given type from the frozen table or the lock-free lookup table without acquiring any lock.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the lookup result or {@literal null} if the type has not been published yet.
+	 */
+	private @Nullable Optional<E> getPublishedEntity(TypeInformation<?> type) {
+
+		Map<TypeInformation<?>, Optional<E>> frozenEntities = this.frozenEntities;
+
+		if (frozenEntities != null) {
 
-			if (persistentPropertyAccessorFactory.isSupported(entity)) {
-				entity.setPersistentPropertyAccessorFactory(persistentPropertyAccessorFactory);
+			Optional<E> entity = frozenEntities.get(type);
+
+			if (entity != null) {
+				return entity;
 			}
+		}
 
-			return entity;
+		return publishedEntities.get(type);
+	}
 
-		} catch (RuntimeException e) {
+	/**
+	 * Registers the given entity lookup result for the given type. Must be called while holding the write lock. The
+	 * entry is not visible to lock-free lookups before the outermost write lock is released through
+	 * {@link #releaseWriteLock()}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 */
+	private void cache(TypeInformation<?> type, Optional<E> entity) {
 
-			persistentEntities.remove(userTypeInformation);
-			persistentEntities.remove(typeInformation);
+		persistentEntities.put(type, entity);
+		pendingPublication.add(type);
+	}
 
-			throw e;
+	/**
+	 * Releases the write lock. Releasing the outermost write lock publishes all entries registered during the write
+	 * operation to the lock-free lookup table as all of them are fully initialized at that point. Entries that were
+	 * removed due to initialization failures are not published.
+	 */
+	private void releaseWriteLock() {
+
+		try {
+
+			if (lock.getWriteHoldCount() == 1) {
+
+				for (TypeInformation<?> type : pendingPublication) {
+
+					Optional<E> entity = persistentEntities.get(type);
+
+					if (entity != null) {
+						publishedEntities.put(type, entity);
+					}
+				}
+
+				pendingPublication.clear();
+			}
+		} finally {
+			write.unlock();
 		}
 	}
 
@@ -563,7 +724,175 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 	 * context.
 	 */
 	public void initialize() {
-		managedTypes.forEach(this::addPersistentEntity);
+
+		StartupStep step = applicationStartup.start("spring.data.mapping-context.initialize");
+		Executor executor = this.initializationExecutor;
+
+		step.tag("concurrent", String.valueOf(executor != null));
+
+		try {
+
+			if (executor != null) {
+				initializeConcurrently(executor);
+			} else {
+				managedTypes.forEach(this::addPersistentEntity);
+			}
+		} finally {
+			step.tag("entity.count", () -> String.valueOf(getPersistentEntities().size()));
+			step.end();
+		}
+	}
+
+	/**
+	 * Builds the {@link PersistentEntity} instances for all managed types concurrently using the given {@link Executor}.
+	 * Entities are created outside the write lock and registered in a single write operation once all of them have been
+	 * built successfully. Types of nested properties are added through the regular (sequential) path within the same
+	 * write operation so that entities are only published along with their nested types.
+	 *
+	 * @param executor must not be {@literal null}.
+	 */
+	private void initializeConcurrently(Executor executor) {
+
+		Map<TypeInformation<?>, TypeInformation<?>> userTypes = new LinkedHashMap<>();
+
+		managedTypes.forEach(it -> {
+
+			TypeInformation<?> typeInformation = TypeInformation.of(it);
+			userTypes.putIfAbsent(typeInformation.getUserTypeInformation(), typeInformation);
+		});
+
+		List<CompletableFuture<PreparedEntity<E>>> futures = new ArrayList<>(userTypes.size());
+
+		userTypes.forEach((userType, type) -> {
+
+			if (getPublishedEntity(userType) == null) {
+				futures.add(CompletableFuture.supplyAsync(() -> prepareEntity(userType, type), executor));
+			}
+		});
+
+		List<PreparedEntity<E>> prepared = new ArrayList<>(futures.size());
+
+		for (CompletableFuture<PreparedEntity<E>> future : futures) {
+
+			try {
+				prepared.add(future.join());
+			} catch (CompletionException e) {
+
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+
+				throw e;
+			}
+		}
+
+		List<PreparedEntity<E>> registered = new ArrayList<>(prepared.size());
+
+		try {
+
+			write.lock();
+
+			for (PreparedEntity<E> entity : prepared) {
+
+				if (persistentEntities.containsKey(entity.userType())) {
+					continue;
+				}
+
+				cache(entity.userType(), Optional.of(entity.entity()));
+
+				if (!entity.userType().equals(entity.type())) {
+					cache(entity.type(), Optional.of(entity.entity()));
+				}
+
+				registered.add(entity);
+			}
+
+			// register nested types before releasing the lock publishes the entities
+			for (PreparedEntity<E> entity : prepared) {
+
+				if (!entity.userType().equals(entity.type())) {
+					addPersistentEntity(entity.type());
+				}
+
+				entity.nestedTypes().forEach(this::addPersistentEntity);
+			}
+
+		} catch (RuntimeException e) {
+
+			for (PreparedEntity<E> entity : registered) {
+				persistentEntities.remove(entity.userType());
+				persistentEntities.remove(entity.type());
+			}
+
+			throw e;
+		} finally {
+			releaseWriteLock();
+		}
+
+		if (applicationEventPublisher != null) {
+			for (PreparedEntity<E> entity : registered) {
+				applicationEventPublisher.publishEvent(new MappingContextEvent<>(this, entity.entity()));
+			}
+		}
+	}
+
+	private PreparedEntity<E> prepareEntity(TypeInformation<?> userType, TypeInformation<?> type) {
+
+		try {
+
+			E entity = instantiatePersistentEntity(userType);
+			List<TypeInformation<?>> nestedTypes = new ArrayList<>();
+
+			populatePersistentEntity(entity, nestedTypes::add);
+
+			return new PreparedEntity<>(userType, type, entity, nestedTypes);
+
+		} catch (RuntimeException e) {
+			throw new MappingException("Cannot create PersistentEntity for '%s'".formatted(type.getType().getName()), e);
+		}
+	}
+
+	/**
+	 * Freezes the mapping context. Turns all currently known entities into a compact, read-only lookup table and
+	 * precomputes all {@link PersistentPropertyPath}s reachable from the known entities without traversing associations.
+	 * Steady-state lookups of known types and precomputed paths are served without acquiring any lock or consulting the
+	 * {@link PersistentPropertyPath} cache.
+	 * <p>
+	 * Lookups of types unknown to a frozen context are rejected with a {@link MappingException} in
+	 * {@link #setStrict(boolean) strict mode}. Otherwise, the type is added to the context as usual and a warning is
+	 * logged. Freezing an already frozen context refreshes the read-only table.
+	 *
+	 * @since 4.2
+	 * @see #initialize()
+	 */
+	public void freeze() {
+
+		Collection<E> entities;
+
+		try {
+
+			write.lock();
+
+			this.frozenEntities = Map.copyOf(persistentEntities);
+			entities = persistentEntities.values().stream() //
+					.flatMap(Optionals::toStream) //
+					.collect(Collectors.toSet());
+
+		} finally {
+			releaseWriteLock();
+		}
+
+		persistentPropertyPathFactory.precompute(entities);
+	}
+
+	/**
+	 * Returns whether the mapping context has been {@link #freeze() frozen}.
+	 *
+	 * @return {@literal true} if the context has been frozen.
+	 * @since 4.2
+	 */
+	public boolean isFrozen() {
+		return frozenEntities != null;
 	}
 
 	/**
@@ -598,16 +927,19 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 		private final E entity;
 		private final Map<String, PropertyDescriptor> descriptors;
 		private final Map<String, PropertyDescriptor> remainingDescriptors;
+		private final Consumer<TypeInformation<?>> nestedEntityTypes;
 
-		public PersistentPropertyCreator(E entity, Map<String, PropertyDescriptor> descriptors) {
-			this(entity, descriptors, descriptors);
+		public PersistentPropertyCreator(E entity, Map<String, PropertyDescriptor> descriptors,
+				Consumer<TypeInformation<?>> nestedEntityTypes) {
+			this(entity, descriptors, descriptors, nestedEntityTypes);
 		}
 
 		private PersistentPropertyCreator(E entity, Map<String, PropertyDescriptor> descriptors,
-				Map<String, PropertyDescriptor> remainingDescriptors) {
+				Map<String, PropertyDescriptor> remainingDescriptors, Consumer<TypeInformation<?>> nestedEntityTypes) {
 			this.entity = entity;
 			this.descriptors = descriptors;
 			this.remainingDescriptors = remainingDescriptors;
+			this.nestedEntityTypes = nestedEntityTypes;
 		}
 
 		@Override
@@ -667,7 +999,7 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 			property.getPersistentEntityTypeInformation().forEach(it -> {
 
 				if (shouldCreatePersistentEntityFor(it)) {
-					addPersistentEntity(it);
+					nestedEntityTypes.accept(it);
 				}
 			});
 		}
@@ -751,6 +1083,18 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 		}
 	}
 
+	/**
+	 * A fully initialized {@link PersistentEntity} that has not been registered with the context yet.
+	 *
+	 * @param userType the user type the entity was created for.
+	 * @param type the originally requested type.
+	 * @param entity the entity.
+	 * @param nestedTypes types of nested properties to add to the context once the entity is registered.
+	 */
+	private record PreparedEntity<E>(TypeInformation<?> userType, TypeInformation<?> type, E entity,
+			List<TypeInformation<?>> nestedTypes) {
+	}
+
 	/**
 	 * Filter rejecting static fields as well as artificially introduced ones. See
 	 * {@link PersistentPropertyFilter#UNMAPPED_PROPERTIES} for details.
@@ -54,6 +54,8 @@ class PersistentPropertyPathFactory<E extends PersistentEntity<?, P>, P extends
 	private final ConcurrentLruCache<TypeAndPath, PathResolution> propertyPaths = new ConcurrentLruCache<>(512, it -> createPersistentPropertyPath(it.path(), it.type()));
 	private final MappingContext<E, P> context;
 
+	private volatile Map<TypeAndPath, PathResolution> precomputedPaths = Collections.emptyMap();
+
 	public PersistentPropertyPathFactory(MappingContext<E, P> context) {
 		this.context = context;
 	}
@@ -168,8 +170,38 @@ class PersistentPropertyPathFactory<E extends PersistentEntity<?, P>, P extends
 				from(type, propertyFilter, traversalGuard, DefaultPersistentPropertyPath.empty()));
 	}
 
+	/**
+	 * Precomputes all {@link PersistentPropertyPath}s reachable from the given entities without traversing associations
+	 * into a read-only lookup table that is consulted before the LRU cache. Paths not contained in the table are resolved
+	 * through the LRU cache as usual.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @since 4.2
+	 */
+	void precompute(Collection<E> entities) {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		Map<TypeAndPath, PathResolution> paths = new HashMap<>(this.precomputedPaths);
+
+		for (E entity : entities) {
+
+			TypeInformation<?> type = entity.getTypeInformation();
+
+			for (PersistentPropertyPath<P> path : from(type, it -> true)) {
+				paths.put(TypeAndPath.of(type, path.toDotPath()), PathResolution.resolved(path));
+			}
+		}
+
+		this.precomputedPaths = Map.copyOf(paths);
+	}
+
 	private PersistentPropertyPath<P> getPersistentPropertyPath(TypeInformation<?> type, String propertyPath) {
-		return propertyPaths.get(TypeAndPath.of(type, propertyPath)).getResolvedPath();
+
+		TypeAndPath key = TypeAndPath.of(type, propertyPath);
+		PathResolution resolution = precomputedPaths.get(key);
+
+		return (resolution != null ? resolution : propertyPaths.get(key)).getResolvedPath();
 	}
 
 	/**
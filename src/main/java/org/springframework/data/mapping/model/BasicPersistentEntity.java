@@ -93,6 +93,7 @@ public class BasicPersistentEntity<T, P extends PersistentProperty<P>>
 	private final Lazy<IsNewStrategy> isNewStrategy;
 	private final Lazy<Boolean> isImmutable;
 	private final Lazy<Boolean> requiresPropertyPopulation;
+	private final Lazy<PropertySlots<P>> propertySlots;
 
 	/**
 	 * Creates a new {@link BasicPersistentEntity} from the given {@link TypeInformation}.
@@ -136,6 +137,7 @@ public class BasicPersistentEntity<T, P extends PersistentProperty<P>>
 		this.isImmutable = Lazy.of(() -> isAnnotationPresent(Immutable.class));
 		this.requiresPropertyPopulation = Lazy.of(() -> !isImmutable() && properties.stream() //
 				.anyMatch(it -> !(isCreatorArgument(it) || it.isTransient())));
+		this.propertySlots = Lazy.of(() -> PropertySlots.of(this));
 	}
 
 	@Nullable
@@ -296,6 +298,22 @@ public class BasicPersistentEntity<T, P extends PersistentProperty<P>>
 		return propertyCache.get(name);
 	}
 
+	@Override
+	public int getPropertySlot(PersistentProperty<?> property) {
+
+		Assert.notNull(property, "PersistentProperty must not be null");
+
+		Integer slot = propertySlots.get().slots().get(property);
+		return slot != null ? slot : -1;
+	}
+
+	@Override
+	public @Nullable P getPersistentProperty(int slot) {
+
+		List<P> properties = propertySlots.get().properties();
+		return slot >= 0 && slot < properties.size() ? properties.get(slot) : null;
+	}
+
 	@Override
 	public @Nullable P getTransientProperty(String name) {
 		return transientPropertyCache.get(name);
@@ -609,4 +627,49 @@ public class BasicPersistentEntity<T, P extends PersistentProperty<P>>
 			return delegate.compare(left.getInverse(), right.getInverse());
 		}
 	}
+
+	/**
+	 * Slot assignment of persistent properties. Slots are assigned to all persistent properties including association
+	 * properties ordered by their property name so that the assignment is reproducible for the same type across mapping
+	 * contexts and independent of the order in which properties and associations were registered. Properties sharing the
+	 * same name retain their declaration order.
+	 *
+	 * @since 4.2
+	 */
+	private record PropertySlots<P extends PersistentProperty<P>>(List<P> properties,
+			Map<PersistentProperty<?>, Integer> slots) {
+
+		private static final Comparator<PersistentProperty<?>> SLOT_ORDER = Comparator
+				.comparing(PersistentProperty::getName);
+
+		static <P extends PersistentProperty<P>> PropertySlots<P> of(BasicPersistentEntity<?, P> entity) {
+
+			List<P> candidates = new ArrayList<>(entity.properties);
+
+			for (Association<P> association : entity.associations) {
+				if (!candidates.contains(association.getInverse())) {
+					candidates.add(association.getInverse());
+				}
+			}
+
+			candidates.sort(SLOT_ORDER);
+
+			List<P> properties = new ArrayList<>(candidates.size());
+			Map<PersistentProperty<?>, Integer> slots = new HashMap<>(candidates.size() + 1, 1.0f);
+
+			for (P property : candidates) {
+				add(property, properties, slots);
+			}
+
+			return new PropertySlots<>(List.copyOf(properties), slots);
+		}
+
+		private static <P extends PersistentProperty<P>> void add(P property, List<P> properties,
+				Map<PersistentProperty<?>, Integer> slots) {
+
+			if (slots.putIfAbsent(property, properties.size()) == null) {
+				properties.add(property);
+			}
+		}
+	}
 }
@@ -17,11 +17,17 @@ package org.springframework.data.mapping.model;
 
 import static org.springframework.asm.Opcodes.*;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.Modifier;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.asm.MethodVisitor;
 import org.springframework.asm.Opcodes;
 import org.springframework.asm.Type;
+import org.springframework.cglib.core.ReflectUtils;
+import org.springframework.util.ClassUtils;
 
 /**
  * Utility methods used for ASM-based class generation during runtime.
@@ -248,4 +254,93 @@ abstract class BytecodeUtil {
 			mv.visitInsn(Opcodes.ACONST_NULL);
 		}
 	}
+
+	/**
+	 * Define a generated class in the context of the given {@code contextType}. The class is injected into the class
+	 * loader of the context type so that it can be discovered by its name (e.g. for ahead-of-time processing). If the
+	 * class cannot be injected because a class with the same name has already been defined, the existing class is
+	 * returned. If class loader injection is not possible otherwise, the class is defined as
+	 * {@link Lookup#defineHiddenClass(byte[], boolean, Lookup.ClassOption...) hidden class} using a
+	 * {@link MethodHandles#privateLookupIn(Class, Lookup) private lookup} on the context type. Hidden classes do not
+	 * require class loader injection and can be unloaded once they are no longer referenced.
+	 *
+	 * @param className the binary name of the class to define. Must reside in the package of {@code contextType}.
+	 * @param bytecode the class bytes.
+	 * @param contextType the type whose package and class loader to use.
+	 * @return the defined class.
+	 * @throws Exception if the class cannot be defined.
+	 * @since 4.2
+	 */
+	static Class<?> defineClass(String className, byte[] bytecode, Class<?> contextType) throws Exception {
+
+		ClassLoader classLoader = contextType.getClassLoader();
+
+		if (classLoader != null) {
+			try {
+				return ReflectUtils.defineClass(className, bytecode, classLoader, contextType.getProtectionDomain(),
+						contextType);
+			} catch (Exception | LinkageError ex) {
+
+				// class might have been defined concurrently or by a previous attempt (duplicate class definition)
+				if (ClassUtils.isPresent(className, classLoader)) {
+					return ClassUtils.forName(className, classLoader);
+				}
+
+				if (!isHiddenClassDefinitionAvailable(contextType)) {
+					throw ex;
+				}
+			}
+		}
+
+		return defineHiddenClass(className, bytecode, contextType);
+	}
+
+	/**
+	 * Define a generated class as {@link Lookup#defineHiddenClass(byte[], boolean, Lookup.ClassOption...) hidden class}
+	 * in the context of the given {@code contextType} without attempting class loader injection.
+	 *
+	 * @param className the binary name of the class to define. Must reside in the package of {@code contextType}.
+	 * @param bytecode the class bytes.
+	 * @param contextType the type whose package to use.
+	 * @return the defined class.
+	 * @throws Exception if the class cannot be defined.
+	 * @since 4.2
+	 * @see #isHiddenClassDefinitionAvailable(Class)
+	 */
+	static Class<?> defineHiddenClass(String className, byte[] bytecode, Class<?> contextType) throws Exception {
+
+		Lookup lookup = getPrivateLookup(contextType);
+
+		if (lookup == null) {
+			throw new IllegalStateException("Cannot define %s in the context of %s".formatted(className, contextType));
+		}
+
+		return lookup.defineHiddenClass(bytecode, true).lookupClass();
+	}
+
+	/**
+	 * Check whether a hidden class can be defined in the package of the given {@code contextType}.
+	 *
+	 * @param contextType the type whose package to inspect.
+	 * @return {@literal true} if a hidden class can be defined in the package of the given type.
+	 * @since 4.2
+	 */
+	static boolean isHiddenClassDefinitionAvailable(Class<?> contextType) {
+		return getPrivateLookup(contextType) != null;
+	}
+
+	private static @Nullable Lookup getPrivateLookup(Class<?> contextType) {
+
+		if (contextType.isPrimitive() || contextType.isArray() || contextType.isHidden()) {
+			return null;
+		}
+
+		try {
+
+			Lookup lookup = MethodHandles.privateLookupIn(contextType, MethodHandles.lookup());
+			return (lookup.lookupModes() & Lookup.PACKAGE) != 0 ? lookup : null;
+		} catch (IllegalAccessException | SecurityException ex) {
+			return null;
+		}
+	}
 }
@@ -18,12 +18,14 @@ package org.springframework.data.mapping.model;
 import static org.springframework.asm.Opcodes.*;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -35,7 +37,6 @@ import org.springframework.asm.Opcodes;
 import org.springframework.asm.Type;
 import org.springframework.beans.BeanInstantiationException;
 import org.springframework.beans.BeanUtils;
-import org.springframework.cglib.core.ReflectUtils;
 import org.springframework.core.NativeDetector;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.mapping.FactoryMethod;
@@ -173,9 +174,47 @@ class ClassGeneratingEntityInstantiator implements EntityInstantiator, EntityIns
 	 * @return
 	 */
 	protected EntityInstantiator doCreateEntityInstantiator(PersistentEntity<?, ?> entity) {
+
+		EntityInstantiator precompiled = findPrecompiledEntityInstantiator(entity);
+
+		if (precompiled != null) {
+			return precompiled;
+		}
+
 		return new EntityInstantiatorAdapter(createObjectInstantiator(entity, entity.getInstanceCreatorMetadata()));
 	}
 
+	/**
+	 * Look up an {@link EntityInstantiator} that was generated as source code during ahead-of-time processing.
+	 *
+	 * @param entity
+	 * @return the precompiled {@link EntityInstantiator} or {@literal null} if not present.
+	 * @since 4.2
+	 * @see EntityAccessorSourceGenerator
+	 */
+	private static @Nullable EntityInstantiator findPrecompiledEntityInstantiator(PersistentEntity<?, ?> entity) {
+
+		Class<?> instantiatorClass = org.springframework.data.util.ClassUtils.loadIfPresent(
+				ObjectInstantiatorClassGenerator.generateClassName(entity), entity.getType().getClassLoader());
+
+		if (instantiatorClass == null || !EntityInstantiator.class.isAssignableFrom(instantiatorClass)) {
+			return null;
+		}
+
+		if (!ObjectInstantiatorClassGenerator.hasMatchingCreatorSignature(instantiatorClass, entity)) {
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug(String.format(
+						"Precompiled EntityInstantiator %s does not match the creator of %s; Generating a new instantiator",
+						instantiatorClass.getName(), entity.getName()));
+			}
+
+			return null;
+		}
+
+		return (EntityInstantiator) BeanUtils.instantiateClass(instantiatorClass);
+	}
+
 	/**
 	 * @param entity
 	 * @return
@@ -413,6 +452,8 @@ class ClassGeneratingEntityInstantiator implements EntityInstantiator, EntityIns
 		private static final String JAVA_LANG_OBJECT = Type.getInternalName(Object.class);
 		private static final String CREATE_METHOD_NAME = "newInstance";
 
+		static final String CREATOR_SIGNATURE_FIELD = "CREATOR_SIGNATURE";
+
 		private static final String[] IMPLEMENTED_INTERFACES = new String[] {
 				Type.getInternalName(ObjectInstantiator.class) };
 
@@ -430,24 +471,77 @@ class ClassGeneratingEntityInstantiator implements EntityInstantiator, EntityIns
 			Class<?> type = entity.getType();
 			ClassLoader classLoader = type.getClassLoader();
 
+			Class<?> existing = null;
+
 			if (ClassUtils.isPresent(className, classLoader)) {
 
 				try {
-					return ClassUtils.forName(className, classLoader);
+					existing = ClassUtils.forName(className, classLoader);
 				} catch (Exception o_O) {
 					throw new IllegalStateException(o_O);
 				}
+
+				if (ObjectInstantiator.class.isAssignableFrom(existing) && hasMatchingCreatorSignature(existing, entity)) {
+					return existing;
+				}
 			}
 
 			byte[] bytecode = generateBytecode(className, entity, constructor);
 
 			try {
-				return ReflectUtils.defineClass(className, bytecode, classLoader, type.getProtectionDomain(), type);
+
+				// an existing class for a different creator (e.g. a stale precompiled instantiator) occupies the name
+				return existing != null ? BytecodeUtil.defineHiddenClass(className, bytecode, type)
+						: BytecodeUtil.defineClass(className, bytecode, type);
 			} catch (Exception e) {
 				throw new IllegalStateException(e);
 			}
 		}
 
+		/**
+		 * Return the signature of the creator of the given {@link PersistentEntity} consisting of the creator name
+		 * ({@code <init>} for constructors) and the type and name of each creator parameter in declaration order.
+		 * Instantiator classes record the creator signature they were generated for in their
+		 * {@value #CREATOR_SIGNATURE_FIELD} constant.
+		 *
+		 * @param entity must not be {@literal null}.
+		 * @return the creator signature, empty if the entity does not declare a creator.
+		 */
+		static String getCreatorSignature(PersistentEntity<?, ?> entity) {
+
+			InstanceCreatorMetadata<?> creator = entity.getInstanceCreatorMetadata();
+
+			if (creator == null) {
+				return "";
+			}
+
+			String name = creator instanceof FactoryMethod<?, ?> factoryMethod ? factoryMethod.getFactoryMethod().getName()
+					: INIT;
+			StringJoiner joiner = new StringJoiner(",", name + "(", ")");
+
+			for (Parameter<?, ?> parameter : creator.getParameters()) {
+				joiner.add(parameter.getRawType().getName() + " " + parameter.getName());
+			}
+
+			return joiner.toString();
+		}
+
+		/**
+		 * Check whether the given instantiator class was generated for the creator of the given {@link PersistentEntity}.
+		 * Classes without a {@value #CREATOR_SIGNATURE_FIELD} constant are considered not matching.
+		 */
+		static boolean hasMatchingCreatorSignature(Class<?> instantiatorClass, PersistentEntity<?, ?> entity) {
+
+			try {
+
+				Field field = instantiatorClass.getField(CREATOR_SIGNATURE_FIELD);
+
+				return Modifier.isStatic(field.getModifiers()) && getCreatorSignature(entity).equals(field.get(null));
+			} catch (ReflectiveOperationException o_O) {
+				return false;
+			}
+		}
+
 		/**
 		 * @param entity
 		 * @return
@@ -472,6 +566,9 @@ class ClassGeneratingEntityInstantiator implements EntityInstantiator, EntityIns
 			cw.visit(Opcodes.V1_8, ACC_PUBLIC + ACC_SUPER, internalClassName.replace('.', '/'), null, JAVA_LANG_OBJECT,
 					IMPLEMENTED_INTERFACES);
 
+			cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, CREATOR_SIGNATURE_FIELD,
+					BytecodeUtil.referenceName(String.class), null, getCreatorSignature(entity)).visitEnd();
+
 			visitDefaultConstructor(cw);
 
 			visitCreateMethod(cw, entity, entityCreator);
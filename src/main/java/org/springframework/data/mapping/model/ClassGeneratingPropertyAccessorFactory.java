@@ -21,7 +21,9 @@ import static org.springframework.data.mapping.model.BytecodeUtil.*;
 import kotlin.reflect.KParameter;
 import kotlin.reflect.KParameter.Kind;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
@@ -29,14 +31,12 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.security.ProtectionDomain;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.StringJoiner;
+import java.util.TreeMap;
 import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
@@ -46,9 +46,9 @@ import org.springframework.asm.Label;
 import org.springframework.asm.MethodVisitor;
 import org.springframework.asm.Opcodes;
 import org.springframework.asm.Type;
-import org.springframework.cglib.core.ReflectUtils;
 import org.springframework.core.KotlinDetector;
 import org.springframework.data.core.TypeInformation;
+import org.springframework.data.mapping.IndexedPersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
@@ -66,6 +66,9 @@ import org.springframework.util.StringUtils;
  * A factory that can generate byte code to speed-up dynamic property access. Uses the {@link PersistentEntity}'s
  * {@link PersistentProperty} to discover the access to properties. Properties are accessed either using method handles
  * to overcome Java visibility issues or directly using field access/getter/setter calls.
+ * <p>
+ * Generated accessors implement {@link IndexedPersistentPropertyAccessor} to additionally allow positional property
+ * access by {@link PersistentEntity#getPropertySlot(PersistentProperty) property slot} through a {@code tableswitch}.
  *
  * @author Mark Paluch
  * @author Oliver Gierke
@@ -76,10 +79,10 @@ import org.springframework.util.StringUtils;
  */
 public class ClassGeneratingPropertyAccessorFactory implements PersistentPropertyAccessorFactory {
 
-	// Pooling of parameter arrays to prevent excessive object allocation.
-	private final ThreadLocal<Object[]> argumentCache = ThreadLocal.withInitial(() -> new Object[1]);
+	private static final MethodType ACCESSOR_FACTORY_TYPE = MethodType.methodType(PersistentPropertyAccessor.class,
+			Object.class);
 
-	private volatile Map<PersistentEntity<?, ?>, Constructor<?>> constructorMap = new HashMap<>(32);
+	private volatile Map<PersistentEntity<?, ?>, MethodHandle> constructorMap = new HashMap<>(32);
 	private volatile Map<TypeInformation<?>, Class<PersistentPropertyAccessor<?>>> propertyAccessorClasses = new HashMap<>(
 			32);
 
@@ -89,38 +92,47 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 	@Override
 	public <T> PersistentPropertyAccessor<T> getPropertyAccessor(PersistentEntity<?, ?> entity, T bean) {
 
-		Constructor<?> constructor = getPropertyAccessorConstructor(entity);
-
-		Object[] args = argumentCache.get();
-		args[0] = bean;
+		MethodHandle constructor = getPropertyAccessorConstructor(entity);
 
 		try {
 
-			PersistentPropertyAccessor<T> accessor = (PersistentPropertyAccessor<T>) constructor.newInstance(args);
+			PersistentPropertyAccessor<T> accessor = (PersistentPropertyAccessor<T>) constructor.invokeExact((Object) bean);
 
 			if (KotlinDetector.isKotlinType(entity.getType())) {
 				return new KotlinValueBoxingAdapter<>(entity, accessor, wrapperCache);
 			}
 
 			return accessor;
-		} catch (Exception e) {
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
 			throw new IllegalArgumentException(String.format("Cannot create persistent property accessor for %s", entity), e);
-		} finally {
-			args[0] = null;
 		}
 	}
 
-	private Constructor<?> getPropertyAccessorConstructor(PersistentEntity<?, ?> entity) {
+	/**
+	 * Obtain the accessor factory for the given {@link PersistentEntity}. The factory is a {@link MethodHandle} bound to
+	 * the constructor of the generated accessor class, adapted to {@code (Object)PersistentPropertyAccessor}, so that
+	 * creating an accessor is a plain allocation without argument array pooling or reflective invocation.
+	 */
+	private MethodHandle getPropertyAccessorConstructor(PersistentEntity<?, ?> entity) {
 
-		Constructor<?> constructor = constructorMap.get(entity);
+		MethodHandle constructor = constructorMap.get(entity);
 
 		if (constructor == null) {
 
 			Class<PersistentPropertyAccessor<?>> accessorClass = potentiallyCreateAndRegisterPersistentPropertyAccessorClass(
 					entity);
-			constructor = accessorClass.getConstructors()[0];
 
-			Map<PersistentEntity<?, ?>, Constructor<?>> constructorMap = new HashMap<>(this.constructorMap);
+			try {
+				constructor = MethodHandles.lookup().unreflectConstructor(accessorClass.getConstructors()[0])
+						.asType(ACCESSOR_FACTORY_TYPE);
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(
+						String.format("Cannot access constructor of persistent property accessor for %s", entity), e);
+			}
+
+			Map<PersistentEntity<?, ?>, MethodHandle> constructorMap = new HashMap<>(this.constructorMap);
 			constructorMap.put(entity, constructor);
 			this.constructorMap = constructorMap;
 		}
@@ -132,8 +144,8 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 	 * Checks whether an accessor class can be generated.
 	 *
 	 * @param entity must not be {@literal null}.
-	 * @return {@literal true} if the runtime is equal or greater to Java 1.7, we can access the ClassLoader, the property
-	 *         name hash codes are unique and the type has a class loader we can use to re-inject types.
+	 * @return {@literal true} if the type has a class loader we can use to re-inject types or to define a hidden class in
+	 *         the package of the type.
 	 * @see PersistentPropertyAccessorFactory#isSupported(PersistentEntity)
 	 */
 	@Override
@@ -146,7 +158,8 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			return true;
 		}
 
-		return isClassLoaderDefineClassAvailable(entity) && isTypeInjectable(entity) && hasUniquePropertyHashCodes(entity);
+		return isTypeInjectable(entity)
+				&& (isClassLoaderDefineClassAvailable(entity) || isHiddenClassDefinitionAvailable(entity.getType()));
 	}
 
 	private static boolean isClassLoaderDefineClassAvailable(PersistentEntity<?, ?> entity) {
@@ -168,29 +181,6 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 				&& ClassUtils.isPresent(Assert.class.getName(), type.getClassLoader());
 	}
 
-	private boolean hasUniquePropertyHashCodes(PersistentEntity<?, ?> entity) {
-
-		Set<Integer> hashCodes = new HashSet<>();
-		AtomicInteger propertyCount = new AtomicInteger();
-
-		entity.doWithProperties((SimplePropertyHandler) property -> {
-
-			hashCodes.add(property.getName().hashCode());
-			propertyCount.incrementAndGet();
-		});
-
-		entity.doWithAssociations((SimpleAssociationHandler) association -> {
-
-			if (association.getInverse() != null) {
-
-				hashCodes.add(association.getInverse().getName().hashCode());
-				propertyCount.incrementAndGet();
-			}
-		});
-
-		return hashCodes.size() == propertyCount.get();
-	}
-
 	/**
 	 * @param entity must not be {@literal null}.
 	 */
@@ -249,12 +239,13 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 	 * <li>Runtime must be Java 7 or higher</li>
 	 * <li>The generated accessor decides upon generation whether to use field or property access for particular
 	 * properties. It's not possible to change the access method once the accessor class is generated.</li>
-	 * <li>Property names and their {@link String#hashCode()} must be unique within a {@link PersistentEntity}.</li>
 	 * </ul>
 	 * These constraints apply to retain the performance gains, otherwise the generated code has to decide which method
-	 * (field/property) has to be used. The {@link String#hashCode()} rule originates in dispatching of to the appropriate
-	 * {@link java.lang.invoke.MethodHandle}. This is done by {@code LookupSwitch} which is a O(1) operation but requires
-	 * a constant input. {@link String#hashCode()} may change but since we run in the same VM, no evil should happen.
+	 * (field/property) has to be used. Dispatching to the appropriate {@link java.lang.invoke.MethodHandle} is done by a
+	 * {@code LookupSwitch} over the property name {@link String#hashCode()} which is a O(1) operation but requires a
+	 * constant input. Property names sharing the same hash code are disambiguated by comparing the property name.
+	 * {@link String#hashCode()} may change but since we run in the same VM, no evil should happen. Slot-based access
+	 * ({@link IndexedPersistentPropertyAccessor}) is dispatched through a {@code TableSwitch} over the property slot.
 	 *
 	 * <pre class="code">
 	 * public class PersonWithId_Accessor_zd4wnl implements PersistentPropertyAccessor {
@@ -344,8 +335,10 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		private static final String JAVA_LANG_INVOKE_METHOD_HANDLES_LOOKUP = "java/lang/invoke/MethodHandles$Lookup";
 		private static final String JAVA_LANG_UNSUPPORTED_OPERATION_EXCEPTION = "java/lang/UnsupportedOperationException";
 
+		static final String PROPERTY_SLOTS_FIELD = "PROPERTY_SLOTS";
+
 		private static final String[] IMPLEMENTED_INTERFACES = new String[] {
-				Type.getInternalName(PersistentPropertyAccessor.class) };
+				Type.getInternalName(IndexedPersistentPropertyAccessor.class) };
 
 		/**
 		 * Generate a new class for the given {@link PersistentEntity}.
@@ -356,25 +349,69 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			Class<?> type = entity.getType();
 			ClassLoader classLoader = type.getClassLoader();
 
+			Class<?> existing = null;
+
 			if (ClassUtils.isPresent(className, classLoader)) {
 
 				try {
-					return ClassUtils.forName(className, classLoader);
+					existing = ClassUtils.forName(className, classLoader);
 				} catch (Exception o_O) {
 					throw new IllegalStateException(o_O);
 				}
+
+				if (hasMatchingPropertySlots(existing, entity)) {
+					return existing;
+				}
 			}
 
 			byte[] bytecode = generateBytecode(className.replace('.', '/'), entity);
 
 			try {
 
-				return ReflectUtils.defineClass(className, bytecode, classLoader, type.getProtectionDomain(), type);
+				// an existing class with a different slot layout (e.g. a stale precompiled accessor) occupies the name
+				return existing != null ? BytecodeUtil.defineHiddenClass(className, bytecode, type)
+						: BytecodeUtil.defineClass(className, bytecode, type);
 			} catch (Exception o_O) {
 				throw new IllegalStateException(o_O);
 			}
 		}
 
+		/**
+		 * Return the slot layout of the given {@link PersistentEntity} as comma-separated property names ordered by their
+		 * {@link PersistentEntity#getPropertySlot(PersistentProperty) slot}. Accessor classes record the slot layout they
+		 * were generated for in their {@value #PROPERTY_SLOTS_FIELD} constant.
+		 *
+		 * @param entity must not be {@literal null}.
+		 * @return the slot layout, empty if the entity does not assign slots.
+		 */
+		static String getPropertySlots(PersistentEntity<?, ?> entity) {
+
+			StringJoiner joiner = new StringJoiner(",");
+			PersistentProperty<?> property;
+
+			for (int slot = 0; (property = entity.getPersistentProperty(slot)) != null; slot++) {
+				joiner.add(property.getName());
+			}
+
+			return joiner.toString();
+		}
+
+		/**
+		 * Check whether the given accessor class was generated for the slot layout of the given {@link PersistentEntity}.
+		 * Classes without a {@value #PROPERTY_SLOTS_FIELD} constant are considered not matching.
+		 */
+		static boolean hasMatchingPropertySlots(Class<?> accessorClass, PersistentEntity<?, ?> entity) {
+
+			try {
+
+				Field field = accessorClass.getField(PROPERTY_SLOTS_FIELD);
+
+				return Modifier.isStatic(field.getModifiers()) && getPropertySlots(entity).equals(field.get(null));
+			} catch (ReflectiveOperationException o_O) {
+				return false;
+			}
+		}
+
 		/**
 		 * Generate a new class for the given {@link PersistentEntity}.
 		 */
@@ -383,7 +420,7 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
 
 			String signature = referenceName(JAVA_LANG_OBJECT) + String.format("L%s<%s>;",
-					Type.getInternalName(PersistentPropertyAccessor.class), referenceName(entity.getType()));
+					Type.getInternalName(IndexedPersistentPropertyAccessor.class), referenceName(entity.getType()));
 
 			cw.visit(Opcodes.V1_8, ACC_PUBLIC + ACC_SUPER, internalClassName, signature, JAVA_LANG_OBJECT,
 					IMPLEMENTED_INTERFACES);
@@ -400,6 +437,8 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			visitBeanGetter(entity, internalClassName, cw);
 			visitSetProperty(entity, persistentProperties, internalClassName, cw);
 			visitGetProperty(entity, persistentProperties, internalClassName, cw);
+			visitSetPropertyBySlot(entity, persistentProperties, internalClassName, cw);
+			visitGetPropertyBySlot(entity, persistentProperties, internalClassName, cw);
 
 			cw.visitEnd();
 
@@ -436,6 +475,8 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 					ACC_PRIVATE + ACC_FINAL + ACC_STATIC);
 
 			cw.visitField(ACC_PRIVATE, BEAN_FIELD, getAccessibleTypeReferenceName(entity), null, null).visitEnd();
+			cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, PROPERTY_SLOTS_FIELD, referenceName(JAVA_LANG_STRING), null,
+					getPropertySlots(entity)).visitEnd();
 
 			for (PersistentProperty<?> property : persistentProperties) {
 
@@ -806,7 +847,7 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			visitGetPropertySwitch(entity, persistentProperties, internalClassName, mv);
 
 			mv.visitLabel(l1);
-			visitThrowUnsupportedOperationException(mv, "No accessor to get property %s");
+			visitThrowUnsupportedOperationException(mv, "No accessor to get property %s", () -> mv.visitVarInsn(ALOAD, 1));
 
 			mv.visitLocalVariable(THIS_REF, referenceName(internalClassName), null, l0, l1, 0);
 			mv.visitLocalVariable("property", referenceName(PERSISTENT_PROPERTY),
@@ -822,36 +863,29 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		private static void visitGetPropertySwitch(PersistentEntity<?, ?> entity,
 				List<PersistentProperty<?>> persistentProperties, String internalClassName, MethodVisitor mv) {
 
-			Map<String, PropertyStackAddress> propertyStackMap = createPropertyStackMap(persistentProperties);
-
-			int[] hashes = new int[propertyStackMap.size()];
-			Label[] switchJumpLabels = new Label[propertyStackMap.size()];
-			List<PropertyStackAddress> stackmap = new ArrayList<>(propertyStackMap.values());
-			Collections.sort(stackmap);
+			Label dfltLabel = new Label();
+			Label[] propertyLabels = visitPropertyNameSwitch(persistentProperties, mv, dfltLabel);
 
-			for (int i = 0; i < stackmap.size(); i++) {
+			visitGetPropertyCases(entity, persistentProperties, propertyLabels, internalClassName, mv, dfltLabel);
 
-				PropertyStackAddress propertyStackAddress = stackmap.get(i);
-				hashes[i] = propertyStackAddress.hash;
-				switchJumpLabels[i] = propertyStackAddress.label;
-			}
+			mv.visitLabel(dfltLabel);
+			mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+		}
 
-			Label dfltLabel = new Label();
+		private static void visitGetPropertyCases(PersistentEntity<?, ?> entity,
+				List<PersistentProperty<?>> persistentProperties, @Nullable Label[] propertyLabels, String internalClassName,
+				MethodVisitor mv, Label dfltLabel) {
 
-			mv.visitVarInsn(ALOAD, 1);
-			mv.visitMethodInsn(INVOKEINTERFACE, PERSISTENT_PROPERTY, "getName",
-					String.format("()%s", referenceName(JAVA_LANG_STRING)), true);
-			mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_STRING, "hashCode", "()I", false);
-			mv.visitLookupSwitchInsn(dfltLabel, hashes, switchJumpLabels);
+			for (int i = 0; i < persistentProperties.size(); i++) {
 
-			for (PersistentProperty<?> property : persistentProperties) {
+				PersistentProperty<?> property = persistentProperties.get(i);
+				Label label = propertyLabels[i];
 
-				PropertyStackAddress propertyStackAddress = propertyStackMap.get(property.getName());
-				if (propertyStackAddress == null) {
-					throw new IllegalStateException(
-							"No PropertyStackAddress found for property %s".formatted(property.getName()));
+				if (label == null) {
+					continue;
 				}
-				mv.visitLabel(propertyStackAddress.label);
+
+				mv.visitLabel(label);
 				mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
 
 				if (property.getGetter() != null || property.getField() != null) {
@@ -860,9 +894,6 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 					mv.visitJumpInsn(GOTO, dfltLabel);
 				}
 			}
-
-			mv.visitLabel(dfltLabel);
-			mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
 		}
 
 		/**
@@ -969,7 +1000,7 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			Label l1 = new Label();
 			mv.visitLabel(l1);
 
-			visitThrowUnsupportedOperationException(mv, "No accessor to set property %s");
+			visitThrowUnsupportedOperationException(mv, "No accessor to set property %s", () -> mv.visitVarInsn(ALOAD, 1));
 
 			mv.visitLocalVariable(THIS_REF, referenceName(internalClassName), null, l0, l1, 0);
 			mv.visitLocalVariable("property", "Lorg/springframework/data/mapping/PersistentProperty;",
@@ -986,44 +1017,256 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		private static void visitSetPropertySwitch(PersistentEntity<?, ?> entity,
 				List<PersistentProperty<?>> persistentProperties, String internalClassName, MethodVisitor mv) {
 
-			Map<String, PropertyStackAddress> propertyStackMap = createPropertyStackMap(persistentProperties);
+			Label dfltLabel = new Label();
+			Label[] propertyLabels = visitPropertyNameSwitch(persistentProperties, mv, dfltLabel);
+
+			visitSetPropertyCases(entity, persistentProperties, propertyLabels, internalClassName, mv, dfltLabel);
+
+			mv.visitLabel(dfltLabel);
+			mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+		}
+
+		private static void visitSetPropertyCases(PersistentEntity<?, ?> entity,
+				List<PersistentProperty<?>> persistentProperties, @Nullable Label[] propertyLabels, String internalClassName,
+				MethodVisitor mv, Label dfltLabel) {
+
+			for (int i = 0; i < persistentProperties.size(); i++) {
 
-			int[] hashes = new int[propertyStackMap.size()];
-			Label[] switchJumpLabels = new Label[propertyStackMap.size()];
-			List<PropertyStackAddress> stackmap = new ArrayList<>(propertyStackMap.values());
-			Collections.sort(stackmap);
+				Label label = propertyLabels[i];
 
-			for (int i = 0; i < stackmap.size(); i++) {
-				PropertyStackAddress propertyStackAddress = stackmap.get(i);
-				hashes[i] = propertyStackAddress.hash;
-				switchJumpLabels[i] = propertyStackAddress.label;
+				if (label == null) {
+					continue;
+				}
+
+				mv.visitLabel(label);
+				mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+
+				visitSetProperty0(entity, persistentProperties.get(i), mv, internalClassName,
+						() -> mv.visitJumpInsn(GOTO, dfltLabel));
 			}
+		}
+
+		/**
+		 * Generate the {@link IndexedPersistentPropertyAccessor#getProperty(int)} method.
+		 *
+		 * <pre class="code">
+		 * public Object getProperty(int slot) {
+		 * 	switch (slot) {
+		 * 		case 0:
+		 * 			return this.bean.getId();
+		 * 		case 1:
+		 * 			return this.bean.field;
+		 * 		// …
+		 * 	}
+		 * 	throw new UnsupportedOperationException(
+		 * 			String.format("No accessor to get property in slot %s", new Object[] { slot }));
+		 * }
+		 * </pre>
+		 */
+		private static void visitGetPropertyBySlot(PersistentEntity<?, ?> entity,
+				List<PersistentProperty<?>> persistentProperties, String internalClassName, ClassWriter cw) {
+
+			MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getProperty", "(I)Ljava/lang/Object;", null, null);
+			mv.visitCode();
+
+			Label l0 = new Label();
+			Label l1 = new Label();
+			mv.visitLabel(l0);
 
 			Label dfltLabel = new Label();
+			@Nullable Label @Nullable [] propertyLabels = visitPropertySlotSwitch(entity, persistentProperties, mv, dfltLabel);
 
-			mv.visitVarInsn(ALOAD, 1);
-			mv.visitMethodInsn(INVOKEINTERFACE, PERSISTENT_PROPERTY, "getName",
-					String.format("()%s", referenceName(JAVA_LANG_STRING)), true);
+			if (propertyLabels != null) {
+
+				visitGetPropertyCases(entity, persistentProperties, propertyLabels, internalClassName, mv, dfltLabel);
+
+				mv.visitLabel(dfltLabel);
+				mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+			}
+
+			mv.visitLabel(l1);
+			visitThrowUnsupportedOperationException(mv, "No accessor to get property in slot %s", () -> visitLoadSlot(mv));
+
+			mv.visitLocalVariable(THIS_REF, referenceName(internalClassName), null, l0, l1, 0);
+			mv.visitLocalVariable("slot", "I", null, l0, l1, 1);
+
+			mv.visitMaxs(0, 0);
+			mv.visitEnd();
+		}
+
+		/**
+		 * Generate the {@link IndexedPersistentPropertyAccessor#setProperty(int, Object)} method.
+		 *
+		 * <pre class="code">
+		 * public void setProperty(int slot, Object value) {
+		 * 	switch (slot) {
+		 * 		case 0:
+		 * 			$id_fieldSetter.invoke(this.bean, value);
+		 * 			return;
+		 * 		case 1:
+		 * 			this.bean = this.bean.withName(value);
+		 * 			return;
+		 * 		// …
+		 * 	}
+		 * 	throw new UnsupportedOperationException(
+		 * 			String.format("No accessor to set property in slot %s", new Object[] { slot }));
+		 * }
+		 * </pre>
+		 */
+		private static void visitSetPropertyBySlot(PersistentEntity<?, ?> entity,
+				List<PersistentProperty<?>> persistentProperties, String internalClassName, ClassWriter cw) {
+
+			MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "setProperty", "(ILjava/lang/Object;)V", null, null);
+			mv.visitCode();
+
+			Label l0 = new Label();
+			Label l1 = new Label();
+			mv.visitLabel(l0);
+
+			Label dfltLabel = new Label();
+			@Nullable Label @Nullable [] propertyLabels = visitPropertySlotSwitch(entity, persistentProperties, mv, dfltLabel);
+
+			if (propertyLabels != null) {
+
+				visitSetPropertyCases(entity, persistentProperties, propertyLabels, internalClassName, mv, dfltLabel);
+
+				mv.visitLabel(dfltLabel);
+				mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+			}
+
+			mv.visitLabel(l1);
+			visitThrowUnsupportedOperationException(mv, "No accessor to set property in slot %s", () -> visitLoadSlot(mv));
+
+			mv.visitLocalVariable(THIS_REF, referenceName(internalClassName), null, l0, l1, 0);
+			mv.visitLocalVariable("slot", "I", null, l0, l1, 1);
+			mv.visitLocalVariable("value", referenceName(JAVA_LANG_OBJECT), null, l0, l1, 2);
+
+			mv.visitMaxs(0, 0);
+			mv.visitEnd();
+		}
+
+		/**
+		 * Generate the {@code switch(property.getName().hashCode()) {label: }} dispatch. Properties sharing the same name
+		 * hash code are disambiguated by comparing their names using {@link String#equals(Object)}.
+		 *
+		 * @return jump labels for each property, index-aligned with {@code persistentProperties}.
+		 */
+		private static Label[] visitPropertyNameSwitch(List<PersistentProperty<?>> persistentProperties,
+				MethodVisitor mv, Label dfltLabel) {
+
+			Label[] propertyLabels = new Label[persistentProperties.size()];
+			Map<Integer, List<Integer>> propertiesByHash = new TreeMap<>();
+
+			for (int i = 0; i < persistentProperties.size(); i++) {
+
+				propertyLabels[i] = new Label();
+				propertiesByHash.computeIfAbsent(persistentProperties.get(i).getName().hashCode(), it -> new ArrayList<>(1))
+						.add(i);
+			}
+
+			int[] hashes = new int[propertiesByHash.size()];
+			Label[] switchJumpLabels = new Label[propertiesByHash.size()];
+			int index = 0;
+
+			for (Map.Entry<Integer, List<Integer>> entry : propertiesByHash.entrySet()) {
+
+				List<Integer> candidates = entry.getValue();
+				hashes[index] = entry.getKey();
+				switchJumpLabels[index] = candidates.size() == 1 ? propertyLabels[candidates.get(0)] : new Label();
+				index++;
+			}
+
+			visitLoadPropertyName(mv);
 			mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_STRING, "hashCode", "()I", false);
 			mv.visitLookupSwitchInsn(dfltLabel, hashes, switchJumpLabels);
 
-			for (PersistentProperty<?> property : persistentProperties) {
+			index = 0;
 
-				PropertyStackAddress propertyStackAddress = propertyStackMap.get(property.getName());
+			for (List<Integer> candidates : propertiesByHash.values()) {
 
-				if (propertyStackAddress == null) {
-					throw new IllegalStateException(
-							"No PropertyStackAddress found for property %s".formatted(property.getName()));
+				Label switchJumpLabel = switchJumpLabels[index++];
+
+				if (candidates.size() == 1) {
+					continue;
 				}
 
-				mv.visitLabel(propertyStackAddress.label);
+				// hash collision: if (property.getName().equals("…")) goto property label
+				mv.visitLabel(switchJumpLabel);
 				mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
 
-				visitSetProperty0(entity, property, mv, internalClassName, () -> mv.visitJumpInsn(GOTO, dfltLabel));
+				for (int candidate : candidates) {
+
+					visitLoadPropertyName(mv);
+					mv.visitLdcInsn(persistentProperties.get(candidate).getName());
+					mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_STRING, "equals",
+							String.format("(%s)Z", referenceName(JAVA_LANG_OBJECT)), false);
+					mv.visitJumpInsn(IFNE, propertyLabels[candidate]);
+				}
+
+				mv.visitJumpInsn(GOTO, dfltLabel);
 			}
 
-			mv.visitLabel(dfltLabel);
-			mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+			return propertyLabels;
+		}
+
+		/**
+		 * Generate the {@code switch(slot) {label: }} block using a {@code tableswitch} over all slots assigned to the given
+		 * properties. Unassigned slots jump to the default label.
+		 *
+		 * @return jump labels for each property, index-aligned with {@code persistentProperties} or {@literal null} if no
+		 *         property has a slot assigned and therefore no switch was generated.
+		 */
+		private static @Nullable Label @Nullable [] visitPropertySlotSwitch(PersistentEntity<?, ?> entity,
+				List<PersistentProperty<?>> persistentProperties, MethodVisitor mv, Label dfltLabel) {
+
+			@Nullable Label[] propertyLabels = new Label[persistentProperties.size()];
+			int[] slots = new int[persistentProperties.size()];
+			int maxSlot = -1;
+
+			for (int i = 0; i < persistentProperties.size(); i++) {
+
+				slots[i] = entity.getPropertySlot(persistentProperties.get(i));
+				maxSlot = Math.max(maxSlot, slots[i]);
+			}
+
+			if (maxSlot == -1) {
+				return null;
+			}
+
+			@Nullable Label[] switchJumpLabels = new Label[maxSlot + 1];
+
+			for (int i = 0; i < persistentProperties.size(); i++) {
+
+				if (slots[i] != -1 && switchJumpLabels[slots[i]] == null) {
+					propertyLabels[i] = new Label();
+					switchJumpLabels[slots[i]] = propertyLabels[i];
+				}
+			}
+
+			for (int i = 0; i < switchJumpLabels.length; i++) {
+				if (switchJumpLabels[i] == null) {
+					switchJumpLabels[i] = dfltLabel;
+				}
+			}
+
+			mv.visitVarInsn(ILOAD, 1);
+			mv.visitTableSwitchInsn(0, maxSlot, dfltLabel, switchJumpLabels);
+
+			return propertyLabels;
+		}
+
+		private static void visitLoadPropertyName(MethodVisitor mv) {
+
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitMethodInsn(INVOKEINTERFACE, PERSISTENT_PROPERTY, "getName",
+					String.format("()%s", referenceName(JAVA_LANG_STRING)), true);
+		}
+
+		private static void visitLoadSlot(MethodVisitor mv) {
+
+			// Integer.valueOf(slot)
+			mv.visitVarInsn(ILOAD, 1);
+			mv.visitMethodInsn(INVOKESTATIC, "java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;", false);
 		}
 
 		/**
@@ -1282,7 +1525,8 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 					String.format("(%s%s)V", referenceName(JAVA_LANG_OBJECT), referenceName(JAVA_LANG_STRING)), false);
 		}
 
-		private static void visitThrowUnsupportedOperationException(MethodVisitor mv, String message) {
+		private static void visitThrowUnsupportedOperationException(MethodVisitor mv, String message,
+				Runnable loadArgument) {
 
 			// throw new UnsupportedOperationException(msg)
 			mv.visitTypeInsn(NEW, JAVA_LANG_UNSUPPORTED_OPERATION_EXCEPTION);
@@ -1292,7 +1536,7 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			mv.visitTypeInsn(ANEWARRAY, JAVA_LANG_OBJECT);
 			mv.visitInsn(DUP);
 			mv.visitInsn(ICONST_0);
-			mv.visitVarInsn(ALOAD, 1);
+			loadArgument.run();
 			mv.visitInsn(AASTORE);
 			mv.visitMethodInsn(INVOKESTATIC, JAVA_LANG_STRING, "format",
 					"(Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/String;", false);
@@ -1404,38 +1648,6 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		return invokeOpCode;
 	}
 
-	private static Map<String, PropertyStackAddress> createPropertyStackMap(
-			List<PersistentProperty<?>> persistentProperties) {
-
-		Map<String, PropertyStackAddress> stackmap = new HashMap<>(persistentProperties.size());
-
-		for (PersistentProperty<?> property : persistentProperties) {
-			stackmap.put(property.getName(), new PropertyStackAddress(new Label(), property.getName().hashCode()));
-		}
-		return stackmap;
-	}
-
-	/**
-	 * Stack map address for a particular property.
-	 *
-	 * @author Mark Paluch
-	 */
-	static class PropertyStackAddress implements Comparable<PropertyStackAddress> {
-
-		private final Label label;
-		private final int hash;
-
-		public PropertyStackAddress(Label label, int hash) {
-			this.label = label;
-			this.hash = hash;
-		}
-
-		@Override
-		public int compareTo(PropertyStackAddress o) {
-			return Integer.compare(hash, o.hash);
-		}
-	}
-
 	/**
 	 * @param property the persistent property to inspect.
 	 * @return {@literal true} if object mutation is supported.
@@ -1463,6 +1675,22 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			delegate.setProperty(property, wrapperCache.get(property).apply(value));
 		}
 
+		@Override
+		public void setProperties(PersistentProperty<?>[] properties, @Nullable Object[] values) {
+
+			Assert.notNull(properties, "PersistentProperties must not be null");
+			Assert.notNull(values, "Values must not be null");
+			Assert.isTrue(properties.length == values.length, "Number of properties must match the number of values");
+
+			@Nullable Object[] wrapped = new Object[values.length];
+
+			for (int i = 0; i < values.length; i++) {
+				wrapped[i] = wrapperCache.get(properties[i]).apply(values[i]);
+			}
+
+			delegate.setProperties(properties, wrapped);
+		}
+
 		/**
 		 * Create a wrapper function if the {@link PersistentProperty} uses value classes.
 		 *
@@ -62,6 +62,22 @@ public class ConvertingPropertyAccessor<T> extends SimplePersistentPropertyPathA
 		accessor.setProperty(property, convertIfNecessary(value, property.getType()));
 	}
 
+	@Override
+	public void setProperties(PersistentProperty<?>[] properties, @Nullable Object[] values) {
+
+		Assert.notNull(properties, "PersistentProperties must not be null");
+		Assert.notNull(values, "Values must not be null");
+		Assert.isTrue(properties.length == values.length, "Number of properties must match the number of values");
+
+		@Nullable Object[] converted = new Object[values.length];
+
+		for (int i = 0; i < values.length; i++) {
+			converted[i] = convertIfNecessary(values[i], properties[i].getType());
+		}
+
+		accessor.setProperties(properties, converted);
+	}
+
 	@Override
 	public void setProperty(PersistentPropertyPath<? extends PersistentProperty<?>> path, @Nullable Object value) {
 
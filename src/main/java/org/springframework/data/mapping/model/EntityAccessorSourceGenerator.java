@@ -0,0 +1,581 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import static javax.lang.model.element.Modifier.*;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.KotlinDetector;
+import org.springframework.data.mapping.FactoryMethod;
+import org.springframework.data.mapping.IndexedPersistentPropertyAccessor;
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.SimpleAssociationHandler;
+import org.springframework.data.mapping.SimplePropertyHandler;
+import org.springframework.data.mapping.model.ClassGeneratingEntityInstantiator.ObjectInstantiatorClassGenerator;
+import org.springframework.data.mapping.model.ClassGeneratingPropertyAccessorFactory.PropertyAccessorClassGenerator;
+import org.springframework.javapoet.AnnotationSpec;
+import org.springframework.javapoet.ClassName;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.FieldSpec;
+import org.springframework.javapoet.JavaFile;
+import org.springframework.javapoet.MethodSpec;
+import org.springframework.javapoet.ParameterizedTypeName;
+import org.springframework.javapoet.TypeName;
+import org.springframework.javapoet.TypeSpec;
+import org.springframework.javapoet.TypeVariableName;
+import org.springframework.javapoet.WildcardTypeName;
+import org.springframework.util.Assert;
+
+/**
+ * Generates Java source code for {@link PersistentPropertyAccessor property accessors} and
+ * {@link EntityInstantiator entity instantiators} of a {@link PersistentEntity} during ahead-of-time processing.
+ * <p>
+ * Generated types use the same class names as the classes generated at runtime by
+ * {@link ClassGeneratingPropertyAccessorFactory} and {@link ClassGeneratingEntityInstantiator}. These components load
+ * precompiled implementations if present instead of generating bytecode at runtime. Source generation is only
+ * supported if all members (fields, accessor methods, withers and the creator) are accessible from the package of the
+ * entity type without reflection. Kotlin types are not supported as they require value class boxing and default
+ * argument handling.
+ * <p>
+ * Generated property accessors hard-code {@link PersistentEntity#getPropertySlot(PersistentProperty) property slots}
+ * and record the slot layout they were generated for in a {@code PROPERTY_SLOTS} constant listing property names in
+ * slot order. {@link ClassGeneratingPropertyAccessorFactory} rejects precompiled accessors whose slot layout does not
+ * match the slots assigned by the entity at runtime and generates a new accessor instead. Likewise, generated
+ * instantiators record the creator they were generated for in a {@code CREATOR_SIGNATURE} constant listing the type and
+ * name of each creator parameter and {@link ClassGeneratingEntityInstantiator} rejects precompiled instantiators for a
+ * different creator.
+ *
+ * @since 4.2
+ */
+public abstract class EntityAccessorSourceGenerator {
+
+	private static final ClassName ASSERT = ClassName.get(Assert.class);
+	private static final ClassName PERSISTENT_PROPERTY = ClassName.get(PersistentProperty.class);
+	private static final TypeName PERSISTENT_PROPERTY_WILDCARD = ParameterizedTypeName.get(PERSISTENT_PROPERTY,
+			WildcardTypeName.subtypeOf(Object.class));
+	private static final AnnotationSpec SUPPRESS_WARNINGS = AnnotationSpec.builder(SuppressWarnings.class)
+			.addMember("value", "{ $S, $S }", "unchecked", "rawtypes").build();
+
+	private EntityAccessorSourceGenerator() {}
+
+	/**
+	 * Return the class name of the property accessor for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the class name of the property accessor.
+	 */
+	public static String getPropertyAccessorClassName(PersistentEntity<?, ?> entity) {
+		return PropertyAccessorClassGenerator.generateClassName(entity);
+	}
+
+	/**
+	 * Return the class name of the entity instantiator for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the class name of the entity instantiator.
+	 */
+	public static String getInstantiatorClassName(PersistentEntity<?, ?> entity) {
+		return ObjectInstantiatorClassGenerator.generateClassName(entity);
+	}
+
+	/**
+	 * Check whether a property accessor can be generated as Java source for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return {@literal true} if all properties can be accessed without reflection.
+	 */
+	public static boolean isPropertyAccessorSupported(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+
+		Class<?> type = entity.getType();
+
+		if (!isSupportedType(type)) {
+			return false;
+		}
+
+		String packageName = type.getPackageName();
+
+		for (PersistentProperty<?> property : getPersistentProperties(entity)) {
+			if (!isReadable(property, packageName) || !isWritable(property, packageName)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Check whether an entity instantiator can be generated as Java source for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return {@literal true} if the entity creator can be invoked without reflection.
+	 */
+	public static boolean isInstantiatorSupported(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+
+		Class<?> type = entity.getType();
+		Executable creator = getCreator(entity.getInstanceCreatorMetadata());
+
+		if (!isSupportedType(type) || Modifier.isAbstract(type.getModifiers()) || creator == null) {
+			return false;
+		}
+
+		if (creator instanceof Method method
+				&& (!Modifier.isStatic(method.getModifiers()) || !type.isAssignableFrom(method.getReturnType()))) {
+			return false;
+		}
+
+		String packageName = type.getPackageName();
+
+		if (!isAccessible(creator, packageName)) {
+			return false;
+		}
+
+		for (Class<?> parameterType : creator.getParameterTypes()) {
+			if (!isAccessible(parameterType, packageName)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Generate the {@link IndexedPersistentPropertyAccessor} source for the given {@link PersistentEntity}.
+	 *
+	 * <pre class="code">
+	 * public class Person__Accessor_1a2b3c implements IndexedPersistentPropertyAccessor&lt;Person&gt; {
+	 *
+	 * 	public static final String PROPERTY_SLOTS = "id,name";
+	 *
+	 * 	private Person bean;
+	 *
+	 * 	public void setProperty(PersistentProperty&lt;?&gt; property, Object value) {
+	 * 		Assert.notNull(property, "Property must not be null");
+	 * 		switch (property.getName()) {
+	 * 			case "name":
+	 * 				this.bean.setName((String) value);
+	 * 				return;
+	 * 			case "id":
+	 * 				this.bean = this.bean.withId((Long) value);
+	 * 				return;
+	 * 		}
+	 * 		throw new UnsupportedOperationException(String.format("No accessor to set property %s", property));
+	 * 	}
+	 * 	// …
+	 * }
+	 * </pre>
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the generated {@link JavaFile}.
+	 * @throws IllegalArgumentException if the entity is not {@link #isPropertyAccessorSupported(PersistentEntity)
+	 *           supported}.
+	 */
+	public static JavaFile generatePropertyAccessor(PersistentEntity<?, ?> entity) {
+
+		Assert.isTrue(isPropertyAccessorSupported(entity),
+				() -> "Cannot generate property accessor source for %s".formatted(entity.getType().getName()));
+
+		Class<?> type = entity.getType();
+		ClassName entityType = ClassName.get(type);
+		List<PersistentProperty<?>> properties = getPersistentProperties(entity);
+		String className = getPropertyAccessorClassName(entity);
+
+		FieldSpec propertySlots = FieldSpec
+				.builder(String.class, PropertyAccessorClassGenerator.PROPERTY_SLOTS_FIELD, PUBLIC, STATIC, FINAL) //
+				.initializer("$S", PropertyAccessorClassGenerator.getPropertySlots(entity)) //
+				.build();
+
+		MethodSpec constructor = MethodSpec.constructorBuilder() //
+				.addModifiers(PUBLIC) //
+				.addParameter(entityType, "bean") //
+				.addStatement("$T.notNull(bean, $S)", ASSERT, "Bean must not be null") //
+				.addStatement("this.bean = bean") //
+				.build();
+
+		MethodSpec getBean = MethodSpec.methodBuilder("getBean") //
+				.addAnnotation(Override.class) //
+				.addModifiers(PUBLIC) //
+				.returns(entityType) //
+				.addStatement("return this.bean") //
+				.build();
+
+		MethodSpec.Builder setProperty = MethodSpec.methodBuilder("setProperty") //
+				.addAnnotation(Override.class) //
+				.addModifiers(PUBLIC) //
+				.addParameter(PERSISTENT_PROPERTY_WILDCARD, "property") //
+				.addParameter(Object.class, "value") //
+				.addStatement("$T.notNull(property, $S)", ASSERT, "Property must not be null") //
+				.beginControlFlow("switch (property.getName())");
+
+		MethodSpec.Builder getProperty = MethodSpec.methodBuilder("getProperty") //
+				.addAnnotation(Override.class) //
+				.addModifiers(PUBLIC) //
+				.returns(Object.class) //
+				.addParameter(PERSISTENT_PROPERTY_WILDCARD, "property") //
+				.addStatement("$T.notNull(property, $S)", ASSERT, "Property must not be null") //
+				.beginControlFlow("switch (property.getName())");
+
+		MethodSpec.Builder setPropertyBySlot = MethodSpec.methodBuilder("setProperty") //
+				.addAnnotation(Override.class) //
+				.addModifiers(PUBLIC) //
+				.addParameter(int.class, "slot") //
+				.addParameter(Object.class, "value") //
+				.beginControlFlow("switch (slot)");
+
+		MethodSpec.Builder getPropertyBySlot = MethodSpec.methodBuilder("getProperty") //
+				.addAnnotation(Override.class) //
+				.addModifiers(PUBLIC) //
+				.returns(Object.class) //
+				.addParameter(int.class, "slot") //
+				.beginControlFlow("switch (slot)");
+
+		for (PersistentProperty<?> property : properties) {
+
+			int slot = entity.getPropertySlot(property);
+			CodeBlock read = getReadStatement(property);
+			CodeBlock write = getWriteStatement(entityType, property);
+
+			getProperty.addCode("case $S:\n", property.getName()).addCode(read);
+
+			if (write != null) {
+				setProperty.addCode("case $S:\n", property.getName()).addCode(write);
+			}
+
+			if (slot != -1) {
+
+				getPropertyBySlot.addCode("case $L:\n", slot).addCode(read);
+
+				if (write != null) {
+					setPropertyBySlot.addCode("case $L:\n", slot).addCode(write);
+				}
+			}
+		}
+
+		setProperty.endControlFlow().addStatement("throw new $T($T.format($S, property))",
+				UnsupportedOperationException.class, String.class, "No accessor to set property %s");
+		getProperty.endControlFlow().addStatement("throw new $T($T.format($S, property))",
+				UnsupportedOperationException.class, String.class, "No accessor to get property %s");
+		setPropertyBySlot.endControlFlow().addStatement("throw new $T($T.format($S, slot))",
+				UnsupportedOperationException.class, String.class, "No accessor to set property in slot %s");
+		getPropertyBySlot.endControlFlow().addStatement("throw new $T($T.format($S, slot))",
+				UnsupportedOperationException.class, String.class, "No accessor to get property in slot %s");
+
+		TypeSpec accessor = TypeSpec.classBuilder(getSimpleName(className)) //
+				.addJavadoc("Ahead-of-time generated property accessor for {@link $T}.", entityType) //
+				.addAnnotation(SUPPRESS_WARNINGS) //
+				.addModifiers(PUBLIC) //
+				.addSuperinterface(
+						ParameterizedTypeName.get(ClassName.get(IndexedPersistentPropertyAccessor.class), entityType)) //
+				.addField(propertySlots) //
+				.addField(entityType, "bean", PRIVATE) //
+				.addMethod(constructor) //
+				.addMethod(getBean) //
+				.addMethod(setProperty.build()) //
+				.addMethod(getProperty.build()) //
+				.addMethod(setPropertyBySlot.build()) //
+				.addMethod(getPropertyBySlot.build()) //
+				.build();
+
+		return JavaFile.builder(type.getPackageName(), accessor).skipJavaLangImports(true).build();
+	}
+
+	/**
+	 * Generate the {@link EntityInstantiator} source for the given {@link PersistentEntity}.
+	 *
+	 * <pre class="code">
+	 * public class Person__Instantiator_1a2b3c implements EntityInstantiator {
+	 *
+	 * 	public static final String CREATOR_SIGNATURE = "&lt;init&gt;(java.lang.String name,int age)";
+	 *
+	 * 	public &lt;T, E extends PersistentEntity&lt;? extends T, P&gt;, P extends PersistentProperty&lt;P&gt;&gt; T createInstance(E entity,
+	 * 			ParameterValueProvider&lt;P&gt; provider) {
+	 * 		List&lt;Parameter&lt;Object, P&gt;&gt; parameters = entity.getInstanceCreatorMetadata().getParameters();
+	 * 		Object arg0 = provider.getParameterValue(parameters.get(0));
+	 * 		Object arg1 = provider.getParameterValue(parameters.get(1));
+	 * 		try {
+	 * 			return (T) new Person((String) arg0, arg1 == null ? 0 : (int) arg1);
+	 * 		} catch (Exception ex) {
+	 * 			throw new MappingInstantiationException(entity, Arrays.asList(arg0, arg1), ex);
+	 * 		}
+	 * 	}
+	 * }
+	 * </pre>
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the generated {@link JavaFile}.
+	 * @throws IllegalArgumentException if the entity is not {@link #isInstantiatorSupported(PersistentEntity)
+	 *           supported}.
+	 */
+	public static JavaFile generateInstantiator(PersistentEntity<?, ?> entity) {
+
+		Assert.isTrue(isInstantiatorSupported(entity),
+				() -> "Cannot generate instantiator source for %s".formatted(entity.getType().getName()));
+
+		Class<?> type = entity.getType();
+		ClassName entityType = ClassName.get(type);
+		Executable creator = getCreator(entity.getInstanceCreatorMetadata());
+		String className = getInstantiatorClassName(entity);
+
+		Assert.state(creator != null, "Creator must not be null");
+
+		FieldSpec creatorSignature = FieldSpec
+				.builder(String.class, ObjectInstantiatorClassGenerator.CREATOR_SIGNATURE_FIELD, PUBLIC, STATIC, FINAL) //
+				.initializer("$S", ObjectInstantiatorClassGenerator.getCreatorSignature(entity)) //
+				.build();
+
+		TypeVariableName t = TypeVariableName.get("T");
+		TypeVariableName p = TypeVariableName.get("P",
+				ParameterizedTypeName.get(PERSISTENT_PROPERTY, TypeVariableName.get("P")));
+		TypeVariableName e = TypeVariableName.get("E",
+				ParameterizedTypeName.get(ClassName.get(PersistentEntity.class), WildcardTypeName.subtypeOf(t), p));
+
+		MethodSpec.Builder createInstance = MethodSpec.methodBuilder("createInstance") //
+				.addAnnotation(Override.class) //
+				.addModifiers(PUBLIC) //
+				.addTypeVariable(t) //
+				.addTypeVariable(e) //
+				.addTypeVariable(p) //
+				.returns(t) //
+				.addParameter(e, "entity") //
+				.addParameter(ParameterizedTypeName.get(ClassName.get(ParameterValueProvider.class), p), "provider");
+
+		Class<?>[] parameterTypes = creator.getParameterTypes();
+		CodeBlock.Builder arguments = CodeBlock.builder();
+		CodeBlock.Builder argumentNames = CodeBlock.builder();
+
+		if (parameterTypes.length > 0) {
+			createInstance.addStatement("$T parameters = entity.getInstanceCreatorMetadata().getParameters()",
+					ParameterizedTypeName.get(ClassName.get(List.class),
+							ParameterizedTypeName.get(ClassName.get(Parameter.class), TypeName.OBJECT, p)));
+		}
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+
+			String argument = "arg" + i;
+			createInstance.addStatement("$T $L = provider.getParameterValue(parameters.get($L))", Object.class, argument, i);
+
+			if (i > 0) {
+				arguments.add(", ");
+				argumentNames.add(", ");
+			}
+
+			arguments.add(getCastExpression(parameterTypes[i], argument));
+			argumentNames.add("$L", argument);
+		}
+
+		createInstance.beginControlFlow("try");
+
+		if (creator instanceof Method method) {
+			createInstance.addStatement("return (T) $T.$L($L)", method.getDeclaringClass(), method.getName(),
+					arguments.build());
+		} else {
+			createInstance.addStatement("return (T) new $T($L)", entityType, arguments.build());
+		}
+
+		createInstance.nextControlFlow("catch ($T ex)", Exception.class) //
+				.addStatement("throw new $T(entity, $T.asList(new $T[] { $L }), ex)", MappingInstantiationException.class,
+						Arrays.class, Object.class, argumentNames.build()) //
+				.endControlFlow();
+
+		TypeSpec instantiator = TypeSpec.classBuilder(getSimpleName(className)) //
+				.addJavadoc("Ahead-of-time generated entity instantiator for {@link $T}.", entityType) //
+				.addAnnotation(SUPPRESS_WARNINGS) //
+				.addModifiers(PUBLIC) //
+				.addSuperinterface(EntityInstantiator.class) //
+				.addField(creatorSignature) //
+				.addMethod(createInstance.build()) //
+				.build();
+
+		return JavaFile.builder(type.getPackageName(), instantiator).skipJavaLangImports(true).build();
+	}
+
+	private static CodeBlock getReadStatement(PersistentProperty<?> property) {
+
+		Method getter = property.getGetter();
+
+		if (property.usePropertyAccess() && getter != null) {
+			return CodeBlock.builder().addStatement("return this.bean.$L()", getter.getName()).build();
+		}
+
+		return CodeBlock.builder().addStatement("return this.bean.$L", property.getRequiredField().getName()).build();
+	}
+
+	private static @Nullable CodeBlock getWriteStatement(ClassName entityType, PersistentProperty<?> property) {
+
+		CodeBlock.Builder builder = CodeBlock.builder();
+		Method setter = property.getSetter();
+		Method wither = property.getWither();
+
+		if (property.isImmutable()) {
+
+			if (wither == null) {
+				return null;
+			}
+
+			builder.addStatement("this.bean = ($T) this.bean.$L($L)", entityType, wither.getName(),
+					getCastExpression(wither.getParameterTypes()[0], "value"));
+		} else if (property.usePropertyAccess() && setter != null) {
+			builder.addStatement("this.bean.$L($L)", setter.getName(),
+					getCastExpression(setter.getParameterTypes()[0], "value"));
+		} else {
+
+			Field field = property.getRequiredField();
+			builder.addStatement("this.bean.$L = $L", field.getName(), getCastExpression(field.getType(), "value"));
+		}
+
+		return builder.addStatement("return").build();
+	}
+
+	/**
+	 * Cast {@code variable} to {@code type}. Primitive types are defaulted if the value is {@literal null}.
+	 */
+	private static CodeBlock getCastExpression(Class<?> type, String variable) {
+
+		if (!type.isPrimitive()) {
+			return type == Object.class ? CodeBlock.of("$L", variable) : CodeBlock.of("($T) $L", type, variable);
+		}
+
+		CodeBlock defaultValue = type == boolean.class ? CodeBlock.of("false") : CodeBlock.of("($T) 0", type);
+
+		return CodeBlock.of("$L == null ? $L : ($T) $L", variable, defaultValue, type, variable);
+	}
+
+	private static boolean isReadable(PersistentProperty<?> property, String packageName) {
+
+		Method getter = property.getGetter();
+
+		if (property.usePropertyAccess() && getter != null) {
+			return getter.getParameterCount() == 0 && isAccessible(getter, packageName);
+		}
+
+		Field field = property.getField();
+		return field != null && isAccessible(field, packageName);
+	}
+
+	private static boolean isWritable(PersistentProperty<?> property, String packageName) {
+
+		Method setter = property.getSetter();
+		Method wither = property.getWither();
+
+		if (property.isImmutable()) {
+			return wither == null || (isAccessible(wither, packageName)
+					&& isAccessible(wither.getParameterTypes()[0], packageName));
+		}
+
+		if (property.usePropertyAccess() && setter != null) {
+			return isAccessible(setter, packageName) && isAccessible(setter.getParameterTypes()[0], packageName);
+		}
+
+		Field field = property.getField();
+		return field != null && !Modifier.isFinal(field.getModifiers()) && isAccessible(field, packageName)
+				&& isAccessible(field.getType(), packageName);
+	}
+
+	private static boolean isSupportedType(Class<?> type) {
+
+		return !type.isInterface() && !type.isArray() && !type.isPrimitive() && !type.isHidden()
+				&& !type.getPackageName().isEmpty() && !KotlinDetector.isKotlinType(type)
+				&& !(type.isMemberClass() && !Modifier.isStatic(type.getModifiers())) && type.getTypeParameters().length == 0
+				&& isAccessible(type, type.getPackageName());
+	}
+
+	private static boolean isAccessible(Member member, String packageName) {
+
+		int modifiers = member.getModifiers();
+		Class<?> declaringClass = member.getDeclaringClass();
+
+		if (Modifier.isPrivate(modifiers) || member.isSynthetic() || !isAccessible(declaringClass, packageName)) {
+			return false;
+		}
+
+		return Modifier.isPublic(modifiers) || declaringClass.getPackageName().equals(packageName);
+	}
+
+	private static boolean isAccessible(Class<?> type, String packageName) {
+
+		if (type.isPrimitive()) {
+			return true;
+		}
+
+		if (type.isArray()) {
+			return isAccessible(type.getComponentType(), packageName);
+		}
+
+		if (type.getCanonicalName() == null || type.isHidden()) {
+			return false;
+		}
+
+		for (Class<?> current = type; current != null; current = current.getDeclaringClass()) {
+
+			int modifiers = current.getModifiers();
+
+			if (Modifier.isPrivate(modifiers)
+					|| (!Modifier.isPublic(modifiers) && !current.getPackageName().equals(packageName))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static @Nullable Executable getCreator(@Nullable InstanceCreatorMetadata<?> metadata) {
+
+		if (metadata instanceof PreferredConstructor<?, ?> constructor) {
+			return constructor.getConstructor();
+		}
+
+		if (metadata instanceof FactoryMethod<?, ?> factoryMethod) {
+			return factoryMethod.getFactoryMethod();
+		}
+
+		return null;
+	}
+
+	private static List<PersistentProperty<?>> getPersistentProperties(PersistentEntity<?, ?> entity) {
+
+		List<PersistentProperty<?>> persistentProperties = new ArrayList<>();
+
+		entity.doWithAssociations((SimpleAssociationHandler) association -> {
+			persistentProperties.add(association.getInverse());
+		});
+
+		entity.doWithProperties((SimplePropertyHandler) persistentProperties::add);
+
+		return persistentProperties;
+	}
+
+	private static String getSimpleName(String className) {
+		return className.substring(className.lastIndexOf('.') + 1);
+	}
+}
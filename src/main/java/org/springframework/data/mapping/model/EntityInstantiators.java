@@ -17,8 +17,10 @@ package org.springframework.data.mapping.model;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.util.Assert;
 
 /**
@@ -35,6 +37,7 @@ public class EntityInstantiators implements EntityInstantiatorSource {
 
 	private final EntityInstantiator fallback;
 	private final Map<Class<?>, EntityInstantiator> customInstantiators;
+	private final Map<PersistentEntity<?, ?>, EntityMaterializationPlan<?, ?>> materializationPlans = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link EntityInstantiators} using the default fallback instantiator and no custom ones.
@@ -97,4 +100,30 @@ public class EntityInstantiators implements EntityInstantiatorSource {
 		EntityInstantiator instantiator = customInstantiators.get(entity.getType());
 		return instantiator == null ? fallback : instantiator;
 	}
+
+	/**
+	 * Returns the {@link EntityMaterializationPlan} for the given {@link PersistentEntity} using the
+	 * {@link #getInstantiatorFor(PersistentEntity) EntityInstantiator} for the entity. Plans are computed once per entity
+	 * and cached.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 4.2
+	 */
+	@SuppressWarnings("unchecked")
+	public <T, P extends PersistentProperty<P>> EntityMaterializationPlan<T, P> getMaterializationPlan(
+			PersistentEntity<T, P> entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		// avoid computeIfAbsent locking on the hot path
+		EntityMaterializationPlan<?, ?> plan = materializationPlans.get(entity);
+
+		if (plan == null) {
+			plan = materializationPlans.computeIfAbsent(entity,
+					it -> EntityMaterializationPlan.of(entity, getInstantiatorFor(entity)));
+		}
+
+		return (EntityMaterializationPlan<T, P>) plan;
+	}
 }
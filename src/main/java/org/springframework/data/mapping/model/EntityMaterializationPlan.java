@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.util.Assert;
+
+/**
+ * Materialization plan for a {@link PersistentEntity} that is computed once and captures how to create and populate an
+ * entity instance from a row of values provided by a {@link PropertyValueProvider}. The plan resolves creator
+ * parameters to their {@link PersistentProperty properties} (or to the parent object respectively the default value of
+ * transient parameters) and collects the properties to be set after creating the instance into a flat array so that
+ * reading a row requires neither property lookups by name nor iteration over the entity metadata.
+ * <p>
+ * Post-construction properties consist of all persistent properties that are not creator arguments and that can be set
+ * through a {@link PersistentPropertyAccessor}. Associations are not considered and must be handled by the caller.
+ * Creator parameters using value expressions are not evaluated by
+ * {@link #createInstance(PropertyValueProvider, Object)}; use {@link #createInstance(ParameterValueProvider)} along with
+ * a {@link ValueExpressionParameterValueProvider} instead.
+ * <p>
+ * Plans are typically obtained from {@link EntityInstantiators#getMaterializationPlan(PersistentEntity)} that caches
+ * plans per entity.
+ *
+ * @since 4.2
+ * @param <T> the entity type.
+ * @param <P> the persistent property type.
+ */
+public class EntityMaterializationPlan<T, P extends PersistentProperty<P>> {
+
+	private final PersistentEntity<T, P> entity;
+	private final EntityInstantiator instantiator;
+	private final ParameterBinding<P>[] bindings;
+	private final PersistentProperty<?>[] properties;
+
+	@SuppressWarnings("unchecked")
+	private EntityMaterializationPlan(PersistentEntity<T, P> entity, EntityInstantiator instantiator) {
+
+		this.entity = entity;
+		this.instantiator = instantiator;
+
+		InstanceCreatorMetadata<P> creator = entity.getInstanceCreatorMetadata();
+		List<ParameterBinding<P>> bindings = new ArrayList<>(creator != null ? creator.getParameterCount() : 0);
+
+		if (creator != null) {
+			for (Parameter<Object, P> parameter : creator.getParameters()) {
+				bindings.add(ParameterBinding.of(entity, creator, parameter));
+			}
+		}
+
+		List<PersistentProperty<?>> properties = new ArrayList<>();
+
+		if (entity.requiresPropertyPopulation()) {
+			entity.doWithProperties((P property) -> {
+				if (!entity.isCreatorArgument(property) && property.isReadable()) {
+					properties.add(property);
+				}
+			});
+		}
+
+		this.bindings = bindings.toArray(new ParameterBinding[0]);
+		this.properties = properties.toArray(new PersistentProperty<?>[0]);
+	}
+
+	/**
+	 * Create a new {@link EntityMaterializationPlan} for the given {@link PersistentEntity} using the
+	 * {@link EntityInstantiator} to create instances.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param instantiator must not be {@literal null}.
+	 * @return the materialization plan for {@code entity}.
+	 */
+	public static <T, P extends PersistentProperty<P>> EntityMaterializationPlan<T, P> of(PersistentEntity<T, P> entity,
+			EntityInstantiator instantiator) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(instantiator, "EntityInstantiator must not be null");
+
+		return new EntityMaterializationPlan<>(entity, instantiator);
+	}
+
+	/**
+	 * @return the entity this plan materializes.
+	 */
+	public PersistentEntity<T, P> getEntity() {
+		return entity;
+	}
+
+	/**
+	 * Return the properties that are set after creating the instance in the order they are applied.
+	 *
+	 * @return the post-construction properties.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<P> getPopulatedProperties() {
+		return Collections.unmodifiableList(Arrays.asList((P[]) properties));
+	}
+
+	/**
+	 * Create and populate a new entity instance reading creator arguments and property values from the given
+	 * {@link PropertyValueProvider}.
+	 *
+	 * @param provider must not be {@literal null}.
+	 * @param parent the parent object for inner classes, can be {@literal null}.
+	 * @return the materialized entity.
+	 */
+	public T materialize(PropertyValueProvider<P> provider, @Nullable Object parent) {
+
+		T instance = createInstance(provider, parent);
+
+		if (properties.length == 0) {
+			return instance;
+		}
+
+		return populate(entity.getPropertyAccessor(instance), provider);
+	}
+
+	/**
+	 * Create a new entity instance resolving creator arguments from the given {@link PropertyValueProvider}.
+	 *
+	 * @param provider must not be {@literal null}.
+	 * @param parent the parent object for inner classes, can be {@literal null}.
+	 * @return the new entity instance.
+	 */
+	public T createInstance(PropertyValueProvider<P> provider, @Nullable Object parent) {
+
+		Assert.notNull(provider, "PropertyValueProvider must not be null");
+
+		return createInstance(new BoundParameterValueProvider(provider, parent));
+	}
+
+	/**
+	 * Create a new entity instance resolving creator arguments from the given {@link ParameterValueProvider}.
+	 *
+	 * @param provider must not be {@literal null}.
+	 * @return the new entity instance.
+	 */
+	public T createInstance(ParameterValueProvider<P> provider) {
+
+		Assert.notNull(provider, "ParameterValueProvider must not be null");
+
+		return instantiator.createInstance(entity, provider);
+	}
+
+	/**
+	 * Populate all post-construction properties through the given {@link PersistentPropertyAccessor} using values from
+	 * the given {@link PropertyValueProvider}. Values are applied in a single
+	 * {@link PersistentPropertyAccessor#setProperties(PersistentProperty[], Object[]) bulk operation}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param provider must not be {@literal null}.
+	 * @return the populated bean obtained from {@code accessor}.
+	 */
+	public T populate(PersistentPropertyAccessor<T> accessor, PropertyValueProvider<P> provider) {
+		return populate(accessor, provider, null);
+	}
+
+	/**
+	 * Populate post-construction properties matching the given {@link Predicate} through the given
+	 * {@link PersistentPropertyAccessor} using values from the given {@link PropertyValueProvider}. The predicate allows
+	 * skipping properties for which the current row does not contain a value to retain the value assigned during
+	 * construction.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param provider must not be {@literal null}.
+	 * @param filter predicate to determine whether to set a property, can be {@literal null} to set all properties.
+	 * @return the populated bean obtained from {@code accessor}.
+	 */
+	@SuppressWarnings("unchecked")
+	public T populate(PersistentPropertyAccessor<T> accessor, PropertyValueProvider<P> provider,
+			@Nullable Predicate<? super P> filter) {
+
+		Assert.notNull(accessor, "PersistentPropertyAccessor must not be null");
+		Assert.notNull(provider, "PropertyValueProvider must not be null");
+
+		if (properties.length == 0) {
+			return accessor.getBean();
+		}
+
+		if (filter == null) {
+
+			@Nullable Object[] values = new Object[properties.length];
+
+			for (int i = 0; i < properties.length; i++) {
+				values[i] = provider.getPropertyValue((P) properties[i]);
+			}
+
+			accessor.setProperties(properties, values);
+
+			return accessor.getBean();
+		}
+
+		PersistentProperty<?>[] selected = new PersistentProperty<?>[properties.length];
+		@Nullable Object[] values = new Object[selected.length];
+		int count = 0;
+
+		for (PersistentProperty<?> property : properties) {
+
+			P typed = (P) property;
+
+			if (!filter.test(typed)) {
+				continue;
+			}
+
+			selected[count] = property;
+			values[count++] = provider.getPropertyValue(typed);
+		}
+
+		if (count != selected.length) {
+			selected = Arrays.copyOf(selected, count);
+			values = Arrays.copyOf(values, count);
+		}
+
+		accessor.setProperties(selected, values);
+
+		return accessor.getBean();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("EntityMaterializationPlan for %s: %d creator parameters, %d properties",
+				entity.getType().getName(), bindings.length, properties.length);
+	}
+
+	/**
+	 * {@link ParameterValueProvider} resolving parameters through the precomputed {@link ParameterBinding bindings}.
+	 * Instantiators request parameter values in declaration order so that bindings are matched by position without a
+	 * lookup.
+	 */
+	private class BoundParameterValueProvider implements ParameterValueProvider<P> {
+
+		private final PropertyValueProvider<P> provider;
+		private final @Nullable Object parent;
+		private int index;
+
+		BoundParameterValueProvider(PropertyValueProvider<P> provider, @Nullable Object parent) {
+			this.provider = provider;
+			this.parent = parent;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <S> @Nullable S getParameterValue(Parameter<S, P> parameter) {
+			return (S) getBinding(parameter).getValue(provider, parent);
+		}
+
+		private ParameterBinding<P> getBinding(Parameter<?, P> parameter) {
+
+			if (index < bindings.length && bindings[index].parameter() == parameter) {
+				return bindings[index++];
+			}
+
+			for (int i = 0; i < bindings.length; i++) {
+				if (bindings[i].parameter() == parameter) {
+					index = i + 1;
+					return bindings[i];
+				}
+			}
+
+			throw new MappingException(
+					String.format("Parameter %s is not a creator parameter of %s", parameter, entity.getType()));
+		}
+	}
+
+	/**
+	 * Precomputed binding of a creator {@link Parameter} to its value source.
+	 *
+	 * @param parameter the creator parameter.
+	 * @param kind the kind of value source.
+	 * @param property the property to read the value from if {@code kind} is {@link BindingKind#PROPERTY}.
+	 * @param value the default value if {@code kind} is {@link BindingKind#DEFAULT} or the error message if
+	 *          {@code kind} is {@link BindingKind#UNRESOLVABLE}.
+	 */
+	private record ParameterBinding<P extends PersistentProperty<P>>(Parameter<?, P> parameter, BindingKind kind,
+			@Nullable P property, @Nullable Object value) {
+
+		static <P extends PersistentProperty<P>> ParameterBinding<P> of(PersistentEntity<?, P> entity,
+				InstanceCreatorMetadata<P> creator, Parameter<?, P> parameter) {
+
+			if (creator.isParentParameter(parameter)) {
+				return new ParameterBinding<>(parameter, BindingKind.PARENT, null, null);
+			}
+
+			if (parameter.isTransient()) {
+				return new ParameterBinding<>(parameter, BindingKind.DEFAULT, null,
+						ParameterValueProvider.getDefaultValue(parameter.getRawType()));
+			}
+
+			String name = parameter.getName();
+
+			if (name == null) {
+				return new ParameterBinding<>(parameter, BindingKind.UNRESOLVABLE, null,
+						String.format("Parameter %s does not have a name", parameter));
+			}
+
+			P property = entity.getPersistentProperty(name);
+
+			if (property == null) {
+				return new ParameterBinding<>(parameter, BindingKind.UNRESOLVABLE, null, String.format(
+						"No property %s found on entity %s to bind constructor parameter to", name, entity.getType()));
+			}
+
+			return new ParameterBinding<>(parameter, BindingKind.PROPERTY, property, null);
+		}
+
+		@SuppressWarnings("NullAway")
+		@Nullable
+		Object getValue(PropertyValueProvider<P> provider, @Nullable Object parent) {
+
+			return switch (kind) {
+				case PROPERTY -> provider.getPropertyValue(property);
+				case PARENT -> parent;
+				case DEFAULT -> value;
+				case UNRESOLVABLE -> throw new MappingException((String) value);
+			};
+		}
+	}
+
+	private enum BindingKind {
+		PROPERTY, PARENT, DEFAULT, UNRESOLVABLE
+	}
+}
@@ -15,6 +15,10 @@
  */
 package org.springframework.data.mapping.model;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
@@ -70,7 +74,6 @@ public class InstantiationAwarePropertyAccessor<T> implements PersistentProperty
 		this.bean = bean;
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public void setProperty(PersistentProperty<?> property, @Nullable Object value) {
 
@@ -103,19 +106,96 @@ public class InstantiationAwarePropertyAccessor<T> implements PersistentProperty
 			}
 		});
 
+		this.bean = createInstance(owner, delegate, Collections.singletonMap(property.getName(), value));
+	}
+
+	/**
+	 * Sets the given {@link PersistentProperty properties} applying values for all properties that require a new
+	 * instance through a single invocation of the entity creator. Creator parameters without a setter are applied through
+	 * the creator along with immutable properties that would be otherwise set through a wither method. Remaining
+	 * properties are set on the newly created instance.
+	 *
+	 * @param properties must not be {@literal null}.
+	 * @param values must not be {@literal null} and must have the same length as {@code properties}.
+	 * @since 4.2
+	 */
+	@Override
+	public void setProperties(PersistentProperty<?>[] properties, @Nullable Object[] values) {
+
+		Assert.notNull(properties, "PersistentProperties must not be null");
+		Assert.notNull(values, "Values must not be null");
+		Assert.isTrue(properties.length == values.length, "Number of properties must match the number of values");
+
+		if (properties.length == 0) {
+			return;
+		}
+
+		PersistentEntity<?, ? extends PersistentProperty<?>> owner = properties[0].getOwner();
+		InstanceCreatorMetadata<? extends PersistentProperty<?>> creator = owner.getInstanceCreatorMetadata();
+
+		boolean[] applied = new boolean[properties.length];
+		Map<String, @Nullable Object> creatorValues = new HashMap<>(properties.length);
+
+		if (creator != null && hasNamedParameters(creator)) {
+
+			for (int i = 0; i < properties.length; i++) {
+
+				PersistentProperty<?> property = properties[i];
+
+				if (owner.equals(property.getOwner()) && requiresNewInstance(property)
+						&& creator.isCreatorParameter(property)) {
+					creatorValues.put(property.getName(), values[i]);
+					applied[i] = true;
+				}
+			}
+		}
+
+		if (creatorValues.size() > 1) {
+			this.bean = createInstance(owner, delegateFunction.apply(this.bean), creatorValues);
+		} else {
+			Arrays.fill(applied, false);
+		}
+
+		for (int i = 0; i < properties.length; i++) {
+			if (!applied[i]) {
+				setProperty(properties[i], values[i]);
+			}
+		}
+	}
+
+	private static boolean requiresNewInstance(PersistentProperty<?> property) {
+		return !property.isReadable() || (property.isImmutable() && property.getWither() != null);
+	}
+
+	private static boolean hasNamedParameters(InstanceCreatorMetadata<? extends PersistentProperty<?>> creator) {
+
+		for (Parameter<?, ?> parameter : creator.getParameters()) {
+			if (!parameter.hasName()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private T createInstance(PersistentEntity<?, ? extends PersistentProperty<?>> owner,
+			PersistentPropertyAccessor<T> delegate, Map<String, @Nullable Object> values) {
+
 		EntityInstantiator instantiator = instantiators.getInstantiatorFor(owner);
 
-		this.bean = (T) instantiator.createInstance(owner, new ParameterValueProvider() {
+		return (T) instantiator.createInstance(owner, new ParameterValueProvider() {
 
 			@Override
 			@SuppressWarnings("NullAway")
 			public @Nullable Object getParameterValue(Parameter parameter) {
 
-				if (property.getName().equals(parameter.getName())) {
-					return value;
+				String paramName = parameter.getName();
+
+				if (paramName != null && values.containsKey(paramName)) {
+					return values.get(paramName);
 				}
 
-				String paramName = parameter.getName();
 				if (paramName != null && parameter.isTransient()) {
 					return ParameterValueProvider.getDefaultValue(parameter.getRawType());
 				}
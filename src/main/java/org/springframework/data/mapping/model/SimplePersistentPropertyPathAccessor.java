@@ -108,6 +108,11 @@ class SimplePersistentPropertyPathAccessor<T> implements PersistentPropertyPathA
 		delegate.setProperty(property, value);
 	}
 
+	@Override
+	public void setProperties(PersistentProperty<?>[] properties, @Nullable Object[] values) {
+		delegate.setProperties(properties, values);
+	}
+
 	@Override
 	public void setProperty(PersistentPropertyPath<? extends PersistentProperty<?>> path, @Nullable Object value) {
 		setProperty(path, value, AccessOptions.defaultSetOptions());
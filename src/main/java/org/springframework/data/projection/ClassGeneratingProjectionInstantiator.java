@@ -0,0 +1,622 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.projection;
+
+import static org.springframework.asm.Opcodes.*;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Type;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.util.NullnessMethodInvocationValidator;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Creates closed interface projections backed by a generated implementation class instead of a Spring AOP proxy. A
+ * class is generated once per projection interface and holds the projection source along with an array of property
+ * accessors that are resolved once per projection type and source type. Creating a projection therefore allocates a
+ * single object, and projection methods delegate directly to a {@link MethodHandle} reading the property from the
+ * source:
+ *
+ * <pre class="code">
+ * public final class CustomerExcerpt$$Projection implements CustomerExcerpt, TargetAware {
+ *
+ * 	private final Object target;
+ * 	private final Function[] accessors;
+ *
+ * 	public CustomerExcerpt$$Projection(Object target, Function[] accessors) {
+ * 		this.target = target;
+ * 		this.accessors = accessors;
+ * 	}
+ *
+ * 	public String getFirstname() {
+ * 		return (String) accessors[0].apply(target);
+ * 	}
+ *
+ * 	// …
+ *
+ * 	public Class getTargetClass() {
+ * 		return target.getClass();
+ * 	}
+ *
+ * 	public Object getTarget() {
+ * 		return target;
+ * 	}
+ *
+ * 	public boolean equals(Object other) {
+ * 		// other is a CustomerExcerpt and TargetAware with an equal target
+ * 	}
+ * }
+ * </pre>
+ *
+ * Projection values are converted and projected the same way as with {@link ProjectingMethodInterceptor} and
+ * validated against the nullness declarations of the projection interface like
+ * {@link NullnessMethodInvocationValidator} does. Default methods are inherited from the projection interface.
+ * Generated classes are defined as hidden classes in the package of the projection interface and can be unloaded along
+ * with their {@link ClassGeneratingProjectionInstantiator}. Projection types or sources that cannot be served by a
+ * generated class (e.g. because a projection method does not map onto a readable property of the source) are rejected
+ * so that callers can fall back to proxy-based projections.
+ *
+ * @since 4.2
+ */
+class ClassGeneratingProjectionInstantiator {
+
+	private static final Log LOGGER = LogFactory.getLog(ClassGeneratingProjectionInstantiator.class);
+
+	private static final String TAG = "$$Projection";
+	private static final String TARGET_FIELD = "target";
+	private static final String ACCESSORS_FIELD = "accessors";
+	private static final String JAVA_LANG_OBJECT = Type.getInternalName(Object.class);
+	private static final String OBJECT_DESCRIPTOR = Type.getDescriptor(Object.class);
+	private static final String ACCESSORS_DESCRIPTOR = Type.getDescriptor(Function[].class);
+	private static final String FUNCTION = Type.getInternalName(Function.class);
+	private static final String FUNCTION_APPLY_DESCRIPTOR = Type.getMethodDescriptor(Type.getType(Object.class),
+			Type.getType(Object.class));
+	private static final String GET_CLASS_DESCRIPTOR = Type.getMethodDescriptor(Type.getType(Class.class));
+	private static final String EQUALS_DESCRIPTOR = Type.getMethodDescriptor(Type.BOOLEAN_TYPE,
+			Type.getType(Object.class));
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object.class,
+			Function[].class);
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final Function<?, ?>[] UNSUPPORTED = new Function<?, ?>[0];
+
+	private final ProjectingMethodInterceptor projecting;
+	private final Map<Class<?>, Optional<ProjectionClass>> projectionClasses = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link ClassGeneratingProjectionInstantiator}.
+	 *
+	 * @param factory the projection factory to create nested projections.
+	 * @param conversionService the conversion service to convert projection values.
+	 */
+	ClassGeneratingProjectionInstantiator(ProjectionFactory factory, ConversionService conversionService) {
+		this.projecting = new ProjectingMethodInterceptor(factory, conversionService);
+	}
+
+	/**
+	 * Check whether the given projection type can be implemented by a generated class. Projection types must be
+	 * non-sealed interfaces whose abstract methods are property accessors without parameters.
+	 *
+	 * @param projectionType the projection interface.
+	 * @return {@literal true} if a projection class can be generated.
+	 */
+	static boolean isSupported(Class<?> projectionType) {
+
+		if (NativeDetector.inNativeImage() || !projectionType.isInterface() || projectionType.isSealed()
+				|| projectionType.isHidden()) {
+			return false;
+		}
+
+		for (Method method : projectionType.getMethods()) {
+
+			if (!isProjectionMethod(method)) {
+				continue;
+			}
+
+			if (method.getParameterCount() != 0 || method.getReturnType() == void.class
+					|| isTargetAwareMethod(method) || !isAccessible(method.getReturnType(), projectionType)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Create a projection for the given source object.
+	 *
+	 * @param projectionType the projection interface, must be {@link #isSupported(Class) supported}.
+	 * @param source the projection source.
+	 * @return the projection or {@literal null} if the source cannot be projected through a generated class.
+	 */
+	@Nullable
+	Object createProjection(Class<?> projectionType, Object source) {
+
+		Optional<ProjectionClass> projectionClass = projectionClasses.get(projectionType);
+
+		if (projectionClass == null) {
+			// avoid computeIfAbsent locking on the hot path
+			projectionClass = projectionClasses.computeIfAbsent(projectionType,
+					ClassGeneratingProjectionInstantiator::generateProjectionClass);
+		}
+
+		return projectionClass.isPresent() ? projectionClass.get().newInstance(source, projecting) : null;
+	}
+
+	private static Optional<ProjectionClass> generateProjectionClass(Class<?> projectionType) {
+
+		Map<String, Method> methods = new LinkedHashMap<>();
+
+		for (Method method : projectionType.getMethods()) {
+			if (isProjectionMethod(method)) {
+				methods.putIfAbsent(method.getName() + Type.getMethodDescriptor(method), method);
+			}
+		}
+
+		Method[] projectionMethods = methods.values().toArray(new Method[0]);
+		String className = projectionType.getName() + TAG;
+
+		try {
+
+			Lookup lookup = MethodHandles.privateLookupIn(projectionType, MethodHandles.lookup());
+			byte[] bytecode = generateBytecode(className.replace('.', '/'), projectionType, projectionMethods);
+			Lookup projectionClass = lookup.defineHiddenClass(bytecode, true);
+
+			MethodHandle constructor = projectionClass
+					.findConstructor(projectionClass.lookupClass(),
+							MethodType.methodType(void.class, Object.class, Function[].class))
+					.asType(CONSTRUCTOR_TYPE);
+
+			return Optional.of(new ProjectionClass(projectionType, projectionMethods, constructor));
+		} catch (Exception | LinkageError ex) {
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Cannot generate projection class for %s; Falling back to proxies".formatted(projectionType),
+						ex);
+			}
+
+			return Optional.empty();
+		}
+	}
+
+	private static byte[] generateBytecode(String internalClassName, Class<?> projectionType, Method[] methods) {
+
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+
+		cw.visit(V1_8, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, internalClassName, null, JAVA_LANG_OBJECT,
+				new String[] { Type.getInternalName(projectionType), Type.getInternalName(TargetAware.class) });
+
+		cw.visitField(ACC_PRIVATE + ACC_FINAL, TARGET_FIELD, OBJECT_DESCRIPTOR, null, null).visitEnd();
+		cw.visitField(ACC_PRIVATE + ACC_FINAL, ACCESSORS_FIELD, ACCESSORS_DESCRIPTOR, null, null).visitEnd();
+
+		visitConstructor(internalClassName, cw);
+
+		for (int i = 0; i < methods.length; i++) {
+			visitProjectionMethod(internalClassName, methods[i], i, cw);
+		}
+
+		visitTargetMethod(internalClassName, "getTarget", cw);
+		visitTargetClassMethod(internalClassName, "getTargetClass", cw);
+		visitTargetClassMethod(internalClassName, "getDecoratedClass", cw);
+		visitEquals(internalClassName, projectionType, cw);
+		visitDelegatingObjectMethod(internalClassName, "hashCode", Type.INT_TYPE, cw);
+		visitDelegatingObjectMethod(internalClassName, "toString", Type.getType(String.class), cw);
+
+		cw.visitEnd();
+
+		return cw.toByteArray();
+	}
+
+	/**
+	 * Generates:
+	 *
+	 * <pre class="code">
+	 * public CustomerExcerpt$$Projection(Object target, Function[] accessors) {
+	 * 	this.target = target;
+	 * 	this.accessors = accessors;
+	 * }
+	 * </pre>
+	 */
+	private static void visitConstructor(String internalClassName, ClassWriter cw) {
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>",
+				Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Object.class), Type.getType(Function[].class)), null,
+				null);
+
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitMethodInsn(INVOKESPECIAL, JAVA_LANG_OBJECT, "<init>", "()V", false);
+
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitFieldInsn(PUTFIELD, internalClassName, TARGET_FIELD, OBJECT_DESCRIPTOR);
+
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 2);
+		mv.visitFieldInsn(PUTFIELD, internalClassName, ACCESSORS_FIELD, ACCESSORS_DESCRIPTOR);
+
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	/**
+	 * Generates:
+	 *
+	 * <pre class="code">
+	 * public String getFirstname() {
+	 * 	return (String) accessors[0].apply(target);
+	 * }
+	 * </pre>
+	 */
+	private static void visitProjectionMethod(String internalClassName, Method method, int index, ClassWriter cw) {
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, method.getName(), Type.getMethodDescriptor(method), null, null);
+
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitFieldInsn(GETFIELD, internalClassName, ACCESSORS_FIELD, ACCESSORS_DESCRIPTOR);
+		mv.visitLdcInsn(index);
+		mv.visitInsn(AALOAD);
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitFieldInsn(GETFIELD, internalClassName, TARGET_FIELD, OBJECT_DESCRIPTOR);
+		mv.visitMethodInsn(INVOKEINTERFACE, FUNCTION, "apply", FUNCTION_APPLY_DESCRIPTOR, true);
+
+		Class<?> returnType = method.getReturnType();
+
+		if (returnType.isPrimitive()) {
+
+			Type wrapper = Type.getType(ClassUtils.resolvePrimitiveIfNecessary(returnType));
+			Type primitive = Type.getType(returnType);
+
+			mv.visitTypeInsn(CHECKCAST, wrapper.getInternalName());
+			mv.visitMethodInsn(INVOKEVIRTUAL, wrapper.getInternalName(), returnType.getName() + "Value",
+					Type.getMethodDescriptor(primitive), false);
+			mv.visitInsn(primitive.getOpcode(IRETURN));
+		} else {
+
+			if (returnType != Object.class) {
+				mv.visitTypeInsn(CHECKCAST, Type.getInternalName(returnType));
+			}
+
+			mv.visitInsn(ARETURN);
+		}
+
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	/**
+	 * Generates:
+	 *
+	 * <pre class="code">
+	 * public Object getTarget() {
+	 * 	return target;
+	 * }
+	 * </pre>
+	 */
+	private static void visitTargetMethod(String internalClassName, String methodName, ClassWriter cw) {
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, Type.getMethodDescriptor(Type.getType(Object.class)),
+				null, null);
+
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitFieldInsn(GETFIELD, internalClassName, TARGET_FIELD, OBJECT_DESCRIPTOR);
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	/**
+	 * Generates:
+	 *
+	 * <pre class="code">
+	 * public Class getTargetClass() {
+	 * 	return target.getClass();
+	 * }
+	 * </pre>
+	 */
+	private static void visitTargetClassMethod(String internalClassName, String methodName, ClassWriter cw) {
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, GET_CLASS_DESCRIPTOR, null, null);
+
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitFieldInsn(GETFIELD, internalClassName, TARGET_FIELD, OBJECT_DESCRIPTOR);
+		mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_OBJECT, "getClass", GET_CLASS_DESCRIPTOR, false);
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	/**
+	 * Generates an {@code equals} method considering projections of the same projection type backed by an equal target
+	 * equal, regardless of whether the other projection is backed by a generated class or a proxy:
+	 *
+	 * <pre class="code">
+	 * public boolean equals(Object other) {
+	 * 	if (this == other) {
+	 * 		return true;
+	 * 	}
+	 * 	if (!(other instanceof CustomerExcerpt) || !(other instanceof TargetAware)) {
+	 * 		return false;
+	 * 	}
+	 * 	return target.equals(((TargetAware) other).getTarget());
+	 * }
+	 * </pre>
+	 */
+	private static void visitEquals(String internalClassName, Class<?> projectionType, ClassWriter cw) {
+
+		String targetAware = Type.getInternalName(TargetAware.class);
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "equals", EQUALS_DESCRIPTOR, null, null);
+		Label notSame = new Label();
+		Label notEqual = new Label();
+
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitJumpInsn(IF_ACMPNE, notSame);
+		mv.visitInsn(ICONST_1);
+		mv.visitInsn(IRETURN);
+
+		mv.visitLabel(notSame);
+		mv.visitFrame(F_SAME, 0, null, 0, null);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(projectionType));
+		mv.visitJumpInsn(IFEQ, notEqual);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(INSTANCEOF, targetAware);
+		mv.visitJumpInsn(IFEQ, notEqual);
+
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitFieldInsn(GETFIELD, internalClassName, TARGET_FIELD, OBJECT_DESCRIPTOR);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, targetAware);
+		mv.visitMethodInsn(INVOKEINTERFACE, targetAware, "getTarget", Type.getMethodDescriptor(Type.getType(Object.class)),
+				true);
+		mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_OBJECT, "equals", EQUALS_DESCRIPTOR, false);
+		mv.visitInsn(IRETURN);
+
+		mv.visitLabel(notEqual);
+		mv.visitFrame(F_SAME, 0, null, 0, null);
+		mv.visitInsn(ICONST_0);
+		mv.visitInsn(IRETURN);
+
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	/**
+	 * Generates:
+	 *
+	 * <pre class="code">
+	 * public String toString() {
+	 * 	return target.toString();
+	 * }
+	 * </pre>
+	 */
+	private static void visitDelegatingObjectMethod(String internalClassName, String methodName, Type returnType,
+			ClassWriter cw) {
+
+		String descriptor = Type.getMethodDescriptor(returnType);
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, descriptor, null, null);
+
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitFieldInsn(GETFIELD, internalClassName, TARGET_FIELD, OBJECT_DESCRIPTOR);
+		mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_OBJECT, methodName, descriptor, false);
+		mv.visitInsn(returnType.getOpcode(IRETURN));
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static boolean isProjectionMethod(Method method) {
+		return Modifier.isAbstract(method.getModifiers()) && !ReflectionUtils.isObjectMethod(method);
+	}
+
+	private static boolean isTargetAwareMethod(Method method) {
+		return ReflectionUtils.findMethod(TargetAware.class, method.getName()) != null;
+	}
+
+	/**
+	 * Check whether the given type can be referenced from a class in the package of the projection type.
+	 */
+	private static boolean isAccessible(Class<?> type, Class<?> projectionType) {
+
+		Class<?> typeToCheck = type;
+
+		while (typeToCheck.isArray()) {
+			typeToCheck = typeToCheck.getComponentType();
+		}
+
+		if (typeToCheck.isPrimitive() || Modifier.isPublic(typeToCheck.getModifiers())) {
+			return true;
+		}
+
+		return typeToCheck.getClassLoader() == projectionType.getClassLoader()
+				&& ObjectUtils.nullSafeEquals(typeToCheck.getPackageName(), projectionType.getPackageName());
+	}
+
+	/**
+	 * Resolve a {@link MethodHandle} reading the property backing the given projection method from the source type. The
+	 * property is read through its getter or, if the source type does not declare a readable property, through its field
+	 * similar to {@link org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper}.
+	 *
+	 * @return the getter handle or {@literal null} if the property cannot be resolved.
+	 */
+	private static @Nullable MethodHandle findGetter(Method method, Class<?> sourceType) {
+
+		Method targetMethod = BeanUtils.findMethod(sourceType, method.getName());
+		PropertyDescriptor descriptor = BeanUtils
+				.findPropertyForMethod(targetMethod == null ? method : BridgeMethodResolver.findBridgedMethod(targetMethod));
+
+		if (descriptor == null) {
+			return null;
+		}
+
+		try {
+
+			PropertyDescriptor sourceDescriptor = BeanUtils.getPropertyDescriptor(sourceType, descriptor.getName());
+			Method readMethod = sourceDescriptor != null ? sourceDescriptor.getReadMethod() : null;
+
+			if (readMethod != null) {
+
+				ReflectionUtils.makeAccessible(readMethod);
+				return MethodHandles.lookup().unreflect(readMethod).asType(GETTER_TYPE);
+			}
+
+			Field field = ReflectionUtils.findField(sourceType, descriptor.getName());
+
+			if (field == null || Modifier.isStatic(field.getModifiers())) {
+				return null;
+			}
+
+			ReflectionUtils.makeAccessible(field);
+			return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+		} catch (IllegalAccessException | RuntimeException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * A generated projection class along with the property accessors per source type.
+	 */
+	private static class ProjectionClass {
+
+		private final Method[] methods;
+		private final TypeInformation<?>[] returnTypes;
+		private final boolean[] nullableReturns;
+		private final MethodHandle constructor;
+		private final Map<Class<?>, Function<?, ?>[]> accessors = new ConcurrentHashMap<>();
+
+		ProjectionClass(Class<?> projectionType, Method[] methods, MethodHandle constructor) {
+
+			this.methods = methods;
+			this.returnTypes = new TypeInformation<?>[methods.length];
+			this.nullableReturns = new boolean[methods.length];
+			this.constructor = constructor;
+
+			boolean definesNullness = NullnessMethodInvocationValidator.supports(projectionType);
+
+			for (int i = 0; i < methods.length; i++) {
+				returnTypes[i] = TypeInformation.fromReturnTypeOf(methods[i]);
+				nullableReturns[i] = !definesNullness || NullnessMethodInvocationValidator.isNullableReturn(methods[i]);
+			}
+		}
+
+		@Nullable
+		@SuppressWarnings("rawtypes")
+		Object newInstance(Object source, ProjectingMethodInterceptor projecting) {
+
+			Class<?> sourceType = source.getClass();
+			Function<?, ?>[] accessors = this.accessors.get(sourceType);
+
+			if (accessors == null) {
+				// avoid computeIfAbsent locking on the hot path
+				accessors = this.accessors.computeIfAbsent(sourceType, it -> createAccessors(it, projecting));
+			}
+
+			if (accessors == UNSUPPORTED) {
+				return null;
+			}
+
+			try {
+				return (Object) constructor.invokeExact(source, (Function[]) accessors);
+			} catch (Throwable ex) {
+				throw new IllegalStateException("Cannot create projection for %s".formatted(sourceType.getName()), ex);
+			}
+		}
+
+		private Function<?, ?>[] createAccessors(Class<?> sourceType, ProjectingMethodInterceptor projecting) {
+
+			Function<?, ?>[] accessors = new Function<?, ?>[methods.length];
+
+			for (int i = 0; i < methods.length; i++) {
+
+				MethodHandle getter = findGetter(methods[i], sourceType);
+
+				if (getter == null) {
+					return UNSUPPORTED;
+				}
+
+				accessors[i] = new PropertyAccessor(getter, returnTypes[i], nullableReturns[i], projecting);
+			}
+
+			return accessors;
+		}
+	}
+
+	/**
+	 * Reads a property from the projection source and projects it onto the return type of the projection method.
+	 *
+	 * @param getter the getter handle of type {@code (Object)Object}.
+	 * @param returnType the return type of the projection method.
+	 * @param nullable whether the projection method may return {@literal null}.
+	 * @param projecting the interceptor to project values.
+	 */
+	private record PropertyAccessor(MethodHandle getter, TypeInformation<?> returnType, boolean nullable,
+			ProjectingMethodInterceptor projecting) implements Function<Object, @Nullable Object> {
+
+		@Override
+		public @Nullable Object apply(Object source) {
+
+			Object value;
+
+			try {
+				value = (Object) getter.invokeExact(source);
+			} catch (Throwable ex) {
+				ReflectionUtils.rethrowRuntimeException(ex);
+				return null;
+			}
+
+			Object result = projecting.project(returnType, value);
+
+			if (result == null && !nullable) {
+				throw new NullPointerException("Return value is null but must not be null");
+			}
+
+			return result;
+		}
+	}
+}
@@ -56,6 +56,17 @@ class ProjectingMethodInterceptor implements MethodInterceptor {
 	private final MethodInterceptor delegate;
 	private final ConversionService conversionService;
 
+	/**
+	 * Creates a new {@link ProjectingMethodInterceptor} that projects the result of the intercepted invocation itself.
+	 *
+	 * @param factory the projection factory to create nested projections.
+	 * @param conversionService the conversion service to convert results.
+	 * @since 4.2
+	 */
+	ProjectingMethodInterceptor(ProjectionFactory factory, ConversionService conversionService) {
+		this(factory, MethodInvocation::proceed, conversionService);
+	}
+
 	ProjectingMethodInterceptor(ProjectionFactory factory, MethodInterceptor delegate,
 			ConversionService conversionService) {
 
@@ -69,11 +80,24 @@ class ProjectingMethodInterceptor implements MethodInterceptor {
 
 		Method method = invocation.getMethod();
 		TypeInformation<?> type = TypeInformation.fromReturnTypeOf(method);
-		TypeInformation<?> resultType = type;
-		TypeInformation<?> typeToReturn = type;
 
-		Object result = delegate.invoke(invocation);
+		return project(type, delegate.invoke(invocation));
+	}
 
+	/**
+	 * Project the given {@code result} onto the given return type by converting it, wrapping it into a nullable wrapper
+	 * or creating projections for it and its elements.
+	 *
+	 * @param type the return type of the projection method.
+	 * @param result the raw value to project, can be {@literal null}.
+	 * @return the projected value.
+	 * @since 4.2
+	 */
+	@Nullable
+	Object project(TypeInformation<?> type, @Nullable Object result) {
+
+		TypeInformation<?> resultType = type;
+		TypeInformation<?> typeToReturn = type;
 		boolean applyWrapper = false;
 
 		if (NullableWrapperConverters.supports(type.getType())
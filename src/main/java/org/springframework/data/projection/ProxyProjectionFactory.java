@@ -37,12 +37,16 @@ import org.springframework.data.util.Lazy;
 import org.springframework.data.util.NullnessMethodInvocationValidator;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * A {@link ProjectionFactory} to create JDK proxies to back interfaces and handle method invocations on them. By
  * default, accessor methods are supported. In case the delegating lookups result in an object of different type that
  * the projection interface method's return type, another projection will be created to transparently mitigate between
  * the types.
+ * <p>
+ * Closed projections of arbitrary (non-{@link Map}) objects are backed by a generated implementation class instead of a
+ * proxy if possible, see {@link ClassGeneratingProjectionInstantiator}.
  *
  * @author Oliver Gierke
  * @author Christoph Strobl
@@ -71,6 +75,10 @@ class ProxyProjectionFactory implements ProjectionFactory, BeanClassLoaderAware
 	private final Lazy<NullnessMethodInvocationValidator> nullabilityValidator = Lazy
 			.of(NullnessMethodInvocationValidator::new);
 
+	private final ClassGeneratingProjectionInstantiator projectionInstantiator = new ClassGeneratingProjectionInstantiator(
+			this, CONVERSION_SERVICE);
+	private final boolean classGenerationEnabled = !customizesAccessorInterceptor(getClass());
+
 	/**
 	 * Creates a new {@link ProxyProjectionFactory}.
 	 */
@@ -112,13 +120,23 @@ class ProxyProjectionFactory implements ProjectionFactory, BeanClassLoaderAware
 			return (T) source;
 		}
 
+		ProjectionMetadata projectionMetadata = getProjectionMetadata(projectionType);
+
+		if (classGenerationEnabled && projectionMetadata.supportsClassGeneration()
+				&& getFactoryFor(source, projectionType) == PropertyAccessingMethodInvokerFactory.INSTANCE) {
+
+			Object projection = projectionInstantiator.createProjection(projectionType, source);
+
+			if (projection != null) {
+				return (T) projection;
+			}
+		}
+
 		ProxyFactory factory = new ProxyFactory();
 		factory.setTarget(source);
 		factory.setOpaque(true);
 		factory.setInterfaces(projectionType, TargetAware.class);
 
-		ProjectionMetadata projectionMetadata = getProjectionMetadata(projectionType);
-
 		if (projectionMetadata.hasDefaultMethods) {
 			factory.addAdvice(defaultMethodInvokingMethodInterceptor.get());
 		}
@@ -148,10 +166,35 @@ class ProxyProjectionFactory implements ProjectionFactory, BeanClassLoaderAware
 	}
 
 	private ProjectionMetadata getProjectionMetadata(Class<?> projectionType) {
+
+		ProjectionMetadata metadata = projectionInformationCache.get(projectionType);
+
+		if (metadata != null) {
+			return metadata;
+		}
+
 		return projectionInformationCache.computeIfAbsent(projectionType,
 				it -> ProjectionMetadata.create(it, createProjectionInformation(it)));
 	}
 
+	/**
+	 * Returns whether the given factory type customizes accessor interceptors beyond the {@code @Value} support of
+	 * {@link SpelAwareProxyProjectionFactory}. Generated projection classes bypass
+	 * {@link #postProcessAccessorInterceptor(MethodInterceptor, Object, Class)} and are therefore only used if the
+	 * interceptor is not customized.
+	 *
+	 * @param factoryType the projection factory type.
+	 * @return {@literal true} if the factory type customizes accessor interceptors.
+	 */
+	private static boolean customizesAccessorInterceptor(Class<?> factoryType) {
+
+		Method method = ReflectionUtils.findMethod(factoryType, "postProcessAccessorInterceptor", MethodInterceptor.class,
+				Object.class, Class.class);
+
+		return method != null && method.getDeclaringClass() != ProxyProjectionFactory.class
+				&& method.getDeclaringClass() != SpelAwareProxyProjectionFactory.class;
+	}
+
 	/**
 	 * Post-process the given {@link MethodInterceptor} for the given source instance and projection type. Default
 	 * implementation will simply return the given interceptor.
@@ -295,17 +338,19 @@ class ProxyProjectionFactory implements ProjectionFactory, BeanClassLoaderAware
 	}
 
 	/**
-	 * Holder for {@link ProjectionInformation} and whether the target projection type uses {@code default} interface
-	 * methods.
+	 * Holder for {@link ProjectionInformation}, whether the target projection type uses {@code default} interface
+	 * methods and whether it can be implemented by a generated class. Only closed projections are implemented by
+	 * generated classes.
 	 *
 	 * @since 3.1.1
 	 */
-	record ProjectionMetadata(boolean hasDefaultMethods, boolean definesNullness,
+	record ProjectionMetadata(boolean hasDefaultMethods, boolean definesNullness, boolean supportsClassGeneration,
 			ProjectionInformation projectionInformation) {
 
 		public static ProjectionMetadata create(Class<?> projectionType, ProjectionInformation projectionInformation) {
 			return new ProjectionMetadata(DefaultMethodInvokingMethodInterceptor.hasDefaultMethods(projectionType),
 					NullnessMethodInvocationValidator.supports(projectionType),
+					projectionInformation.isClosed() && ClassGeneratingProjectionInstantiator.isSupported(projectionType),
 					projectionInformation);
 		}
 	}
@@ -21,7 +21,6 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.aopalliance.intercept.MethodInterceptor;
-import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
@@ -29,7 +28,12 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.util.AnnotationDetectionMethodCallback;
+import org.springframework.data.util.Lazy;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
@@ -37,6 +41,10 @@ import org.springframework.util.ReflectionUtils;
 /**
  * A {@link ProxyProjectionFactory} that adds support to use {@link Value}-annotated methods on a projection interface
  * to evaluate the contained SpEL expression to define the outcome of the method call.
+ * <p>
+ * Expressions are parsed once per projection interface and evaluated against a shared {@link EvaluationContext} so
+ * that creating a projection only binds the projection source. Reusing parsed expressions allows SpEL to compile them,
+ * see {@link #SpelAwareProxyProjectionFactory(SpelCompilerMode)}.
  *
  * @author Oliver Gierke
  * @author Thomas Darimont
@@ -47,9 +55,11 @@ import org.springframework.util.ReflectionUtils;
 public class SpelAwareProxyProjectionFactory extends ProxyProjectionFactory implements BeanFactoryAware {
 
 	private final Map<Class<?>, Boolean> typeCache = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Map<Method, Expression>> expressionCache = new ConcurrentHashMap<>();
 	private final ExpressionParser parser;
 
-	private @Nullable BeanFactory beanFactory;
+	private Lazy<EvaluationContext> evaluationContext = Lazy
+			.of(() -> SpelEvaluatingMethodInterceptor.createEvaluationContext(null));
 
 	/**
 	 * Create a new {@link SpelAwareProxyProjectionFactory}.
@@ -70,9 +80,22 @@ public class SpelAwareProxyProjectionFactory extends ProxyProjectionFactory impl
 		this.parser = parser;
 	}
 
+	/**
+	 * Create a new {@link SpelAwareProxyProjectionFactory} compiling {@link Value} expressions using the given
+	 * {@link SpelCompilerMode}. {@link SpelCompilerMode#IMMEDIATE} and {@link SpelCompilerMode#MIXED} compile expressions
+	 * to bytecode once they have been evaluated which pays off for projections over large result sets. Compiled
+	 * expressions require public types and accessors along the expression.
+	 *
+	 * @param compilerMode the compiler mode to use.
+	 * @since 4.2
+	 */
+	public SpelAwareProxyProjectionFactory(SpelCompilerMode compilerMode) {
+		this(new SpelExpressionParser(new SpelParserConfiguration(compilerMode, null)));
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
-		this.beanFactory = beanFactory;
+		this.evaluationContext = Lazy.of(() -> SpelEvaluatingMethodInterceptor.createEvaluationContext(beanFactory));
 	}
 
 	@Override
@@ -93,9 +116,19 @@ public class SpelAwareProxyProjectionFactory extends ProxyProjectionFactory impl
 	protected MethodInterceptor postProcessAccessorInterceptor(MethodInterceptor interceptor, Object source,
 			Class<?> projectionType) {
 
-		return typeCache.computeIfAbsent(projectionType, SpelAwareProxyProjectionFactory::hasMethodWithValueAnnotation)
-				? new SpelEvaluatingMethodInterceptor(interceptor, source, beanFactory, parser, projectionType)
-				: interceptor;
+		if (!typeCache.computeIfAbsent(projectionType, SpelAwareProxyProjectionFactory::hasMethodWithValueAnnotation)) {
+			return interceptor;
+		}
+
+		Map<Method, Expression> expressions = expressionCache.get(projectionType);
+
+		if (expressions == null) {
+			// avoid computeIfAbsent locking on the hot path
+			expressions = expressionCache.computeIfAbsent(projectionType,
+					it -> SpelEvaluatingMethodInterceptor.potentiallyCreateExpressionsForMethodsOnTargetInterface(parser, it));
+		}
+
+		return new SpelEvaluatingMethodInterceptor(interceptor, source, evaluationContext.get(), expressions);
 	}
 
 	/**
@@ -57,7 +57,7 @@ class SpelEvaluatingMethodInterceptor implements MethodInterceptor {
 
 	private final EvaluationContext evaluationContext;
 	private final MethodInterceptor delegate;
-	private final Map<Integer, Expression> expressions;
+	private final Map<Method, Expression> expressions;
 	private final Object target;
 
 	/**
@@ -79,37 +79,67 @@ class SpelEvaluatingMethodInterceptor implements MethodInterceptor {
 		Assert.notNull(parser, "SpelExpressionParser must not be null");
 		Assert.notNull(targetInterface, "Target interface must not be null");
 
-		StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+		this.expressions = potentiallyCreateExpressionsForMethodsOnTargetInterface(parser, targetInterface);
+		this.evaluationContext = createEvaluationContext(beanFactory);
+		this.delegate = delegate;
+		this.target = target;
+	}
 
-		if (target instanceof Map) {
-			evaluationContext.addPropertyAccessor(new MapAccessor());
-		}
+	/**
+	 * Creates a new {@link SpelEvaluatingMethodInterceptor} using already parsed expressions and a shared
+	 * {@link EvaluationContext} so that only the {@code target} object needs to be bound per projection.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param evaluationContext must not be {@literal null}.
+	 * @param expressions the parsed expressions as returned by
+	 *          {@link #potentiallyCreateExpressionsForMethodsOnTargetInterface(ExpressionParser, Class)}.
+	 * @since 4.2
+	 */
+	SpelEvaluatingMethodInterceptor(MethodInterceptor delegate, Object target, EvaluationContext evaluationContext,
+			Map<Method, Expression> expressions) {
+
+		this.expressions = expressions;
+		this.evaluationContext = evaluationContext;
+		this.delegate = delegate;
+		this.target = target;
+	}
+
+	/**
+	 * Creates an {@link EvaluationContext} that can be shared across projections. The context can read properties of
+	 * {@link Map} targets and resolves bean references if a {@link BeanFactory} is given.
+	 *
+	 * @param beanFactory can be {@literal null}.
+	 * @return a new {@link EvaluationContext}.
+	 * @since 4.2
+	 */
+	static EvaluationContext createEvaluationContext(@Nullable BeanFactory beanFactory) {
+
+		StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+		evaluationContext.addPropertyAccessor(new MapAccessor());
 
 		if (beanFactory != null) {
 			evaluationContext.setBeanResolver(new BeanFactoryResolver(beanFactory));
 		}
 
-		this.expressions = potentiallyCreateExpressionsForMethodsOnTargetInterface(parser, targetInterface);
-
-		this.evaluationContext = evaluationContext;
-		this.delegate = delegate;
-		this.target = target;
+		return evaluationContext;
 	}
 
 	/**
-	 * Eagerly parses {@link Expression} defined on {@link Value} annotations. Returns a map with
-	 * {@code method.hashCode()} as key and the parsed {@link Expression} or an {@link Collections#emptyMap()} if no
-	 * {@code Expressions} were found.
+	 * Eagerly parses {@link Expression} defined on {@link Value} annotations. Returns a map with the {@link Method} as
+	 * key and the parsed {@link Expression} or an {@link Collections#emptyMap()} if no {@code Expressions} were found.
+	 * The parsed expressions are immutable and can be shared across projections of the same type which allows compiled
+	 * expressions to be reused.
 	 *
 	 * @param parser must not be {@literal null}.
 	 * @param targetInterface must not be {@literal null}.
 	 * @return
 	 */
-	private static Map<Integer, Expression> potentiallyCreateExpressionsForMethodsOnTargetInterface(
-			ExpressionParser parser, Class<?> targetInterface) {
+	static Map<Method, Expression> potentiallyCreateExpressionsForMethodsOnTargetInterface(ExpressionParser parser,
+			Class<?> targetInterface) {
 
 		Method[] methods = targetInterface.getMethods();
-		Map<Integer, Expression> expressions = new HashMap<>(methods.length, 1.0f);
+		Map<Method, Expression> expressions = new HashMap<>(methods.length, 1.0f);
 
 		for (Method method : methods) {
 
@@ -122,7 +152,7 @@ class SpelEvaluatingMethodInterceptor implements MethodInterceptor {
 				throw new IllegalStateException(String.format("@Value annotation on %s contains empty expression", method));
 			}
 
-			expressions.put(method.hashCode(), parser.parseExpression(value.value(), PARSER_CONTEXT));
+			expressions.put(method, parser.parseExpression(value.value(), PARSER_CONTEXT));
 		}
 
 		return Collections.unmodifiableMap(expressions);
@@ -131,7 +161,7 @@ class SpelEvaluatingMethodInterceptor implements MethodInterceptor {
 	@Override
 	public @Nullable Object invoke(@SuppressWarnings("null") MethodInvocation invocation) throws Throwable {
 
-		Expression expression = expressions.get(invocation.getMethod().hashCode());
+		Expression expression = expressions.get(invocation.getMethod());
 
 		if (expression == null) {
 			return delegate.invoke(invocation);
@@ -141,11 +171,12 @@ class SpelEvaluatingMethodInterceptor implements MethodInterceptor {
 	}
 
 	/**
-	 * Wrapper class to expose an object to the SpEL expression as {@code target}.
+	 * Wrapper class to expose an object to the SpEL expression as {@code target}. Declared {@code public} so that
+	 * expressions accessing {@code target} and {@code args} can be compiled.
 	 *
 	 * @author Oliver Gierke
 	 */
-	static final class TargetWrapper {
+	public static final class TargetWrapper {
 
 		private final Object target;
 		private final Object[] args;
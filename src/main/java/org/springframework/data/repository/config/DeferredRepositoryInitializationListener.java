@@ -15,20 +15,39 @@
  */
 package org.springframework.data.repository.config;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.Ordered;
+import org.springframework.core.log.LogMessage;
 import org.springframework.data.repository.Repository;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
  * {@link ApplicationListener} to trigger the initialization of Spring Data repositories right before the application
  * context is started.
+ * <p>
+ * Repositories are initialized one after another unless configured with a parallelism greater than {@code 1}. In that
+ * case, repository beans are obtained concurrently from the bean factory, either on its
+ * {@link ConfigurableBeanFactory#getBootstrapExecutor() bootstrap executor} or on a bounded thread pool that is shut
+ * down after initialization. Dependencies between beans are resolved by the bean factory: a repository that depends on
+ * a bean currently being created by another thread waits for its completion.
  *
  * @author Oliver Gierke
  * @since 2.1
@@ -39,9 +58,15 @@ class DeferredRepositoryInitializationListener implements ApplicationListener<Co
 	private static final Log logger = LogFactory.getLog(DeferredRepositoryInitializationListener.class);
 
 	private final ListableBeanFactory beanFactory;
+	private final int parallelism;
 
 	DeferredRepositoryInitializationListener(ListableBeanFactory beanFactory) {
+		this(beanFactory, 1);
+	}
+
+	DeferredRepositoryInitializationListener(ListableBeanFactory beanFactory, int parallelism) {
 		this.beanFactory = beanFactory;
+		this.parallelism = parallelism;
 	}
 
 	@Override
@@ -53,10 +78,88 @@ class DeferredRepositoryInitializationListener implements ApplicationListener<Co
 		}
 
 		logger.info("Triggering deferred initialization of Spring Data repositories…");
-		beanFactory.getBeansOfType(Repository.class);
+
+		if (parallelism > 1) {
+			initializeConcurrently();
+		} else {
+			beanFactory.getBeansOfType(Repository.class);
+		}
+
 		logger.info("Spring Data repositories initialized");
 	}
 
+	private void initializeConcurrently() {
+
+		String[] beanNames = beanFactory.getBeanNamesForType(Repository.class);
+
+		if (beanNames.length == 0) {
+			return;
+		}
+
+		Executor bootstrapExecutor = getBootstrapExecutor();
+		ExecutorService ownExecutor = null;
+
+		if (bootstrapExecutor == null) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("spring-data-repository-init-");
+			threadFactory.setDaemon(true);
+
+			ownExecutor = Executors.newFixedThreadPool(Math.min(parallelism, beanNames.length), threadFactory);
+			bootstrapExecutor = ownExecutor;
+		}
+
+		if (logger.isDebugEnabled()) {
+			logger.debug(LogMessage.format("Initializing %d repositories with parallelism %d", beanNames.length,
+					parallelism));
+		}
+
+		Semaphore permits = new Semaphore(parallelism);
+		List<CompletableFuture<?>> futures = new ArrayList<>(beanNames.length);
+
+		try {
+
+			for (String beanName : beanNames) {
+
+				permits.acquireUninterruptibly();
+
+				try {
+					futures.add(CompletableFuture.runAsync(() -> {
+						try {
+							beanFactory.getBean(beanName);
+						} finally {
+							permits.release();
+						}
+					}, bootstrapExecutor));
+				} catch (RuntimeException e) {
+					permits.release();
+					throw e;
+				}
+			}
+
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+
+			throw e;
+		} finally {
+
+			if (ownExecutor != null) {
+				ownExecutor.shutdown();
+			}
+		}
+	}
+
+	private @Nullable Executor getBootstrapExecutor() {
+		return beanFactory instanceof ConfigurableBeanFactory cbf ? cbf.getBootstrapExecutor() : null;
+	}
+
 	@Override
 	public int getOrder() {
 		return Ordered.HIGHEST_PRECEDENCE;
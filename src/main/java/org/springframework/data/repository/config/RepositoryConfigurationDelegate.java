@@ -71,6 +71,16 @@ import org.springframework.util.StopWatch;
  */
 public class RepositoryConfigurationDelegate {
 
+	/**
+	 * Environment property to configure the number of repositories that are initialized concurrently when using
+	 * {@link BootstrapMode#DEFERRED deferred bootstrapping}. Repositories are initialized one after another by default.
+	 * Values greater than {@code 1} initialize repositories on the {@link ConfigurableBeanFactory#getBootstrapExecutor()
+	 * bootstrap executor} (e.g. using virtual threads) if configured or on a bounded thread pool of the given size.
+	 *
+	 * @since 4.2
+	 */
+	public static final String BOOTSTRAP_PARALLELISM_PROPERTY = "spring.data.repositories.bootstrap.parallelism";
+
 	private static final String REPOSITORY_REGISTRATION = "Spring Data %s - Registering repository: %s - Interface: %s - Factory: %s";
 	private static final String MULTIPLE_MODULES = "Multiple Spring Data modules found, entering strict repository configuration mode";
 	private static final String NON_DEFAULT_AUTOWIRE_CANDIDATE_RESOLVER = "Non-default AutowireCandidateResolver (%s) detected. Skipping the registration of LazyRepositoryInjectionPointResolver. Lazy repository injection will not be working";
@@ -203,7 +213,8 @@ public class RepositoryConfigurationDelegate {
 			definitions.add(new BeanComponentDefinition(beanDefinition, beanName));
 		}
 
-		potentiallyLazifyRepositories(configurationsByRepositoryName, registry, configurationSource.getBootstrapMode());
+		potentiallyLazifyRepositories(configurationsByRepositoryName, registry, configurationSource.getBootstrapMode(),
+				environment.getProperty(BOOTSTRAP_PARALLELISM_PROPERTY, Integer.class, 1));
 
 		watch.stop();
 		repoScan.tag("repository.count", Integer.toString(configurations.size()));
@@ -243,9 +254,11 @@ public class RepositoryConfigurationDelegate {
 	 *
 	 * @param configurations must not be {@literal null}.
 	 * @param registry must not be {@literal null}.
+	 * @param mode must not be {@literal null}.
+	 * @param parallelism number of repositories to initialize concurrently in {@link BootstrapMode#DEFERRED} mode.
 	 */
 	private static void potentiallyLazifyRepositories(Map<String, RepositoryConfiguration<?>> configurations,
-			BeanDefinitionRegistry registry, BootstrapMode mode) {
+			BeanDefinitionRegistry registry, BootstrapMode mode, int parallelism) {
 
 		if (!(registry instanceof DefaultListableBeanFactory beanFactory) || BootstrapMode.DEFAULT.equals(mode)) {
 			return;
@@ -270,7 +283,7 @@ public class RepositoryConfigurationDelegate {
 
 			logger.debug("Registering deferred repository initialization listener.");
 			beanFactory.registerSingleton(DeferredRepositoryInitializationListener.class.getName(),
-					new DeferredRepositoryInitializationListener(beanFactory));
+					new DeferredRepositoryInitializationListener(beanFactory, parallelism));
 		}
 	}
 
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 
 import org.jspecify.annotations.Nullable;
 
@@ -37,7 +38,8 @@ import org.springframework.data.repository.util.ReactiveWrapperConverters;
 import org.springframework.data.util.Streamable;
 
 /**
- * Simple domain service to convert query results into a dedicated type.
+ * Simple domain service to convert query results into a dedicated type. Conversion decisions are compiled per method
+ * into a {@link ResultAdaptation} so that post-processing a result does not repeatedly inspect the return type.
  *
  * @author Oliver Gierke
  * @author Mark Paluch
@@ -54,7 +56,7 @@ class QueryExecutionResultHandler {
 	private final Object mutex = new Object();
 
 	// concurrent access guarded by mutex.
-	private Map<MethodParameter, ReturnTypeDescriptor> descriptorCache = Collections.emptyMap();
+	private Map<MethodParameter, ResultAdaptation> adaptationCache = Collections.emptyMap();
 
 	/**
 	 * Creates a new {@link QueryExecutionResultHandler}.
@@ -83,110 +85,145 @@ class QueryExecutionResultHandler {
 	 */
 	@Nullable
 	Object postProcessInvocationResult(@Nullable Object result, MethodParameter method) {
-
-		if (!processingRequired(result, method)) {
-			return result;
-		}
-
-		ReturnTypeDescriptor descriptor = getOrCreateReturnTypeDescriptor(method);
-
-		return postProcessInvocationResult(result, 0, descriptor);
+		return getOrCreateResultAdaptation(method).adapt(result);
 	}
 
-	private ReturnTypeDescriptor getOrCreateReturnTypeDescriptor(MethodParameter method) {
+	private ResultAdaptation getOrCreateResultAdaptation(MethodParameter method) {
 
-		Map<MethodParameter, ReturnTypeDescriptor> descriptorCache = this.descriptorCache;
-		ReturnTypeDescriptor descriptor = descriptorCache.get(method);
+		Map<MethodParameter, ResultAdaptation> adaptationCache = this.adaptationCache;
+		ResultAdaptation adaptation = adaptationCache.get(method);
 
-		if (descriptor == null) {
+		if (adaptation == null) {
 
-			descriptor = ReturnTypeDescriptor.of(method);
+			adaptation = compile(method);
 
-			Map<MethodParameter, ReturnTypeDescriptor> updatedDescriptorCache;
+			Map<MethodParameter, ResultAdaptation> updatedAdaptationCache;
 
-			if (descriptorCache.isEmpty()) {
-				updatedDescriptorCache = Collections.singletonMap(method, descriptor);
+			if (adaptationCache.isEmpty()) {
+				updatedAdaptationCache = Collections.singletonMap(method, adaptation);
 			} else {
-				updatedDescriptorCache = new HashMap<>(descriptorCache.size() + 1, 1);
-				updatedDescriptorCache.putAll(descriptorCache);
-				updatedDescriptorCache.put(method, descriptor);
+				updatedAdaptationCache = new HashMap<>(adaptationCache.size() + 1, 1);
+				updatedAdaptationCache.putAll(adaptationCache);
+				updatedAdaptationCache.put(method, adaptation);
 			}
 
 			synchronized (mutex) {
-				this.descriptorCache = updatedDescriptorCache;
+				this.adaptationCache = updatedAdaptationCache;
 			}
 		}
 
-		return descriptor;
+		return adaptation;
 	}
 
 	/**
-	 * Post-processes the given result of a query invocation to the given type.
+	 * Compiles the {@link ResultAdaptation} for the given method return type. All decisions that depend on the declared
+	 * return type are taken upfront so that adapting a result is a chain of direct calls that does not resolve
+	 * {@link TypeDescriptor}s.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return the compiled {@link ResultAdaptation}.
+	 * @since 4.2
+	 */
+	ResultAdaptation compile(MethodParameter method) {
+
+		ResultAdaptation adaptation = compile(ReturnTypeDescriptor.of(method), 0);
+		Class<?> targetType = method.getParameterType();
+
+		if (isFlowExempt(method)) {
+			return result -> result != null ? result : adaptation.adapt(null);
+		}
+
+		return result -> targetType.isInstance(result) && !(result instanceof Collection<?>) //
+				? result //
+				: adaptation.adapt(result);
+	}
+
+	/**
+	 * Compiles the {@link ResultAdaptation} for the given nesting level of the return type.
 	 *
-	 * @param result can be {@literal null}.
-	 * @param nestingLevel
 	 * @param descriptor must not be {@literal null}.
+	 * @param nestingLevel
 	 * @return
 	 */
-	@Nullable
-	Object postProcessInvocationResult(@Nullable Object result, int nestingLevel, ReturnTypeDescriptor descriptor) {
+	private ResultAdaptation compile(ReturnTypeDescriptor descriptor, int nestingLevel) {
 
 		TypeDescriptor returnTypeDescriptor = descriptor.getReturnTypeDescriptor(nestingLevel);
 
 		if (returnTypeDescriptor == null) {
-			return result;
+			return result -> result;
 		}
 
 		Class<?> expectedReturnType = returnTypeDescriptor.getType();
+		ResultAdaptation valueAdaptation = compileValueAdaptation(descriptor, nestingLevel, returnTypeDescriptor);
 
-		result = unwrapOptional(result);
+		if (!QueryExecutionConverters.supports(expectedReturnType)
+				&& !ReactiveWrapperConverters.supports(expectedReturnType)) {
+			return result -> valueAdaptation.adapt(unwrapOptional(result));
+		}
 
-		if (QueryExecutionConverters.supports(expectedReturnType)
-				|| ReactiveWrapperConverters.supports(expectedReturnType)) {
+		// For a wrapper type, resolve nested values first
+		ResultAdaptation nested = compile(descriptor, nestingLevel + 1);
 
-			// For a wrapper type, try nested resolution first
-			result = postProcessInvocationResult(result, nestingLevel + 1, descriptor);
+		if (conversionRequired(WRAPPER_TYPE, returnTypeDescriptor)) {
+			return result -> conversionService.convert(new NullableWrapper(nested.adapt(unwrapOptional(result))),
+					returnTypeDescriptor);
+		}
 
-			if (conversionRequired(WRAPPER_TYPE, returnTypeDescriptor)) {
-				return conversionService.convert(new NullableWrapper(result), returnTypeDescriptor);
-			}
+		ConversionDecisions conversions = new ConversionDecisions(returnTypeDescriptor, this::conversionRequired);
+
+		return result -> {
+
+			Object value = nested.adapt(unwrapOptional(result));
 
-			if (result != null) {
+			if (value != null) {
 
-				TypeDescriptor source = TypeDescriptor.valueOf(result.getClass());
+				TypeDescriptor source = conversions.getConvertibleSource(value);
 
-				if (conversionRequired(source, returnTypeDescriptor)) {
-					return conversionService.convert(result, returnTypeDescriptor);
+				if (source != null) {
+					return conversionService.convert(value, source, returnTypeDescriptor);
 				}
 			}
-		}
 
-		if (result != null) {
+			return valueAdaptation.adapt(value);
+		};
+	}
 
-			if (ReactiveWrapperConverters.supports(expectedReturnType)) {
-				return ReactiveWrapperConverters.toWrapper(result, expectedReturnType);
-			}
+	/**
+	 * Compiles the {@link ResultAdaptation} for an already unwrapped value.
+	 *
+	 * @param descriptor must not be {@literal null}.
+	 * @param nestingLevel
+	 * @param returnTypeDescriptor must not be {@literal null}.
+	 * @return
+	 */
+	private ResultAdaptation compileValueAdaptation(ReturnTypeDescriptor descriptor, int nestingLevel,
+			TypeDescriptor returnTypeDescriptor) {
 
-			if (result instanceof Collection<?>) {
+		Class<?> expectedReturnType = returnTypeDescriptor.getType();
 
-				TypeDescriptor elementDescriptor = descriptor.getReturnTypeDescriptor(nestingLevel + 1);
-				boolean requiresConversion = requiresConversion((Collection<?>) result, expectedReturnType, elementDescriptor);
+		if (ReactiveWrapperConverters.supports(expectedReturnType)) {
+			return result -> result != null ? ReactiveWrapperConverters.toWrapper(result, expectedReturnType) : null;
+		}
 
-				if (!requiresConversion) {
-					return result;
-				}
+		TypeDescriptor elementDescriptor = descriptor.getReturnTypeDescriptor(nestingLevel + 1);
+		ConversionDecisions conversions = new ConversionDecisions(returnTypeDescriptor, conversionService::canConvert);
+		boolean emptyMapForNull = Map.class.equals(expectedReturnType);
+
+		return result -> {
+
+			if (result == null) {
+				return emptyMapForNull ? CollectionFactory.createMap(expectedReturnType, 0) : null;
 			}
 
-			TypeDescriptor resultDescriptor = TypeDescriptor.forObject(result);
-			return conversionService.canConvert(resultDescriptor, returnTypeDescriptor)
-					? conversionService.convert(result, returnTypeDescriptor)
-					: result;
-		}
+			if (result instanceof Collection<?> collection
+					&& !requiresConversion(collection, expectedReturnType, elementDescriptor)) {
+				return result;
+			}
 
-		return Map.class.equals(expectedReturnType) //
-				? CollectionFactory.createMap(expectedReturnType, 0) //
-				: null;
+			TypeDescriptor source = conversions.getConvertibleSource(result);
 
+			return source != null ? conversionService.convert(result, source, returnTypeDescriptor) : result;
+		};
 	}
 
 	private boolean requiresConversion(Collection<?> collection, Class<?> expectedReturnType,
@@ -245,29 +282,80 @@ class QueryExecutionResultHandler {
 	}
 
 	/**
-	 * Returns whether we have to process the given source object in the first place.
+	 * Returns whether the given method is a Kotlin suspend function returning a {@code Flow}. Spring's AOP invoker
+	 * handles {@code Publisher} to {@code Flow} conversion, so we have to exempt these from post-processing.
 	 *
-	 * @param source can be {@literal null}.
 	 * @param methodParameter must not be {@literal null}.
 	 * @return
 	 */
-	private static boolean processingRequired(@Nullable Object source, MethodParameter methodParameter) {
-
-		Class<?> targetType = methodParameter.getParameterType();
+	private static boolean isFlowExempt(MethodParameter methodParameter) {
 
 		Method method = methodParameter.getMethod();
-		if (source != null && method != null && ReactiveWrappers.KOTLIN_COROUTINES_PRESENT
-				&& KotlinDetector.isSuspendingFunction(method)) {
 
-			// Spring's AOP invoker handles Publisher to Flow conversion, so we have to exempt these from post-processing.
-			if (FLOW_TYPE != null && FLOW_TYPE.isAssignableFrom(targetType)) {
-				return false;
+		return method != null && ReactiveWrappers.KOTLIN_COROUTINES_PRESENT
+				&& KotlinDetector.isSuspendingFunction(method) && FLOW_TYPE != null
+				&& FLOW_TYPE.isAssignableFrom(methodParameter.getParameterType());
+	}
+
+	/**
+	 * Function adapting a query result to the return type of a repository method. Compiled once per method through
+	 * {@link QueryExecutionResultHandler#compile(MethodParameter)}.
+	 *
+	 * @since 4.2
+	 */
+	@FunctionalInterface
+	interface ResultAdaptation {
+
+		/**
+		 * Adapt the given query result.
+		 *
+		 * @param result can be {@literal null}.
+		 * @return the adapted result.
+		 */
+		@Nullable
+		Object adapt(@Nullable Object result);
+	}
+
+	/**
+	 * Caches whether values of the most recently seen type can be converted into the target type. Query methods
+	 * typically return a single result type so that the conversion lookup happens only once.
+	 */
+	private static class ConversionDecisions {
+
+		private final TypeDescriptor target;
+		private final BiPredicate<TypeDescriptor, TypeDescriptor> convertible;
+		private volatile @Nullable Decision last;
+
+		ConversionDecisions(TypeDescriptor target, BiPredicate<TypeDescriptor, TypeDescriptor> convertible) {
+			this.target = target;
+			this.convertible = convertible;
+		}
+
+		/**
+		 * Return the source {@link TypeDescriptor} if the given value requires conversion or {@literal null} if the value
+		 * should be retained as-is.
+		 *
+		 * @param value must not be {@literal null}.
+		 * @return
+		 */
+		@Nullable
+		TypeDescriptor getConvertibleSource(Object value) {
+
+			Class<?> type = value.getClass();
+			Decision decision = this.last;
+
+			if (decision == null || decision.type() != type) {
+
+				TypeDescriptor source = TypeDescriptor.valueOf(type);
+				decision = new Decision(type, convertible.test(source, target) ? source : null);
+				this.last = decision;
 			}
+
+			return decision.source();
 		}
 
-		return !targetType.isInstance(source) //
-				|| source == null //
-				|| Collection.class.isInstance(source);
+		private record Decision(Class<?> type, @Nullable TypeDescriptor source) {
+		}
 	}
 
 	/**
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.repository.core.support;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,13 +32,14 @@ import org.springframework.core.ResolvableType;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryInformation;
-import org.springframework.data.repository.core.support.RepositoryInvocationMulticaster.DefaultRepositoryInvocationMulticaster;
-import org.springframework.data.repository.core.support.RepositoryInvocationMulticaster.NoOpRepositoryInvocationMulticaster;
+import org.springframework.data.repository.core.support.QueryExecutionResultHandler.ResultAdaptation;
+import org.springframework.data.repository.core.support.RepositoryComposition.FragmentMethodInvocation;
 import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.util.QueryExecutionConverters;
+import org.springframework.data.repository.util.QueryExecutionConverters.ExecutionAdapter;
 import org.springframework.data.util.Pair;
 import org.springframework.util.ConcurrentReferenceHashMap;
 
@@ -45,6 +47,11 @@ import org.springframework.util.ConcurrentReferenceHashMap;
  * This {@link MethodInterceptor} intercepts calls to methods of the custom implementation and delegates the to it if
  * configured. Furthermore it resolves method calls to finders and triggers execution of them. You can rely on having a
  * custom repository implementation instance set if this returns true.
+ * <p>
+ * If created with a {@link RepositoryComposition}, the interceptor precomputes a dispatch table that maps each method
+ * of the repository interface directly to its bound query or fragment invocation including the result post-processing.
+ * Calls to such methods are dispatched with a single table lookup and without routing through
+ * {@link RepositoryComposition}.
  *
  * @author Oliver Gierke
  * @author Mark Paluch
@@ -57,11 +64,12 @@ class QueryExecutorMethodInterceptor implements MethodInterceptor {
 	private final RepositoryInformation repositoryInformation;
 	private final Map<Method, RepositoryQuery> queries;
 	private final Map<Method, RepositoryMethodInvoker> invocationMetadataCache = new ConcurrentReferenceHashMap<>();
-	private final Map<Method, MethodParameter> returnTypeMap = new ConcurrentHashMap<>();
+	private final Map<Method, ResultProcessing> resultProcessing = new ConcurrentHashMap<>();
 	private final QueryExecutionResultHandler resultHandler;
 	private final NamedQueries namedQueries;
 	private final List<QueryCreationListener<?>> queryPostProcessors;
 	private final RepositoryInvocationMulticaster invocationMulticaster;
+	private final Map<Method, MethodDispatch> dispatchTable;
 
 	/**
 	 * Creates a new {@link QueryExecutorMethodInterceptor}. Builds a model of {@link QueryMethod}s to be invoked on
@@ -71,12 +79,28 @@ class QueryExecutorMethodInterceptor implements MethodInterceptor {
 			ProjectionFactory projectionFactory, @Nullable QueryLookupStrategy queryLookupStrategy, NamedQueries namedQueries,
 			List<QueryCreationListener<?>> queryPostProcessors,
 			List<RepositoryMethodInvocationListener> methodInvocationListeners) {
+		this(repositoryInformation, projectionFactory, queryLookupStrategy, namedQueries, queryPostProcessors,
+				RepositoryInvocationMulticaster.create(methodInvocationListeners, 1), null);
+	}
+
+	/**
+	 * Creates a new {@link QueryExecutorMethodInterceptor} notifying the given {@link RepositoryInvocationMulticaster}
+	 * about query method invocations. Precomputes a dispatch table for all repository methods if
+	 * {@code dispatchComposition} is given.
+	 *
+	 * @param dispatchComposition the composition to dispatch fragment methods to directly, can be {@literal null} to
+	 *          route fragment method calls through the interceptor chain.
+	 * @since 4.2
+	 */
+	QueryExecutorMethodInterceptor(RepositoryInformation repositoryInformation, ProjectionFactory projectionFactory,
+			@Nullable QueryLookupStrategy queryLookupStrategy, NamedQueries namedQueries,
+			List<QueryCreationListener<?>> queryPostProcessors, RepositoryInvocationMulticaster invocationMulticaster,
+			@Nullable RepositoryComposition dispatchComposition) {
 
 		this.repositoryInformation = repositoryInformation;
 		this.namedQueries = namedQueries;
 		this.queryPostProcessors = queryPostProcessors;
-		this.invocationMulticaster = methodInvocationListeners.isEmpty() ? NoOpRepositoryInvocationMulticaster.INSTANCE
-				: new DefaultRepositoryInvocationMulticaster(methodInvocationListeners);
+		this.invocationMulticaster = invocationMulticaster;
 
 		this.resultHandler = new QueryExecutionResultHandler(RepositoryFactorySupport.CONVERSION_SERVICE);
 
@@ -89,6 +113,47 @@ class QueryExecutorMethodInterceptor implements MethodInterceptor {
 		this.queries = queryLookupStrategy != null
 				? mapMethodsToQuery(repositoryInformation, queryLookupStrategy, projectionFactory)
 				: Collections.emptyMap();
+
+		for (Method method : repositoryInformation.getRepositoryInterface().getMethods()) {
+			this.resultProcessing.put(method, new ResultProcessing(method));
+		}
+
+		this.dispatchTable = dispatchComposition != null ? createDispatchTable(dispatchComposition)
+				: Collections.emptyMap();
+	}
+
+	/**
+	 * Create the dispatch table for all non-default methods of the repository interface that are either backed by a
+	 * query or implemented by a fragment of the given {@link RepositoryComposition}.
+	 */
+	private Map<Method, MethodDispatch> createDispatchTable(RepositoryComposition composition) {
+
+		Class<?> repositoryInterface = repositoryInformation.getRepositoryInterface();
+		Map<Method, MethodDispatch> dispatchTable = new HashMap<>();
+
+		for (Method method : repositoryInterface.getMethods()) {
+
+			if (method.isDefault()) {
+				continue;
+			}
+
+			FragmentMethodInvocation invocation;
+			RepositoryQuery query = queries.get(method);
+
+			if (query != null) {
+
+				RepositoryMethodInvoker invoker = RepositoryMethodInvoker.forRepositoryQuery(method, query);
+				invocation = (listener, args) -> invoker.invoke(repositoryInterface, listener, args);
+			} else {
+				invocation = composition.getFragmentMethodInvocation(method);
+			}
+
+			if (invocation != null) {
+				dispatchTable.put(method, new MethodDispatch(method, invocation));
+			}
+		}
+
+		return Map.copyOf(dispatchTable);
 	}
 
 	private Map<Method, RepositoryQuery> mapMethodsToQuery(RepositoryInformation repositoryInformation,
@@ -133,21 +198,47 @@ class QueryExecutorMethodInterceptor implements MethodInterceptor {
 		}
 	}
 
+	/**
+	 * Eagerly create the {@link RepositoryMethodInvoker invokers} for all query methods to avoid their creation upon the
+	 * first invocation.
+	 *
+	 * @return the number of query methods.
+	 * @since 4.2
+	 */
+	int warmUp() {
+
+		for (Map.Entry<Method, RepositoryQuery> entry : queries.entrySet()) {
+			invocationMetadataCache.computeIfAbsent(entry.getKey(),
+					method -> RepositoryMethodInvoker.forRepositoryQuery(method, entry.getValue()));
+		}
+
+		return queries.size();
+	}
+
 	@Override
 	public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
 
 		Method method = invocation.getMethod();
-		MethodParameter returnType = returnTypeMap.computeIfAbsent(method, it -> new MethodParameter(it, -1));
+		MethodDispatch dispatch = dispatchTable.get(method);
 
-		QueryExecutionConverters.ExecutionAdapter executionAdapter = QueryExecutionConverters //
-				.getExecutionAdapter(returnType.getParameterType());
+		if (dispatch != null) {
+			return dispatch.invoke(invocation.getArguments());
+		}
+
+		ResultProcessing processing = resultProcessing.get(method);
+
+		if (processing == null) {
+			processing = resultProcessing.computeIfAbsent(method, ResultProcessing::new);
+		}
+
+		ResultAdaptation adaptation = processing.adaptation;
+		ExecutionAdapter executionAdapter = processing.executionAdapter;
 
 		if (executionAdapter == null) {
-			return resultHandler.postProcessInvocationResult(doInvoke(invocation), returnType);
+			return adaptation.adapt(doInvoke(invocation));
 		}
 
-		return executionAdapter //
-				.apply(() -> resultHandler.postProcessInvocationResult(doInvoke(invocation), returnType));
+		return executionAdapter.apply(() -> adaptation.adapt(doInvoke(invocation)));
 	}
 
 	@SuppressWarnings("NullAway")
@@ -181,4 +272,60 @@ class QueryExecutorMethodInterceptor implements MethodInterceptor {
 		return queries.containsKey(method);
 	}
 
+	/**
+	 * Precomputed result post-processing of a single repository method consisting of the {@link ExecutionAdapter} and
+	 * the compiled {@link ResultAdaptation}.
+	 */
+	private class ResultProcessing {
+
+		private final @Nullable ExecutionAdapter executionAdapter;
+		private final ResultAdaptation adaptation;
+
+		ResultProcessing(Method method) {
+
+			MethodParameter returnType = new MethodParameter(method, -1);
+
+			this.executionAdapter = QueryExecutionConverters.getExecutionAdapter(returnType.getParameterType());
+			this.adaptation = resultHandler.compile(returnType);
+		}
+	}
+
+	/**
+	 * Precomputed dispatch of a single repository method to its bound invocation including result post-processing.
+	 */
+	private class MethodDispatch {
+
+		private final @Nullable ExecutionAdapter executionAdapter;
+		private final ResultAdaptation adaptation;
+		private final FragmentMethodInvocation invocation;
+
+		MethodDispatch(Method method, FragmentMethodInvocation invocation) {
+
+			ResultProcessing processing = resultProcessing.computeIfAbsent(method, ResultProcessing::new);
+
+			this.executionAdapter = processing.executionAdapter;
+			this.adaptation = processing.adaptation;
+			this.invocation = invocation;
+		}
+
+		@Nullable
+		Object invoke(Object[] args) throws Throwable {
+
+			if (executionAdapter == null) {
+				return adaptation.adapt(doInvoke(args));
+			}
+
+			return executionAdapter.apply(() -> adaptation.adapt(doInvoke(args)));
+		}
+
+		private @Nullable Object doInvoke(Object[] args) throws Throwable {
+
+			try {
+				return invocation.invoke(invocationMulticaster, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+
 }
@@ -291,6 +291,82 @@ public class RepositoryComposition {
 				method, methodToCall, argumentConverter.apply(methodToCall, args));
 	}
 
+	/**
+	 * Resolve the {@link FragmentMethodInvocation} for the given {@link Method} invoked on the composite interface. The
+	 * returned invocation is bound to the implementing fragment and no longer requires any lookup upon invocation.
+	 *
+	 * @param method the method invoked on the composite interface, must not be {@literal null}.
+	 * @return the bound invocation or {@literal null} if no fragment implements the method.
+	 * @since 4.2
+	 */
+	@Nullable
+	FragmentMethodInvocation getFragmentMethodInvocation(Method method) {
+
+		Method methodToCall = getMethod(method);
+
+		if (methodToCall == null) {
+			return null;
+		}
+
+		ReflectionUtils.makeAccessible(methodToCall);
+
+		RepositoryMethodInvoker invoker;
+
+		try {
+			invoker = fragments.findInvoker(method, methodToCall);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+
+		if (invoker == null) {
+			return null;
+		}
+
+		Class<?> repositoryInterface = metadata != null ? metadata.getRepositoryInterface() : method.getDeclaringClass();
+
+		if (argumentConverter == PASSTHRU_ARG_CONVERTER) {
+			return (listener, args) -> invoker.invoke(repositoryInterface, listener, args);
+		}
+
+		return (listener, args) -> invoker.invoke(repositoryInterface, listener,
+				argumentConverter.apply(methodToCall, args));
+	}
+
+	/**
+	 * Eagerly resolve implementation methods and invokers for the given {@link Method methods} invoked on the composite
+	 * interface to avoid resolution upon their first invocation. Methods that are not implemented by any fragment are
+	 * skipped.
+	 *
+	 * @param methods methods invoked on the composite interface, must not be {@literal null}.
+	 * @return the number of resolved methods.
+	 * @since 4.2
+	 */
+	int warmUp(Iterable<Method> methods) {
+
+		int resolved = 0;
+
+		for (Method method : methods) {
+
+			Method methodToCall = getMethod(method);
+
+			if (methodToCall == null) {
+				continue;
+			}
+
+			ReflectionUtils.makeAccessible(methodToCall);
+
+			try {
+				if (fragments.findInvoker(method, methodToCall) != null) {
+					resolved++;
+				}
+			} catch (IllegalArgumentException e) {
+				// structural fragment without implementation, fails upon invocation
+			}
+		}
+
+		return resolved;
+	}
+
 	/**
 	 * Find the {@link RepositoryFragment} for the given {@link Method} invoked on the composite interface.
 	 *
@@ -377,6 +453,25 @@ public class RepositoryComposition {
 		return this.argumentConverter;
 	}
 
+	/**
+	 * Invocation of a repository method that is bound to its implementing {@link RepositoryFragment}.
+	 *
+	 * @since 4.2
+	 */
+	@FunctionalInterface
+	interface FragmentMethodInvocation {
+
+		/**
+		 * Invoke the bound fragment method.
+		 *
+		 * @param listener listener to notify about the call outcome.
+		 * @param args invocation arguments.
+		 * @return the invocation result.
+		 */
+		@Nullable
+		Object invoke(RepositoryInvocationMulticaster listener, Object[] args) throws Throwable;
+	}
+
 	/**
 	 * Value object representing an ordered list of {@link RepositoryFragment fragments}.
 	 *
@@ -524,25 +619,45 @@ public class RepositoryComposition {
 		Object invoke(@Nullable Class<?> repositoryInterface, RepositoryInvocationMulticaster listener,
 				Method invokedMethod, Method methodToCall, Object[] args) throws Throwable {
 
-			RepositoryFragment<?> fragment = fragmentCache.computeIfAbsent(methodToCall, this::findImplementationFragment);
-			Optional<?> optional = fragment.getImplementation();
+			RepositoryMethodInvoker repositoryMethodInvoker = findInvoker(invokedMethod, methodToCall);
 
-			if (optional.isEmpty()) {
+			if (repositoryMethodInvoker == null) {
 				throw new IllegalArgumentException(String.format("No implementation found for method %s", methodToCall));
 			}
 
+			Assert.notNull(repositoryInterface, "Repository interface must not be null");
+
+			return repositoryMethodInvoker.invoke(repositoryInterface, listener, args);
+		}
+
+		/**
+		 * Find the {@link RepositoryMethodInvoker} for the given invoked method and implementation method.
+		 *
+		 * @param invokedMethod the method invoked on the composite interface.
+		 * @param methodToCall the implementation method.
+		 * @return the invoker or {@literal null} if the fragment implementing {@code methodToCall} has no implementation.
+		 * @throws IllegalArgumentException if no fragment is found for {@code methodToCall}.
+		 */
+		@Nullable
+		RepositoryMethodInvoker findInvoker(Method invokedMethod, Method methodToCall) {
+
 			RepositoryMethodInvoker repositoryMethodInvoker = invocationMetadataCache.get(invokedMethod);
 
-			if (repositoryMethodInvoker == null) {
+			if (repositoryMethodInvoker != null) {
+				return repositoryMethodInvoker;
+			}
 
-				repositoryMethodInvoker = RepositoryMethodInvoker.forFragmentMethod(invokedMethod, optional.get(),
-						methodToCall);
-				invocationMetadataCache.put(invokedMethod, repositoryMethodInvoker);
+			RepositoryFragment<?> fragment = fragmentCache.computeIfAbsent(methodToCall, this::findImplementationFragment);
+			Optional<?> optional = fragment.getImplementation();
+
+			if (optional.isEmpty()) {
+				return null;
 			}
 
-			Assert.notNull(repositoryInterface, "Repository interface must not be null");
+			repositoryMethodInvoker = RepositoryMethodInvoker.forFragmentMethod(invokedMethod, optional.get(), methodToCall);
+			invocationMetadataCache.put(invokedMethod, repositoryMethodInvoker);
 
-			return repositoryMethodInvoker.invoke(repositoryInterface, listener, args);
+			return repositoryMethodInvoker;
 		}
 
 		private RepositoryFragment<?> findImplementationFragment(Method key) {
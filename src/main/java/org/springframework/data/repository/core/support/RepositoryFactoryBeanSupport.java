@@ -26,6 +26,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ListableBeanFactory;
@@ -34,6 +35,7 @@ import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.aot.AbstractAotProcessor;
 import org.springframework.core.env.Environment;
+import org.springframework.data.core.PropertyPathCache;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
@@ -48,6 +50,7 @@ import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodValueEvaluationContextAccessor;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.data.repository.query.parser.PartTreeCache;
 import org.springframework.data.spel.EvaluationContextProvider;
 import org.springframework.data.util.Lazy;
 import org.springframework.util.Assert;
@@ -70,13 +73,14 @@ import org.springframework.util.Assert;
  * @author Johannes Englmeier
  */
 public abstract class RepositoryFactoryBeanSupport<T extends Repository<S, ID>, S, ID>
-		implements InitializingBean, RepositoryFactoryInformation<S, ID>, FactoryBean<T>, ApplicationEventPublisherAware,
-		BeanClassLoaderAware, BeanFactoryAware, EnvironmentAware {
+		implements InitializingBean, DisposableBean, RepositoryFactoryInformation<S, ID>, FactoryBean<T>,
+		ApplicationEventPublisherAware, BeanClassLoaderAware, BeanFactoryAware, EnvironmentAware {
 
 	private final Class<? extends T> repositoryInterface;
 
 	private @Nullable RepositoryFactorySupport factory;
 	private boolean exposeMetadata;
+	private boolean warmUp;
 	private @Nullable Key queryLookupStrategyKey;
 	private @Nullable Class<?> repositoryBaseClass;
 	private @Nullable Object customImplementation;
@@ -132,6 +136,20 @@ public abstract class RepositoryFactoryBeanSupport<T extends Repository<S, ID>,
 		this.exposeMetadata = exposeMetadata;
 	}
 
+	/**
+	 * Set whether to populate all per-method caches of the repository proxy when creating the repository instead of
+	 * upon the first invocation of each method. Unless configured for {@link #setLazyInit(boolean) lazy initialization},
+	 * the repository is created and warmed up during {@link #afterPropertiesSet()}.
+	 * <p>
+	 * Default is {@code false}.
+	 *
+	 * @since 4.2
+	 * @see RepositoryFactorySupport#setWarmUp(boolean)
+	 */
+	public void setWarmUp(boolean warmUp) {
+		this.warmUp = warmUp;
+	}
+
 	/**
 	 * Set the {@link QueryLookupStrategy.Key} to be used.
 	 *
@@ -325,6 +343,7 @@ public abstract class RepositoryFactoryBeanSupport<T extends Repository<S, ID>,
 
 		this.factory = createRepositoryFactory();
 		this.factory.setExposeMetadata(exposeMetadata);
+		this.factory.setWarmUp(warmUp);
 		this.factory.setQueryLookupStrategyKey(queryLookupStrategyKey);
 		this.factory.setNamedQueries(namedQueries);
 		this.factory.setEvaluationContextProvider(evaluationContextProvider != null ? evaluationContextProvider
@@ -371,6 +390,22 @@ public abstract class RepositoryFactoryBeanSupport<T extends Repository<S, ID>,
 		}
 	}
 
+	/**
+	 * Releases the {@link PartTreeCache parsed query methods} and {@link PropertyPathCache property paths} cached for the
+	 * bean {@link ClassLoader} so that the caches do not retain the class loader once the application context is shut
+	 * down.
+	 *
+	 * @since 4.2
+	 */
+	@Override
+	public void destroy() {
+
+		if (this.classLoader != null) {
+			PartTreeCache.clear(this.classLoader);
+			PropertyPathCache.clear(this.classLoader);
+		}
+	}
+
 	/**
 	 * Create the actual {@link RepositoryFactorySupport} instance.
 	 *
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.aopalliance.intercept.MethodInterceptor;
@@ -62,8 +63,6 @@ import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.core.RepositoryMethodContext;
 import org.springframework.data.repository.core.RepositoryMethodContextHolder;
 import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
-import org.springframework.data.repository.core.support.RepositoryInvocationMulticaster.DefaultRepositoryInvocationMulticaster;
-import org.springframework.data.repository.core.support.RepositoryInvocationMulticaster.NoOpRepositoryInvocationMulticaster;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethod;
@@ -113,9 +112,12 @@ public abstract class RepositoryFactorySupport
 
 	private @Nullable Class<?> repositoryBaseClass;
 	private boolean exposeMetadata;
+	private boolean directMethodDispatch;
+	private boolean warmUp;
 	private QueryLookupStrategy.@Nullable Key queryLookupStrategyKey;
 	private final List<QueryCreationListener<?>> queryPostProcessors;
 	private final List<RepositoryMethodInvocationListener> methodInvocationListeners;
+	private int invocationSampleRate = 1;
 	private NamedQueries namedQueries;
 	private @Nullable ClassLoader classLoader;
 	private EvaluationContextProvider evaluationContextProvider;
@@ -159,6 +161,37 @@ public abstract class RepositoryFactorySupport
 		this.exposeMetadata = exposeMetadata;
 	}
 
+	/**
+	 * Configures whether repository proxies should dispatch repository method calls directly to their query or fragment
+	 * implementation. Direct dispatch precomputes a dispatch table per repository interface at creation time that maps
+	 * each declared method to its bound query or fragment invocation. Method calls no longer resolve the implementing
+	 * fragment, the invoker and the return type upon invocation.
+	 * <p>
+	 * Default is {@literal false}.
+	 *
+	 * @param directMethodDispatch whether to dispatch method calls directly.
+	 * @since 4.2
+	 */
+	public void setDirectMethodDispatch(boolean directMethodDispatch) {
+		this.directMethodDispatch = directMethodDispatch;
+	}
+
+	/**
+	 * Configures whether to eagerly populate all per-method caches of a repository proxy when creating the repository.
+	 * Warming up resolves fragment implementation methods and creates method invokers for all repository methods upfront
+	 * instead of upon their first invocation. This increases the time to create a repository but avoids first-invocation
+	 * latency and contention when the caches would be populated concurrently. The time spent is reported through the
+	 * {@code spring.data.repository.warmup} {@link StartupStep}.
+	 * <p>
+	 * Default is {@literal false}.
+	 *
+	 * @param warmUp whether to warm up per-method caches when creating a repository.
+	 * @since 4.2
+	 */
+	public void setWarmUp(boolean warmUp) {
+		this.warmUp = warmUp;
+	}
+
 	/**
 	 * Sets the strategy of how to look up a query to execute finders.
 	 *
@@ -250,6 +283,22 @@ public abstract class RepositoryFactorySupport
 		this.methodInvocationListeners.add(listener);
 	}
 
+	/**
+	 * Configures the rate at which repository method invocations are captured for
+	 * {@link RepositoryMethodInvocationListener}s. A rate of {@code n} captures and reports a random sample of on average
+	 * one out of {@code n} invocations. Defaults to {@code 1} to capture every invocation. Invocations are not captured at all if no
+	 * {@link RepositoryMethodInvocationListener} is registered.
+	 *
+	 * @param sampleRate capture on average one out of n invocations, must be greater than zero.
+	 * @since 4.2
+	 * @see #addInvocationListener(RepositoryMethodInvocationListener)
+	 */
+	public void setInvocationSampleRate(int sampleRate) {
+
+		Assert.isTrue(sampleRate > 0, "Sample rate must be greater than zero");
+		this.invocationSampleRate = sampleRate;
+	}
+
 	/**
 	 * Adds {@link RepositoryProxyPostProcessor}s to the factory to allow manipulation of the {@link ProxyFactory} before
 	 * the proxy gets created. Note that the {@link QueryExecutorMethodInterceptor} will be added to the proxy
@@ -409,12 +458,20 @@ public abstract class RepositoryFactorySupport
 
 		Optional<QueryLookupStrategy> queryLookupStrategy = getQueryLookupStrategy(queryLookupStrategyKey,
 				getValueExpressionDelegate());
-		result.addAdvice(new QueryExecutorMethodInterceptor(information, getProjectionFactory(),
-				queryLookupStrategy.orElse(null),
-				namedQueries, queryPostProcessors, methodInvocationListeners));
+		RepositoryInvocationMulticaster invocationMulticaster = RepositoryInvocationMulticaster
+				.create(methodInvocationListeners, invocationSampleRate);
 
+		QueryExecutorMethodInterceptor queryExecutor = new QueryExecutorMethodInterceptor(information,
+				getProjectionFactory(), queryLookupStrategy.orElse(null), namedQueries, queryPostProcessors,
+				invocationMulticaster, directMethodDispatch ? compositionToUse : null);
+
+		result.addAdvice(queryExecutor);
 		result.addAdvice(
-				new ImplementationMethodExecutionInterceptor(information, compositionToUse, methodInvocationListeners));
+				new ImplementationMethodExecutionInterceptor(information, compositionToUse, invocationMulticaster));
+
+		if (warmUp) {
+			warmUp(applicationStartup, information, queryExecutor, compositionToUse);
+		}
 
 		T repository = (T) result.getProxy(classLoader);
 		repositoryProxyStep.end();
@@ -428,6 +485,38 @@ public abstract class RepositoryFactorySupport
 		return repository;
 	}
 
+	/**
+	 * Populate per-method caches of the repository proxy for all methods of the repository interface.
+	 */
+	private void warmUp(ApplicationStartup applicationStartup, RepositoryInformation information,
+			QueryExecutorMethodInterceptor queryExecutor, RepositoryComposition composition) {
+
+		Class<?> repositoryInterface = information.getRepositoryInterface();
+		StartupStep warmUpStep = onEvent(applicationStartup, "spring.data.repository.warmup", repositoryInterface);
+		long start = System.nanoTime();
+
+		List<Method> methods = new ArrayList<>();
+
+		for (Method method : repositoryInterface.getMethods()) {
+			if (!method.isDefault() && !information.isQueryMethod(method)) {
+				methods.add(method);
+			}
+		}
+
+		int queryMethods = queryExecutor.warmUp();
+		int fragmentMethods = composition.warmUp(methods);
+		long duration = System.nanoTime() - start;
+
+		warmUpStep.tag("query-method.count", String.valueOf(queryMethods));
+		warmUpStep.tag("fragment-method.count", String.valueOf(fragmentMethods));
+		warmUpStep.end();
+
+		if (logger.isDebugEnabled()) {
+			logger.debug(LogMessage.format("Warmed up %d query and %d fragment methods of %s in %d ms.", queryMethods,
+					fragmentMethods, repositoryInterface.getName(), TimeUnit.NANOSECONDS.toMillis(duration)));
+		}
+	}
+
 	ValueExpressionDelegate getValueExpressionDelegate() {
 		return new ValueExpressionDelegate(
 				new QueryMethodValueEvaluationContextAccessor(getEnvironment(), evaluationContextProvider), VALUE_PARSER);
@@ -674,10 +763,9 @@ public abstract class RepositoryFactorySupport
 		private final RepositoryInvocationMulticaster invocationMulticaster;
 
 		public ImplementationMethodExecutionInterceptor(RepositoryInformation information,
-				RepositoryComposition composition, List<RepositoryMethodInvocationListener> methodInvocationListeners) {
+				RepositoryComposition composition, RepositoryInvocationMulticaster invocationMulticaster) {
 			this.composition = composition;
-			this.invocationMulticaster = methodInvocationListeners.isEmpty() ? NoOpRepositoryInvocationMulticaster.INSTANCE
-					: new DefaultRepositoryInvocationMulticaster(methodInvocationListeners);
+			this.invocationMulticaster = invocationMulticaster;
 		}
 
 		@Override
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult.State;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryMethodInvocationListener} collecting per-repository and per-method invocation metrics without
+ * requiring an external metrics library. Metrics include invocation, error and cancellation counts, a latency histogram
+ * and result sizes.
+ * <p>
+ * All counters are striped ({@link LongAdder}, {@link LongAccumulator}) so that concurrent repository invocations do
+ * not contend on a single memory location. Recording an invocation is lock-free. Metrics can be registered with a
+ * repository factory through {@link RepositoryFactorySupport#addInvocationListener(RepositoryMethodInvocationListener)}
+ * and exported to a metrics system by inspecting {@link #getMetrics()}.
+ *
+ * @since 4.2
+ */
+public class RepositoryInvocationMetrics implements RepositoryMethodInvocationListener {
+
+	private final Map<Class<?>, Map<Method, MethodMetrics>> metrics = new ConcurrentHashMap<>();
+
+	@Override
+	public void afterInvocation(RepositoryMethodInvocation invocation) {
+		getOrCreate(invocation.getRepositoryInterface(), invocation.getMethod()).record(invocation);
+	}
+
+	/**
+	 * Return a snapshot of all collected metrics.
+	 *
+	 * @return all collected metrics. The returned list is a snapshot and is not updated with newly invoked methods.
+	 */
+	public List<MethodMetrics> getMetrics() {
+
+		List<MethodMetrics> result = new ArrayList<>();
+
+		for (Map<Method, MethodMetrics> methodMetrics : metrics.values()) {
+			result.addAll(methodMetrics.values());
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Return the metrics for the given repository interface.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @return the metrics for all invoked methods of the given repository interface.
+	 */
+	public List<MethodMetrics> getMetrics(Class<?> repositoryInterface) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null");
+
+		Map<Method, MethodMetrics> methodMetrics = metrics.get(repositoryInterface);
+
+		return methodMetrics == null ? Collections.emptyList() : List.copyOf(methodMetrics.values());
+	}
+
+	/**
+	 * Return the metrics for the given repository method.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return the metrics for the given repository method or {@literal null} if the method was not invoked yet.
+	 */
+	public @Nullable MethodMetrics getMetrics(Class<?> repositoryInterface, Method method) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null");
+		Assert.notNull(method, "Method must not be null");
+
+		Map<Method, MethodMetrics> methodMetrics = metrics.get(repositoryInterface);
+
+		return methodMetrics == null ? null : methodMetrics.get(method);
+	}
+
+	/**
+	 * Discard all collected metrics.
+	 */
+	public void reset() {
+		metrics.clear();
+	}
+
+	private MethodMetrics getOrCreate(Class<?> repositoryInterface, Method method) {
+
+		// avoid computeIfAbsent locking on the hot path
+		Map<Method, MethodMetrics> methodMetrics = metrics.get(repositoryInterface);
+
+		if (methodMetrics == null) {
+			methodMetrics = metrics.computeIfAbsent(repositoryInterface, it -> new ConcurrentHashMap<>());
+		}
+
+		MethodMetrics result = methodMetrics.get(method);
+
+		if (result == null) {
+			result = methodMetrics.computeIfAbsent(method, it -> new MethodMetrics(repositoryInterface, it));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Metrics of a single repository method.
+	 * <p>
+	 * Latencies are recorded in a base-2 logarithmic histogram: bucket {@code n} counts invocations whose duration in
+	 * nanoseconds is within {@code [2^n, 2^(n+1))}. Percentiles derived from the histogram are therefore upper bounds
+	 * within a factor of two of the actual value.
+	 */
+	public static class MethodMetrics {
+
+		private static final int BUCKETS = 64;
+
+		private final Class<?> repositoryInterface;
+		private final Method method;
+
+		private final LongAdder invocations = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder canceled = new LongAdder();
+		private final LongAdder totalDuration = new LongAdder();
+		private final LongAccumulator maxDuration = new LongAccumulator(Long::max, 0);
+		private final LongAdder resultCount = new LongAdder();
+		private final LongAdder totalResultSize = new LongAdder();
+		private final LongAccumulator maxResultSize = new LongAccumulator(Long::max, 0);
+		private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+		MethodMetrics(Class<?> repositoryInterface, Method method) {
+
+			this.repositoryInterface = repositoryInterface;
+			this.method = method;
+
+			for (int i = 0; i < histogram.length; i++) {
+				histogram[i] = new LongAdder();
+			}
+		}
+
+		void record(RepositoryMethodInvocation invocation) {
+
+			long duration = Math.max(0, invocation.getDuration(TimeUnit.NANOSECONDS));
+
+			invocations.increment();
+			totalDuration.add(duration);
+			maxDuration.accumulate(duration);
+			histogram[bucket(duration)].increment();
+
+			RepositoryMethodInvocationListener.RepositoryMethodInvocationResult result = invocation.getResult();
+
+			if (result == null) {
+				return;
+			}
+
+			if (result.getState() == State.ERROR) {
+				errors.increment();
+			} else if (result.getState() == State.CANCELED) {
+				canceled.increment();
+			}
+
+			long resultSize = result.getResultSize();
+
+			if (resultSize >= 0) {
+				resultCount.increment();
+				totalResultSize.add(resultSize);
+				maxResultSize.accumulate(resultSize);
+			}
+		}
+
+		private static int bucket(long nanos) {
+			return nanos == 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+		}
+
+		/**
+		 * @return the repository interface.
+		 */
+		public Class<?> getRepositoryInterface() {
+			return repositoryInterface;
+		}
+
+		/**
+		 * @return the invoked repository method.
+		 */
+		public Method getMethod() {
+			return method;
+		}
+
+		/**
+		 * @return the number of invocations.
+		 */
+		public long getInvocationCount() {
+			return invocations.sum();
+		}
+
+		/**
+		 * @return the number of invocations that completed with an error.
+		 */
+		public long getErrorCount() {
+			return errors.sum();
+		}
+
+		/**
+		 * @return the number of canceled invocations.
+		 */
+		public long getCanceledCount() {
+			return canceled.sum();
+		}
+
+		/**
+		 * @return the accumulated duration of all invocations.
+		 */
+		public Duration getTotalDuration() {
+			return Duration.ofNanos(totalDuration.sum());
+		}
+
+		/**
+		 * @return the longest recorded invocation duration.
+		 */
+		public Duration getMaxDuration() {
+			return Duration.ofNanos(maxDuration.get());
+		}
+
+		/**
+		 * @return the mean invocation duration or {@link Duration#ZERO} if the method was not invoked.
+		 */
+		public Duration getMeanDuration() {
+
+			long count = invocations.sum();
+			return count == 0 ? Duration.ZERO : Duration.ofNanos(totalDuration.sum() / count);
+		}
+
+		/**
+		 * Approximate the invocation duration at the given percentile from the latency histogram.
+		 *
+		 * @param percentile the percentile within {@code (0, 1]}, e.g. {@code 0.99}.
+		 * @return the upper bound of the histogram bucket containing the percentile, capped by the max duration.
+		 */
+		public Duration getDurationAtPercentile(double percentile) {
+
+			Assert.isTrue(percentile > 0 && percentile <= 1, "Percentile must be within (0, 1]");
+
+			long[] counts = getHistogram();
+			long total = 0;
+
+			for (long count : counts) {
+				total += count;
+			}
+
+			if (total == 0) {
+				return Duration.ZERO;
+			}
+
+			long threshold = (long) Math.ceil(total * percentile);
+			long seen = 0;
+
+			for (int i = 0; i < counts.length; i++) {
+
+				seen += counts[i];
+
+				if (seen >= threshold) {
+					long upperBound = i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+					return Duration.ofNanos(Math.min(upperBound, maxDuration.get()));
+				}
+			}
+
+			return getMaxDuration();
+		}
+
+		/**
+		 * Return a snapshot of the latency histogram. Index {@code n} holds the number of invocations with a duration
+		 * within {@code [2^n, 2^(n+1))} nanoseconds.
+		 *
+		 * @return the histogram bucket counts.
+		 */
+		public long[] getHistogram() {
+
+			long[] counts = new long[histogram.length];
+
+			for (int i = 0; i < histogram.length; i++) {
+				counts[i] = histogram[i].sum();
+			}
+
+			return counts;
+		}
+
+		/**
+		 * @return the number of invocations that reported a result size.
+		 * @see RepositoryMethodInvocationListener.RepositoryMethodInvocationResult#getResultSize()
+		 */
+		public long getResultCount() {
+			return resultCount.sum();
+		}
+
+		/**
+		 * @return the total number of returned elements.
+		 */
+		public long getTotalResultSize() {
+			return totalResultSize.sum();
+		}
+
+		/**
+		 * @return the largest number of elements returned by a single invocation.
+		 */
+		public long getMaxResultSize() {
+			return maxResultSize.get();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s.%s: invocations=%d, errors=%d, mean=%s, max=%s", repositoryInterface.getSimpleName(),
+					method.getName(), getInvocationCount(), getErrorCount(), getMeanDuration(), getMaxDuration());
+		}
+	}
+}
@@ -17,10 +17,12 @@ package org.springframework.data.repository.core.support;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.util.Assert;
 
 /**
  * Interface to be implemented by repository method listeners. Listeners are notified with the called {@link Method},
@@ -40,6 +42,43 @@ interface RepositoryInvocationMulticaster {
 	 */
 	void notifyListeners(Method method, @Nullable Object[] args, RepositoryMethodInvocation result);
 
+	/**
+	 * Returns whether the upcoming invocation should be captured and reported through
+	 * {@link #notifyListeners(Method, Object[], RepositoryMethodInvocation)}. Invokers skip capturing the invocation
+	 * outcome and its duration entirely if this method returns {@literal false}.
+	 *
+	 * @return {@literal true} if the upcoming invocation should be captured.
+	 * @since 4.2
+	 */
+	default boolean shouldCaptureInvocation() {
+		return true;
+	}
+
+	/**
+	 * Create a {@link RepositoryInvocationMulticaster} for the given {@link RepositoryMethodInvocationListener}s that
+	 * captures on average one out of {@code sampleRate} invocations.
+	 *
+	 * @param methodInvocationListeners must not be {@literal null}.
+	 * @param sampleRate capture on average one out of n invocations, must be greater than zero.
+	 * @return the {@link RepositoryInvocationMulticaster} to use.
+	 * @since 4.2
+	 */
+	static RepositoryInvocationMulticaster create(List<RepositoryMethodInvocationListener> methodInvocationListeners,
+			int sampleRate) {
+
+		Assert.notNull(methodInvocationListeners, "RepositoryMethodInvocationListeners must not be null");
+		Assert.isTrue(sampleRate > 0, "Sample rate must be greater than zero");
+
+		if (methodInvocationListeners.isEmpty()) {
+			return NoOpRepositoryInvocationMulticaster.INSTANCE;
+		}
+
+		DefaultRepositoryInvocationMulticaster multicaster = new DefaultRepositoryInvocationMulticaster(
+				List.copyOf(methodInvocationListeners));
+
+		return sampleRate == 1 ? multicaster : new SamplingRepositoryInvocationMulticaster(multicaster, sampleRate);
+	}
+
 	/**
 	 * {@link RepositoryInvocationMulticaster} that does nothing upon invocation.
 	 *
@@ -53,6 +92,11 @@ interface RepositoryInvocationMulticaster {
 		public void notifyListeners(Method method, @Nullable Object[] args, RepositoryMethodInvocation result) {
 
 		}
+
+		@Override
+		public boolean shouldCaptureInvocation() {
+			return false;
+		}
 	}
 
 	/**
@@ -78,4 +122,33 @@ interface RepositoryInvocationMulticaster {
 			}
 		}
 	}
+
+	/**
+	 * {@link RepositoryInvocationMulticaster} that captures a random sample of on average one out of n invocations and
+	 * delegates notifications to another {@link RepositoryInvocationMulticaster}. Sampling uses {@link ThreadLocalRandom}
+	 * to avoid contention on shared state across invoking threads.
+	 *
+	 * @since 4.2
+	 */
+	class SamplingRepositoryInvocationMulticaster implements RepositoryInvocationMulticaster {
+
+		private final RepositoryInvocationMulticaster delegate;
+		private final int sampleRate;
+
+		SamplingRepositoryInvocationMulticaster(RepositoryInvocationMulticaster delegate, int sampleRate) {
+
+			this.delegate = delegate;
+			this.sampleRate = sampleRate;
+		}
+
+		@Override
+		public void notifyListeners(Method method, @Nullable Object[] args, RepositoryMethodInvocation result) {
+			delegate.notifyListeners(method, args, result);
+		}
+
+		@Override
+		public boolean shouldCaptureInvocation() {
+			return ThreadLocalRandom.current().nextInt(sampleRate) == 0 && delegate.shouldCaptureInvocation();
+		}
+	}
 }
@@ -102,6 +102,20 @@ public interface RepositoryMethodInvocationListener {
 		@Nullable
 		Throwable getError();
 
+		/**
+		 * Return the number of elements returned by the invocation. Collections, arrays, {@link java.util.Map maps} and
+		 * {@link org.springframework.data.domain.Slice slices} report their number of elements. {@link java.util.Optional}
+		 * results report {@code 0} or {@code 1}, {@literal null} results report {@code 0} and
+		 * {@link java.util.stream.Stream streams} report the number of consumed elements. Other objects report {@code 1}.
+		 *
+		 * @return the number of returned elements or {@code -1} if the number of elements is not known, for example for
+		 *         reactive or failed invocations.
+		 * @since 4.2
+		 */
+		default long getResultSize() {
+			return -1;
+		}
+
 		public enum State {
 			SUCCESS, ERROR, CANCELED, RUNNING
 		}
@@ -21,10 +21,22 @@ import kotlinx.coroutines.flow.Flow;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
@@ -32,12 +44,14 @@ import org.reactivestreams.Publisher;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.core.KotlinDetector;
 import org.springframework.data.core.ReactiveWrappers;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
 import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
 import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult.State;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.util.ReactiveWrapperConverters;
 import org.springframework.data.util.KotlinReflectionUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Invoker for repository methods. Used to invoke query methods and fragment methods. This invoker considers Kotlin
@@ -161,6 +175,10 @@ abstract class RepositoryMethodInvoker {
 	private @Nullable Object doInvoke(Class<?> repositoryInterface, RepositoryInvocationMulticaster multicaster,
 			@Nullable Object[] args) throws Exception {
 
+		if (!multicaster.shouldCaptureInvocation()) {
+			return invokable.invoke(args);
+		}
+
 		RepositoryMethodInvocationCaptor invocationResultCaptor = RepositoryMethodInvocationCaptor
 				.captureInvocationOn(repositoryInterface);
 
@@ -172,12 +190,17 @@ abstract class RepositoryMethodInvoker {
 				return new ReactiveInvocationListenerDecorator().decorate(repositoryInterface, multicaster, args, result);
 			}
 
-			if (result instanceof Stream) {
-				return ((Stream<?>) result).onClose(
-						() -> multicaster.notifyListeners(method, args, computeInvocationResult(invocationResultCaptor.success())));
+			if (result instanceof Stream<?> stream) {
+
+				CountingSpliterator<?> elements = new CountingSpliterator<>(stream.spliterator(), new LongAdder());
+
+				return StreamSupport.stream(elements, stream.isParallel()).onClose(stream::close)
+						.onClose(() -> multicaster.notifyListeners(method, args,
+								computeInvocationResult(invocationResultCaptor.success(elements.getCount()))));
 			}
 
-			multicaster.notifyListeners(method, args, computeInvocationResult(invocationResultCaptor.success()));
+			multicaster.notifyListeners(method, args,
+					computeInvocationResult(invocationResultCaptor.success(getResultSize(result))));
 
 			return result;
 		} catch (Exception e) {
@@ -186,6 +209,42 @@ abstract class RepositoryMethodInvoker {
 		}
 	}
 
+	/**
+	 * Determine the number of elements of a non-reactive and non-{@link Stream} invocation result.
+	 *
+	 * @param result the invocation result.
+	 * @return the number of elements.
+	 * @see RepositoryMethodInvocationResult#getResultSize()
+	 */
+	static long getResultSize(@Nullable Object result) {
+
+		if (result == null) {
+			return 0;
+		}
+
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+
+		if (result instanceof Slice<?> slice) {
+			return slice.getNumberOfElements();
+		}
+
+		if (result instanceof Optional<?> optional) {
+			return optional.isPresent() ? 1 : 0;
+		}
+
+		if (result instanceof Map<?, ?> map) {
+			return map.size();
+		}
+
+		if (result.getClass().isArray()) {
+			return Array.getLength(result);
+		}
+
+		return 1;
+	}
+
 	private RepositoryMethodInvocation computeInvocationResult(RepositoryMethodInvocationCaptor captured) {
 		return new RepositoryMethodInvocation(captured.getRepositoryInterface(), method, captured.getCapturedResult(),
 				captured.getDuration());
@@ -197,6 +256,76 @@ abstract class RepositoryMethodInvoker {
 		Object invoke(@Nullable Object[] args) throws Exception;
 	}
 
+	/**
+	 * {@link Spliterator} counting the elements consumed from a {@link Stream} result. The spliterator does not report
+	 * {@link Spliterator#SIZED} so that terminal operations such as {@link Stream#count()} traverse the elements instead
+	 * of short-circuiting on a known size.
+	 *
+	 * @param <T> the element type.
+	 */
+	private static class CountingSpliterator<T> implements Spliterator<T> {
+
+		private final Spliterator<T> delegate;
+		private final LongAdder count;
+
+		CountingSpliterator(Spliterator<T> delegate, LongAdder count) {
+			this.delegate = delegate;
+			this.count = count;
+		}
+
+		long getCount() {
+			return count.sum();
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+
+			if (delegate.tryAdvance(action)) {
+				count.increment();
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+
+			long[] consumed = new long[1];
+
+			try {
+				delegate.forEachRemaining(it -> {
+					consumed[0]++;
+					action.accept(it);
+				});
+			} finally {
+				count.add(consumed[0]);
+			}
+		}
+
+		@Override
+		public @Nullable Spliterator<T> trySplit() {
+
+			Spliterator<T> split = delegate.trySplit();
+			return split != null ? new CountingSpliterator<>(split, count) : null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return delegate.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return delegate.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+		}
+
+		@Override
+		public @Nullable Comparator<? super T> getComparator() {
+			return delegate.getComparator();
+		}
+	}
+
 	/**
 	 * Implementation to invoke query methods.
 	 */
@@ -263,7 +392,30 @@ abstract class RepositoryMethodInvoker {
 
 		public RepositoryFragmentMethodInvoker(CoroutineAdapterInformation adapterInformation, Method declaredMethod,
 				Object instance, Method baseClassMethod) {
-			super(declaredMethod, args -> {
+			super(declaredMethod, createInvokable(adapterInformation, instance, baseClassMethod));
+		}
+
+		private static Invokable createInvokable(CoroutineAdapterInformation adapterInformation, Object instance,
+				Method baseClassMethod) {
+
+			if (!adapterInformation.shouldAdaptReactiveToSuspended()) {
+
+				MethodHandle methodHandle = findMethodHandle(instance, baseClassMethod);
+
+				if (methodHandle != null) {
+					return args -> {
+						try {
+							return (Object) methodHandle.invokeExact(args);
+						} catch (Exception e) {
+							throw e;
+						} catch (Throwable e) {
+							throw new RuntimeException(e);
+						}
+					};
+				}
+			}
+
+			return args -> {
 				try {
 					if (adapterInformation.shouldAdaptReactiveToSuspended()) {
 						/*
@@ -281,7 +433,33 @@ abstract class RepositoryMethodInvoker {
 				} catch (Throwable e) {
 					throw new RuntimeException(e);
 				}
-			});
+			};
+		}
+
+		/**
+		 * Create a {@link MethodHandle} bound to {@code instance} that accepts the invocation arguments as
+		 * {@code Object[]} to avoid reflective invocation.
+		 *
+		 * @return the {@link MethodHandle} or {@literal null} if the method cannot be accessed through a
+		 *         {@link MethodHandle}.
+		 */
+		private static @Nullable MethodHandle findMethodHandle(Object instance, Method method) {
+
+			if (method.isVarArgs() || Modifier.isStatic(method.getModifiers())) {
+				return null;
+			}
+
+			try {
+
+				ReflectionUtils.makeAccessible(method);
+
+				return MethodHandles.lookup().unreflect(method) //
+						.bindTo(instance) //
+						.asSpreader(Object[].class, method.getParameterCount()) //
+						.asType(MethodType.methodType(Object.class, Object[].class));
+			} catch (IllegalAccessException | RuntimeException e) {
+				return null;
+			}
 		}
 
 		/**
@@ -365,16 +543,23 @@ abstract class RepositoryMethodInvoker {
 		private final @Nullable Long endTime;
 		private final State state;
 		private final @Nullable Throwable error;
+		private final long resultSize;
 
 		protected RepositoryMethodInvocationCaptor(Class<?> repositoryInterface, long startTime, @Nullable Long endTime,
 				State state,
 				@Nullable Throwable exception) {
+			this(repositoryInterface, startTime, endTime, state, exception, -1);
+		}
+
+		private RepositoryMethodInvocationCaptor(Class<?> repositoryInterface, long startTime, @Nullable Long endTime,
+				State state, @Nullable Throwable exception, long resultSize) {
 
 			this.repositoryInterface = repositoryInterface;
 			this.startTime = startTime;
 			this.endTime = endTime;
 			this.state = state;
 			this.error = exception instanceof InvocationTargetException ? exception.getCause() : exception;
+			this.resultSize = resultSize;
 		}
 
 		public static RepositoryMethodInvocationCaptor captureInvocationOn(Class<?> repositoryInterface) {
@@ -391,6 +576,11 @@ abstract class RepositoryMethodInvoker {
 					null);
 		}
 
+		public RepositoryMethodInvocationCaptor success(long resultSize) {
+			return new RepositoryMethodInvocationCaptor(repositoryInterface, startTime, System.nanoTime(), State.SUCCESS,
+					null, resultSize);
+		}
+
 		public RepositoryMethodInvocationCaptor canceled() {
 			return new RepositoryMethodInvocationCaptor(repositoryInterface, startTime, System.nanoTime(), State.CANCELED,
 					null);
@@ -430,6 +620,11 @@ abstract class RepositoryMethodInvoker {
 				public Throwable getError() {
 					return RepositoryMethodInvocationCaptor.this.getError();
 				}
+
+				@Override
+				public long getResultSize() {
+					return resultSize;
+				}
 			};
 		}
 
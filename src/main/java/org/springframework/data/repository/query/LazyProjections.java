@@ -0,0 +1,474 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.query;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Factory for read-only views over query results that convert elements on access instead of materializing a converted
+ * copy of the result. Converted elements are not retained by the views so they can be garbage collected once the
+ * caller is done with them. Consequently, each access to an element converts it again and returns a new instance.
+ *
+ * @since 4.2
+ * @see ResultProcessor#withLazyProjection()
+ */
+final class LazyProjections {
+
+	private LazyProjections() {}
+
+	/**
+	 * Create a view of the given {@link List} converting its elements on access.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @return a read-only view of {@code source}.
+	 */
+	static <S, T> List<T> list(List<S> source, Function<? super S, ? extends T> converter) {
+
+		Assert.notNull(source, "Source list must not be null");
+		Assert.notNull(converter, "Converter must not be null");
+
+		return source instanceof RandomAccess ? new RandomAccessProjectingList<>(source, converter)
+				: new ProjectingList<>(source, converter);
+	}
+
+	/**
+	 * Create a view of the given {@link Slice} (or {@link Page}) converting its content on access.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @return a {@link Slice} view of {@code source}. Returns a {@link Page} if {@code source} is a {@link Page}.
+	 */
+	static <S, T> Slice<T> slice(Slice<S> source, Function<? super S, ? extends T> converter) {
+
+		Assert.notNull(source, "Source slice must not be null");
+		Assert.notNull(converter, "Converter must not be null");
+
+		return source instanceof Page<S> page ? new ProjectingPage<>(page, converter)
+				: new ProjectingSlice<>(source, converter);
+	}
+
+	/**
+	 * Create a view of the given {@link Window} converting its content on access.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @return a {@link Window} view of {@code source}.
+	 */
+	static <S, T> Window<T> window(Window<S> source, Function<? super S, ? extends T> converter) {
+
+		Assert.notNull(source, "Source window must not be null");
+		Assert.notNull(converter, "Converter must not be null");
+
+		return new ProjectingWindow<>(source, converter);
+	}
+
+	/**
+	 * Read-only {@link List} view converting elements of a source list on access.
+	 *
+	 * @param <S> source element type.
+	 * @param <T> target element type.
+	 */
+	private static class ProjectingList<S, T> extends AbstractList<T> {
+
+		private final List<S> source;
+		private final Function<? super S, ? extends T> converter;
+
+		ProjectingList(List<S> source, Function<? super S, ? extends T> converter) {
+			this.source = source;
+			this.converter = converter;
+		}
+
+		@Override
+		public T get(int index) {
+			return converter.apply(source.get(index));
+		}
+
+		@Override
+		public int size() {
+			return source.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return source.isEmpty();
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return listIterator();
+		}
+
+		@Override
+		public ListIterator<T> listIterator(int index) {
+
+			ListIterator<S> delegate = source.listIterator(index);
+
+			return new ListIterator<>() {
+
+				@Override
+				public boolean hasNext() {
+					return delegate.hasNext();
+				}
+
+				@Override
+				public T next() {
+					return converter.apply(delegate.next());
+				}
+
+				@Override
+				public boolean hasPrevious() {
+					return delegate.hasPrevious();
+				}
+
+				@Override
+				public T previous() {
+					return converter.apply(delegate.previous());
+				}
+
+				@Override
+				public int nextIndex() {
+					return delegate.nextIndex();
+				}
+
+				@Override
+				public int previousIndex() {
+					return delegate.previousIndex();
+				}
+
+				@Override
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public void set(T t) {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public void add(T t) {
+					throw new UnsupportedOperationException();
+				}
+			};
+		}
+	}
+
+	/**
+	 * {@link ProjectingList} over a {@link RandomAccess} source.
+	 */
+	private static class RandomAccessProjectingList<S, T> extends ProjectingList<S, T> implements RandomAccess {
+
+		RandomAccessProjectingList(List<S> source, Function<? super S, ? extends T> converter) {
+			super(source, converter);
+		}
+	}
+
+	/**
+	 * {@link Slice} view delegating paging metadata to the source {@link Slice} and converting its content on access.
+	 *
+	 * @param <S> source element type.
+	 * @param <T> target element type.
+	 */
+	private static class ProjectingSlice<S, T> implements Slice<T> {
+
+		private final Slice<S> source;
+		private final Function<? super S, ? extends T> converter;
+		private final List<T> content;
+
+		ProjectingSlice(Slice<S> source, Function<? super S, ? extends T> converter) {
+			this.source = source;
+			this.converter = converter;
+			this.content = list(source.getContent(), converter);
+		}
+
+		@Override
+		public int getNumber() {
+			return source.getNumber();
+		}
+
+		@Override
+		public int getSize() {
+			return source.getSize();
+		}
+
+		@Override
+		public int getNumberOfElements() {
+			return source.getNumberOfElements();
+		}
+
+		@Override
+		public List<T> getContent() {
+			return content;
+		}
+
+		@Override
+		public boolean hasContent() {
+			return source.hasContent();
+		}
+
+		@Override
+		public Sort getSort() {
+			return source.getSort();
+		}
+
+		@Override
+		public boolean isFirst() {
+			return source.isFirst();
+		}
+
+		@Override
+		public boolean isLast() {
+			return source.isLast();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return source.hasNext();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return source.hasPrevious();
+		}
+
+		@Override
+		public Pageable getPageable() {
+			return source.getPageable();
+		}
+
+		@Override
+		public Pageable nextPageable() {
+			return source.nextPageable();
+		}
+
+		@Override
+		public Pageable previousPageable() {
+			return source.previousPageable();
+		}
+
+		@Override
+		public <U> Slice<U> map(Function<? super T, ? extends U> converter) {
+
+			Assert.notNull(converter, "Function must not be null");
+
+			return new ProjectingSlice<>(source, this.converter.andThen(converter));
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return content.iterator();
+		}
+
+		@Override
+		public boolean equals(@Nullable Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+
+			ProjectingSlice<?, ?> that = (ProjectingSlice<?, ?>) obj;
+
+			return hasNext() == that.hasNext() && ObjectUtils.nullSafeEquals(getPageable(), that.getPageable())
+					&& content.equals(that.content);
+		}
+
+		@Override
+		public int hashCode() {
+
+			int result = ObjectUtils.nullSafeHash(content, getPageable());
+			return 31 * result + (hasNext() ? 1 : 0);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Slice %s of %s", getNumber(), source);
+		}
+	}
+
+	/**
+	 * {@link Page} variant of {@link ProjectingSlice}.
+	 *
+	 * @param <S> source element type.
+	 * @param <T> target element type.
+	 */
+	private static class ProjectingPage<S, T> extends ProjectingSlice<S, T> implements Page<T> {
+
+		private final Page<S> source;
+		private final Function<? super S, ? extends T> converter;
+
+		ProjectingPage(Page<S> source, Function<? super S, ? extends T> converter) {
+
+			super(source, converter);
+
+			this.source = source;
+			this.converter = converter;
+		}
+
+		@Override
+		public int getTotalPages() {
+			return source.getTotalPages();
+		}
+
+		@Override
+		public long getTotalElements() {
+			return source.getTotalElements();
+		}
+
+		@Override
+		public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+
+			Assert.notNull(converter, "Function must not be null");
+
+			return new ProjectingPage<>(source, this.converter.andThen(converter));
+		}
+
+		@Override
+		public boolean equals(@Nullable Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof ProjectingPage<?, ?> that)) {
+				return false;
+			}
+
+			return getTotalElements() == that.getTotalElements() && super.equals(obj);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * super.hashCode() + Long.hashCode(getTotalElements());
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Page %s of %s", getNumber(), source);
+		}
+	}
+
+	/**
+	 * {@link Window} view delegating scroll positions to the source {@link Window} and converting its content on access.
+	 *
+	 * @param <S> source element type.
+	 * @param <T> target element type.
+	 */
+	private static class ProjectingWindow<S, T> implements Window<T> {
+
+		private final Window<S> source;
+		private final Function<? super S, ? extends T> converter;
+		private final List<T> content;
+
+		ProjectingWindow(Window<S> source, Function<? super S, ? extends T> converter) {
+			this.source = source;
+			this.converter = converter;
+			this.content = list(source.getContent(), converter);
+		}
+
+		@Override
+		public int size() {
+			return source.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return source.isEmpty();
+		}
+
+		@Override
+		public List<T> getContent() {
+			return content;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return source.hasNext();
+		}
+
+		@Override
+		public ScrollPosition positionAt(int index) {
+			return source.positionAt(index);
+		}
+
+		@Override
+		public <U> Window<U> map(Function<? super T, ? extends U> converter) {
+
+			Assert.notNull(converter, "Function must not be null");
+
+			return new ProjectingWindow<>(source, this.converter.andThen(converter));
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return content.iterator();
+		}
+
+		@Override
+		public boolean equals(@Nullable Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof ProjectingWindow<?, ?> that)) {
+				return false;
+			}
+
+			if (hasNext() != that.hasNext() || !content.equals(that.content)) {
+				return false;
+			}
+
+			for (int i = 0; i < size(); i++) {
+				if (!ObjectUtils.nullSafeEquals(positionAt(i), that.positionAt(i))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * content.hashCode() + (hasNext() ? 1 : 0);
+		}
+
+		@Override
+		public String toString() {
+			return "Window of " + source;
+		}
+	}
+}
@@ -28,6 +28,7 @@ import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.SearchResults;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Window;
@@ -39,6 +40,10 @@ import org.springframework.util.Assert;
 /**
  * A {@link ResultProcessor} to expose metadata about query result element projection and eventually post processing raw
  * query results into projections and data transfer objects.
+ * <p>
+ * Collection, {@link Slice} and {@link Window} results are converted eagerly by default. A
+ * {@link #withLazyProjection() lazy} {@link ResultProcessor} returns views converting elements on access so that
+ * converted elements do not need to be held in memory alongside the source elements.
  *
  * @author Oliver Gierke
  * @author John Blum
@@ -52,6 +57,7 @@ public class ResultProcessor {
 	private final ProjectingConverter converter;
 	private final ProjectionFactory factory;
 	private final ReturnedType type;
+	private final boolean lazy;
 
 	/**
 	 * Creates a new {@link ResultProcessor} from the given {@link QueryMethod} and {@link ProjectionFactory}.
@@ -80,14 +86,16 @@ public class ResultProcessor {
 		this.type = ReturnedType.of(type, method.getDomainClass(), factory);
 		this.converter = new ProjectingConverter(this.type, factory);
 		this.factory = factory;
+		this.lazy = false;
 	}
 
 	private ResultProcessor(QueryMethod method, ProjectingConverter converter, ProjectionFactory factory,
-			ReturnedType type) {
+			ReturnedType type, boolean lazy) {
 		this.method = method;
 		this.converter = converter;
 		this.factory = factory;
 		this.type = type;
+		this.lazy = lazy;
 	}
 
 	/**
@@ -107,6 +115,20 @@ public class ResultProcessor {
 				: withType(projection);
 	}
 
+	/**
+	 * Returns a new {@link ResultProcessor} that projects {@link List}, {@link Slice}, {@link Page} and {@link Window}
+	 * results lazily. Instead of converting all elements upfront, the returned results are read-only views over the
+	 * source results that convert elements on access without retaining the converted elements. Each access to an element
+	 * returns a new instance and conversion failures surface on element access. Lazy projection reduces the peak memory
+	 * footprint of results that are iterated once.
+	 *
+	 * @return a new {@link ResultProcessor} projecting results lazily.
+	 * @since 4.2
+	 */
+	public ResultProcessor withLazyProjection() {
+		return lazy ? this : new ResultProcessor(method, converter, factory, type, true);
+	}
+
 	/**
 	 * Returns the {@link ReturnedType}.
 	 *
@@ -147,18 +169,22 @@ public class ResultProcessor {
 
 		ChainingConverter converter = ChainingConverter.of(type.getReturnedType(), preparingConverter).and(this.converter);
 
-		if (source instanceof Window<?> && method.isScrollQuery()) {
-			return (T) ((Window<?>) source).map(converter::convert);
+		if (source instanceof Window<?> window && method.isScrollQuery()) {
+			return (T) (lazy ? LazyProjections.window(window, converter::convert) : window.map(converter::convert));
 		}
 
-		if (source instanceof Slice && (method.isPageQuery() || method.isSliceQuery())) {
-			return (T) ((Slice<?>) source).map(converter::convert);
+		if (source instanceof Slice<?> slice && (method.isPageQuery() || method.isSliceQuery())) {
+			return (T) (lazy ? LazyProjections.slice(slice, converter::convert) : slice.map(converter::convert));
 		}
 
 		if (source instanceof SearchResults<?> results && method.isSearchQuery()) {
 			return (T) results.map(converter::convert);
 		}
 
+		if (lazy && source instanceof List<?> list && method.isCollectionQuery()) {
+			return (T) LazyProjections.list(list, converter::convert);
+		}
+
 		if (source instanceof Collection<?> collection && method.isCollectionQuery()) {
 
 			Collection<Object> target = createCollectionFor(collection);
@@ -184,7 +210,7 @@ public class ResultProcessor {
 	private ResultProcessor withType(Class<?> type) {
 
 		ReturnedType returnedType = ReturnedType.of(type, method.getDomainClass(), factory);
-		return new ResultProcessor(method, converter.withType(returnedType), factory, returnedType);
+		return new ResultProcessor(method, converter.withType(returnedType), factory, returnedType, lazy);
 	}
 
 	/**
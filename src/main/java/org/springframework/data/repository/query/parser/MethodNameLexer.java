@@ -0,0 +1,414 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.query.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Lexer for derived query method names used by {@link PartTree}, {@link Part} and {@link OrderBySource}. Scans method
+ * names character by character and matches keywords through {@link KeywordTrie tries} instead of regular expressions
+ * so that parsing a method name does not compile patterns or allocate matchers.
+ * <p>
+ * Keywords delimiting parts of a method name (such as {@code And}, {@code Or}, {@code OrderBy}) are only considered if
+ * they are followed by an upper-case letter or by a letter outside the basic latin block (e.g. Chinese, Korean or
+ * Japanese characters) so that camel-case property names containing a keyword are not split.
+ *
+ * @since 4.2
+ */
+final class MethodNameLexer {
+
+	private static final String BY = "By";
+	private static final String FIRST = "First";
+	private static final String TOP = "Top";
+	private static final String DISTINCT = "Distinct";
+
+	private static final KeywordTrie<SubjectType> SUBJECT_KEYWORDS = KeywordTrie.forPrefixes();
+
+	static {
+
+		for (String keyword : List.of("find", "read", "get", "query", "search", "stream")) {
+			SUBJECT_KEYWORDS.add(keyword, SubjectType.QUERY);
+		}
+
+		SUBJECT_KEYWORDS.add("count", SubjectType.COUNT);
+		SUBJECT_KEYWORDS.add("exists", SubjectType.EXISTS);
+		SUBJECT_KEYWORDS.add("delete", SubjectType.DELETE);
+		SUBJECT_KEYWORDS.add("remove", SubjectType.DELETE);
+	}
+
+	private MethodNameLexer() {}
+
+	/**
+	 * Find the subject of the given method name. The subject starts with a subject keyword such as {@code find} or
+	 * {@code count}, optionally followed by a camel-case part and ends with the first subsequent {@code By}.
+	 *
+	 * @param source the method name.
+	 * @return the subject or {@literal null} if the method name does not start with a subject.
+	 */
+	static @Nullable Subject findSubject(String source) {
+
+		KeywordTrie.Match<SubjectType> keyword = SUBJECT_KEYWORDS.find(source);
+
+		if (keyword == null) {
+			return null;
+		}
+
+		int keywordEnd = keyword.length();
+
+		if (source.startsWith(BY, keywordEnd)) {
+			return new Subject(keyword.value(), keywordEnd, keywordEnd + BY.length());
+		}
+
+		if (!isUpperCase(source, keywordEnd)) {
+			return null;
+		}
+
+		int by = source.indexOf(BY, keywordEnd + Character.charCount(source.codePointAt(keywordEnd)));
+
+		return by == -1 ? null : new Subject(keyword.value(), keywordEnd, by + BY.length());
+	}
+
+	/**
+	 * Split the given text around the given keyword. Occurrences of {@code keyword} are only considered if they are
+	 * followed by an upper-case letter or a non-latin letter. Leading empty parts are retained.
+	 *
+	 * @param text the text to split.
+	 * @param keyword the keyword to split around.
+	 * @return the parts of {@code text}.
+	 */
+	static List<String> split(String text, String keyword) {
+
+		int index = indexOfKeyword(text, keyword, 0);
+
+		if (index == -1) {
+			return Collections.singletonList(text);
+		}
+
+		List<String> parts = new ArrayList<>(4);
+		int start = 0;
+
+		while (index != -1) {
+
+			parts.add(text.substring(start, index));
+			start = index + keyword.length();
+			index = indexOfKeyword(text, keyword, start);
+		}
+
+		parts.add(text.substring(start));
+
+		return parts;
+	}
+
+	/**
+	 * Remove the first {@code …IgnoreCase} respectively {@code …IgnoringCase} keyword starting with the given prefix from
+	 * the text.
+	 *
+	 * @param text the text to inspect.
+	 * @param prefix the keyword prefix up to {@code Ignor}, e.g. {@code AllIgnor}.
+	 * @return the text without the keyword or {@literal null} if the text does not contain the keyword.
+	 */
+	static @Nullable String stripIgnoreCase(String text, String prefix) {
+
+		int index = text.indexOf(prefix);
+
+		while (index != -1) {
+
+			int suffix = index + prefix.length();
+			int end = text.startsWith("eCase", suffix) ? suffix + 5 : text.startsWith("ingCase", suffix) ? suffix + 7 : -1;
+
+			if (end != -1) {
+				return text.substring(0, index) + text.substring(end);
+			}
+
+			index = text.indexOf(prefix, index + 1);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Split an order by clause into its blocks. Blocks are separated after a {@code Asc} or {@code Desc} direction that is
+	 * followed by an upper-case letter.
+	 *
+	 * @param clause the order by clause.
+	 * @return the blocks of the clause.
+	 */
+	static List<String> splitOrderBy(String clause) {
+
+		List<String> parts = new ArrayList<>(2);
+		int start = 0;
+
+		for (int i = 1; i < clause.length(); i++) {
+
+			if ((endsWith(clause, i, "Asc") || endsWith(clause, i, "Desc")) && isUpperCase(clause, i)) {
+				parts.add(clause.substring(start, i));
+				start = i;
+			}
+		}
+
+		parts.add(clause.substring(start));
+
+		return parts;
+	}
+
+	/**
+	 * Return the position where a trailing direction keyword ({@code Asc}, {@code Desc}) of the given order by block
+	 * starts. The direction keyword must be preceded by at least one character.
+	 *
+	 * @param block the order by block.
+	 * @return the start of the direction keyword or the length of {@code block} if it does not end with a direction.
+	 */
+	static int findDirection(String block) {
+
+		if (block.length() > 3 && block.endsWith("Asc")) {
+			return block.length() - 3;
+		}
+
+		if (block.length() > 4 && block.endsWith("Desc")) {
+			return block.length() - 4;
+		}
+
+		return block.length();
+	}
+
+	/**
+	 * Parse the maximum number of results from a {@link SubjectType#QUERY query} subject such as
+	 * {@code findDistinctTop10UsersBy}.
+	 *
+	 * @param source the method name.
+	 * @param subject the subject of the method name.
+	 * @return the maximum number of results or {@literal null} if the subject is not limiting.
+	 */
+	static @Nullable Integer findMaxResults(String source, Subject subject) {
+
+		if (subject.type() != SubjectType.QUERY) {
+			return null;
+		}
+
+		int position = subject.keywordEnd();
+
+		if (source.startsWith(DISTINCT, position)) {
+			position += DISTINCT.length();
+		}
+
+		if (source.startsWith(FIRST, position)) {
+			position += FIRST.length();
+		} else if (source.startsWith(TOP, position)) {
+			position += TOP.length();
+		} else {
+			return null;
+		}
+
+		int digits = position;
+
+		while (position < subject.end() && isAsciiDigit(source.charAt(position))) {
+			position++;
+		}
+
+		if (!source.startsWith(BY, position) && !isUpperCase(source, position)) {
+			return null;
+		}
+
+		return digits == position ? 1 : Integer.valueOf(source.substring(digits, position));
+	}
+
+	private static int indexOfKeyword(String text, String keyword, int from) {
+
+		int index = text.indexOf(keyword, from);
+
+		while (index != -1) {
+
+			int next = index + keyword.length();
+
+			if (next < text.length()) {
+
+				int codePoint = text.codePointAt(next);
+
+				if (Character.getType(codePoint) == Character.UPPERCASE_LETTER || codePoint > 0x7F) {
+					return index;
+				}
+			}
+
+			index = text.indexOf(keyword, index + 1);
+		}
+
+		return -1;
+	}
+
+	private static boolean endsWith(String text, int end, String suffix) {
+		return end >= suffix.length() && text.startsWith(suffix, end - suffix.length());
+	}
+
+	private static boolean isUpperCase(String text, int index) {
+		return index < text.length() && Character.getType(text.codePointAt(index)) == Character.UPPERCASE_LETTER;
+	}
+
+	private static boolean isAsciiDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Type of a method name subject.
+	 */
+	enum SubjectType {
+		QUERY, COUNT, EXISTS, DELETE
+	}
+
+	/**
+	 * Subject of a method name.
+	 *
+	 * @param type the subject type.
+	 * @param keywordEnd the end of the subject keyword.
+	 * @param end the end of the subject including the terminating {@code By}.
+	 */
+	record Subject(SubjectType type, int keywordEnd, int end) {
+
+	}
+
+	/**
+	 * Trie of keywords matching either the start or the end of a text. If multiple keywords match, the keyword that was
+	 * added first wins.
+	 *
+	 * @param <T> the value type associated with keywords.
+	 */
+	static final class KeywordTrie<T> {
+
+		private final Node<T> root = new Node<>();
+		private final boolean suffix;
+		private int order;
+
+		private KeywordTrie(boolean suffix) {
+			this.suffix = suffix;
+		}
+
+		/**
+		 * @return a new trie matching keywords at the start of a text.
+		 */
+		static <T> KeywordTrie<T> forPrefixes() {
+			return new KeywordTrie<>(false);
+		}
+
+		/**
+		 * @return a new trie matching keywords at the end of a text.
+		 */
+		static <T> KeywordTrie<T> forSuffixes() {
+			return new KeywordTrie<>(true);
+		}
+
+		/**
+		 * Add a keyword. Keywords that were already added retain their value.
+		 *
+		 * @param keyword the keyword.
+		 * @param value the value associated with the keyword.
+		 */
+		void add(String keyword, T value) {
+
+			Node<T> node = root;
+			int length = keyword.length();
+
+			for (int i = 0; i < length; i++) {
+				node = node.getOrCreateChild(keyword.charAt(suffix ? length - 1 - i : i));
+			}
+
+			if (node.value == null) {
+				node.value = value;
+				node.order = order++;
+				node.length = length;
+			}
+		}
+
+		/**
+		 * Find the first added keyword matching the start respectively the end of the given text.
+		 *
+		 * @param text the text to inspect.
+		 * @return the match or {@literal null} if no keyword matches.
+		 */
+		@Nullable
+		Match<T> find(String text) {
+
+			Node<T> node = root;
+			Node<T> match = null;
+			int length = text.length();
+
+			for (int i = 0; i < length; i++) {
+
+				node = node.getChild(text.charAt(suffix ? length - 1 - i : i));
+
+				if (node == null) {
+					break;
+				}
+
+				if (node.value != null && (match == null || node.order < match.order)) {
+					match = node;
+				}
+			}
+
+			return match == null || match.value == null ? null : new Match<>(match.value, match.length);
+		}
+
+		/**
+		 * A keyword match.
+		 *
+		 * @param value the value associated with the keyword.
+		 * @param length the length of the keyword.
+		 */
+		record Match<T>(T value, int length) {
+
+		}
+
+		private static final class Node<T> {
+
+			private char[] keys = new char[0];
+			@SuppressWarnings("unchecked") private Node<T>[] children = new Node[0];
+			private @Nullable T value;
+			private int order;
+			private int length;
+
+			@Nullable
+			Node<T> getChild(char c) {
+
+				for (int i = 0; i < keys.length; i++) {
+					if (keys[i] == c) {
+						return children[i];
+					}
+				}
+
+				return null;
+			}
+
+			Node<T> getOrCreateChild(char c) {
+
+				Node<T> child = getChild(c);
+
+				if (child == null) {
+
+					child = new Node<>();
+					keys = Arrays.copyOf(keys, keys.length + 1);
+					children = Arrays.copyOf(children, children.length + 1);
+					keys[keys.length - 1] = c;
+					children[children.length - 1] = child;
+				}
+
+				return child;
+			}
+		}
+	}
+}
@@ -19,8 +19,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.data.core.PropertyPath;
 import org.springframework.data.domain.Sort;
@@ -41,8 +39,6 @@ class OrderBySource {
 
 	static OrderBySource EMPTY = new OrderBySource("");
 
-	private static final String BLOCK_SPLIT = "(?<=Asc|Desc)(?=\\p{Lu})";
-	private static final Pattern DIRECTION_SPLIT = Pattern.compile("(.+?)(Asc|Desc)?$");
 	private static final String INVALID_ORDER_SYNTAX = "Invalid order syntax for part %s";
 	private static final Set<String> DIRECTION_KEYWORDS = Set.of("Asc", "Desc");
 
@@ -73,23 +69,25 @@ class OrderBySource {
 			return;
 		}
 
-		for (String part : clause.split(BLOCK_SPLIT)) {
+		for (String part : MethodNameLexer.splitOrderBy(clause)) {
 
-			Matcher matcher = DIRECTION_SPLIT.matcher(part);
-
-			if (!matcher.find()) {
+			if (part.isEmpty()) {
 				throw new IllegalArgumentException(String.format(INVALID_ORDER_SYNTAX, part));
 			}
 
-			String propertyString = matcher.group(1);
-			String directionString = matcher.group(2);
+			int directionStart = MethodNameLexer.findDirection(part);
+			boolean hasDirection = directionStart != part.length();
+			String propertyString = part.substring(0, directionStart);
 
 			// No property, but only a direction keyword
-			if (DIRECTION_KEYWORDS.contains(propertyString) && directionString == null) {
+			if (DIRECTION_KEYWORDS.contains(propertyString) && !hasDirection) {
 				throw new IllegalArgumentException(String.format(INVALID_ORDER_SYNTAX, part));
 			}
 
-			this.orders.add(createOrder(propertyString, Direction.fromOptionalString(directionString), domainClass));
+			Optional<Direction> direction = hasDirection ? Direction.fromOptionalString(part.substring(directionStart))
+					: Optional.empty();
+
+			this.orders.add(createOrder(propertyString, direction, domainClass));
 		}
 	}
 
@@ -22,8 +22,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.data.core.PropertyPath;
 import org.springframework.util.Assert;
@@ -40,7 +38,7 @@ import org.springframework.util.ObjectUtils;
  */
 public class Part {
 
-	private static final Pattern IGNORE_CASE = Pattern.compile("Ignor(ing|e)Case");
+	private static final String IGNORE_CASE = "Ignor";
 
 	private final PropertyPath propertyPath;
 	private final Part.Type type;
@@ -83,15 +81,14 @@ public class Part {
 
 	private String detectAndSetIgnoreCase(String part) {
 
-		Matcher matcher = IGNORE_CASE.matcher(part);
-		String result = part;
+		String stripped = MethodNameLexer.stripIgnoreCase(part, IGNORE_CASE);
 
-		if (matcher.find()) {
+		if (stripped != null) {
 			ignoreCase = IgnoreCaseType.ALWAYS;
-			result = part.substring(0, matcher.start()) + part.substring(matcher.end(), part.length());
+			return stripped;
 		}
 
-		return result;
+		return part;
 	}
 
 	boolean isParameterRequired() {
@@ -211,12 +208,20 @@ public class Part {
 
 		public static final Collection<String> ALL_KEYWORDS;
 
+		private static final MethodNameLexer.KeywordTrie<Part.Type> KEYWORDS = MethodNameLexer.KeywordTrie.forSuffixes();
+
 		static {
 			List<String> allKeywords = new ArrayList<>();
 			for (Type type : ALL) {
 				allKeywords.addAll(type.keywords);
 			}
 			ALL_KEYWORDS = Collections.unmodifiableList(allKeywords);
+
+			for (Type type : ALL) {
+				for (String keyword : type.keywords) {
+					KEYWORDS.add(keyword, type);
+				}
+			}
 		}
 
 		private final List<String> keywords;
@@ -249,13 +254,9 @@ public class Part {
 		 */
 		public static Part.Type fromProperty(String rawProperty) {
 
-			for (Type type : ALL) {
-				if (type.supports(rawProperty)) {
-					return type;
-				}
-			}
+			MethodNameLexer.KeywordTrie.Match<Part.Type> match = KEYWORDS.find(rawProperty);
 
-			return SIMPLE_PROPERTY;
+			return match != null ? match.value() : SIMPLE_PROPERTY;
 		}
 
 		/**
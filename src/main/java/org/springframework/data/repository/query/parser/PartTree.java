@@ -15,12 +15,9 @@
  */
 package org.springframework.data.repository.query.parser;
 
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
@@ -48,24 +45,6 @@ import org.springframework.util.StringUtils;
  */
 public class PartTree implements Streamable<OrPart> {
 
-	/*
-	 * We look for a pattern of: keyword followed by
-	 *
-	 *  an upper-case letter that has a lower-case variant \p{Lu}
-	 * OR
-	 *  any other letter NOT in the BASIC_LATIN Uni-code Block \\P{InBASIC_LATIN} (like Chinese, Korean, Japanese, etc.).
-	 *
-	 * @see <a href="https://www.regular-expressions.info/unicode.html">https://www.regular-expressions.info/unicode.html</a>
-	 * @see <a href="https://docs.oracle.com/javase/7/docs/api/java/util/regex/Pattern.html#ubc">Pattern</a>
-	 */
-	private static final String KEYWORD_TEMPLATE = "(%s)(?=(\\p{Lu}|\\P{InBASIC_LATIN}))";
-	private static final String QUERY_PATTERN = "find|read|get|query|search|stream";
-	private static final String COUNT_PATTERN = "count";
-	private static final String EXISTS_PATTERN = "exists";
-	private static final String DELETE_PATTERN = "delete|remove";
-	private static final Pattern PREFIX_TEMPLATE = Pattern.compile( //
-			"^(" + QUERY_PATTERN + "|" + COUNT_PATTERN + "|" + EXISTS_PATTERN + "|" + DELETE_PATTERN + ")((\\p{Lu}.*?))??By");
-
 	/**
 	 * The subject, for example "findDistinctUserByNameOrderByAge" would have the subject "DistinctUser".
 	 */
@@ -94,15 +73,25 @@ public class PartTree implements Streamable<OrPart> {
 			source = source.substring(0, dash);
 		}
 
-		Matcher matcher = PREFIX_TEMPLATE.matcher(source);
+		MethodNameLexer.Subject subject = MethodNameLexer.findSubject(source);
 
-		if (!matcher.find()) {
-			this.subject = new Subject(Optional.empty());
-			this.predicate = new Predicate(source, domainClass);
-		} else {
-			this.subject = new Subject(Optional.of(matcher.group(0)));
-			this.predicate = new Predicate(source.substring(matcher.group().length()), domainClass);
-		}
+		this.subject = new Subject(source, subject);
+		this.predicate = new Predicate(subject == null ? source : source.substring(subject.end()), domainClass);
+	}
+
+	/**
+	 * Return a {@link PartTree} for the given method name and domain class. Trees are shared through {@link PartTreeCache}
+	 * so that repositories declaring the same derived query against the same domain class do not parse it again.
+	 *
+	 * @param source the {@link String} to parse
+	 * @param domainClass the domain class to check individual parts against to ensure they refer to a property of the
+	 *          class
+	 * @return the {@link PartTree} for {@code source} and {@code domainClass}.
+	 * @since 4.2
+	 * @see PartTreeCache
+	 */
+	public static PartTree of(String source, Class<?> domainClass) {
+		return PartTreeCache.get(source, domainClass);
 	}
 
 	@Override
@@ -222,20 +211,6 @@ public class PartTree implements Streamable<OrPart> {
 				predicate.getOrderBySource().toString()).trim();
 	}
 
-	/**
-	 * Splits the given text at the given keywords. Expects camel-case style to only match concrete keywords and not
-	 * derivatives of it.
-	 *
-	 * @param text the text to split
-	 * @param keyword the keyword to split around
-	 * @return an array of split items
-	 */
-	private static String[] split(String text, String keyword) {
-
-		Pattern pattern = Pattern.compile(String.format(KEYWORD_TEMPLATE, keyword));
-		return pattern.split(text);
-	}
-
 	/**
 	 * A part of the parsed source that results from splitting up the resource around {@literal Or} keywords. Consists of
 	 * {@link Part}s that have to be concatenated by {@literal And}.
@@ -253,9 +228,7 @@ public class PartTree implements Streamable<OrPart> {
 		 */
 		OrPart(String source, Class<?> domainClass, boolean alwaysIgnoreCase) {
 
-			String[] split = split(source, "And");
-
-			this.children = Arrays.stream(split)//
+			this.children = MethodNameLexer.split(source, "And").stream()//
 					.filter(StringUtils::hasText)//
 					.map(part -> new Part(part, domainClass, alwaysIgnoreCase))//
 					.collect(Collectors.toList());
@@ -283,12 +256,6 @@ public class PartTree implements Streamable<OrPart> {
 	private static class Subject {
 
 		private static final String DISTINCT = "Distinct";
-		private static final Pattern COUNT_BY_TEMPLATE = Pattern.compile("^count(\\p{Lu}.*?)??By");
-		private static final Pattern EXISTS_BY_TEMPLATE = Pattern.compile("^(" + EXISTS_PATTERN + ")(\\p{Lu}.*?)??By");
-		private static final Pattern DELETE_BY_TEMPLATE = Pattern.compile("^(" + DELETE_PATTERN + ")(\\p{Lu}.*?)??By");
-		private static final String LIMITING_QUERY_PATTERN = "(First|Top)(\\d*)?";
-		private static final Pattern LIMITED_QUERY_TEMPLATE = Pattern
-				.compile("^(" + QUERY_PATTERN + ")(" + DISTINCT + ")?" + LIMITING_QUERY_PATTERN + "(\\p{Lu}.*?)??By");
 
 		private final boolean distinct;
 		private final boolean count;
@@ -296,37 +263,20 @@ public class PartTree implements Streamable<OrPart> {
 		private final boolean delete;
 		private final Optional<Integer> maxResults;
 
-		public Subject(Optional<String> subject) {
+		public Subject(String source, MethodNameLexer.@Nullable Subject subject) {
 
-			this.distinct = subject.map(it -> it.contains(DISTINCT)).orElse(false);
-			this.count = matches(subject, COUNT_BY_TEMPLATE);
-			this.exists = matches(subject, EXISTS_BY_TEMPLATE);
-			this.delete = matches(subject, DELETE_BY_TEMPLATE);
-			this.maxResults = returnMaxResultsIfFirstKSubjectOrNull(subject);
-		}
-
-		/**
-		 * @param subject
-		 * @return
-		 * @since 1.9
-		 */
-		private Optional<Integer> returnMaxResultsIfFirstKSubjectOrNull(Optional<String> subject) {
-
-			return subject.map(it -> {
-
-				Matcher grp = LIMITED_QUERY_TEMPLATE.matcher(it);
-
-				if (!grp.find()) {
-					return null;
-				}
-
-				return StringUtils.hasText(grp.group(4)) ? Integer.valueOf(grp.group(4)) : 1;
-			});
+			MethodNameLexer.@Nullable SubjectType type = subject != null ? subject.type() : null;
 
+			this.distinct = subject != null && source.lastIndexOf(DISTINCT, subject.end() - DISTINCT.length()) != -1;
+			this.count = type == MethodNameLexer.SubjectType.COUNT;
+			this.exists = type == MethodNameLexer.SubjectType.EXISTS;
+			this.delete = type == MethodNameLexer.SubjectType.DELETE;
+			this.maxResults = subject != null ? Optional.ofNullable(MethodNameLexer.findMaxResults(source, subject))
+					: Optional.empty();
 		}
 
 		/**
-		 * Returns {@literal true} if {@link Subject} matches {@link #DELETE_BY_TEMPLATE}.
+		 * Returns {@literal true} if {@link Subject} starts with {@code delete} or {@code remove}.
 		 *
 		 * @return
 		 * @since 1.8
@@ -340,7 +290,7 @@ public class PartTree implements Streamable<OrPart> {
 		}
 
 		/**
-		 * Returns {@literal true} if {@link Subject} matches {@link #EXISTS_BY_TEMPLATE}.
+		 * Returns {@literal true} if {@link Subject} starts with {@code exists}.
 		 *
 		 * @return
 		 * @since 1.13
@@ -356,10 +306,6 @@ public class PartTree implements Streamable<OrPart> {
 		public Optional<Integer> getMaxResults() {
 			return maxResults;
 		}
-
-		private boolean matches(Optional<String> subject, Pattern pattern) {
-			return subject.map(it -> pattern.matcher(it).find()).orElse(false);
-		}
 	}
 
 	/**
@@ -370,7 +316,7 @@ public class PartTree implements Streamable<OrPart> {
 	 */
 	private static class Predicate implements Streamable<OrPart> {
 
-		private static final Pattern ALL_IGNORE_CASE = Pattern.compile("AllIgnor(ing|e)Case");
+		private static final String ALL_IGNORE_CASE = "AllIgnor";
 		private static final String ORDER_BY = "OrderBy";
 
 		private final List<OrPart> nodes;
@@ -379,28 +325,28 @@ public class PartTree implements Streamable<OrPart> {
 
 		public Predicate(String predicate, Class<?> domainClass) {
 
-			String[] parts = split(detectAndSetAllIgnoreCase(predicate), ORDER_BY);
+			List<String> parts = MethodNameLexer.split(detectAndSetAllIgnoreCase(predicate), ORDER_BY);
 
-			if (parts.length > 2) {
+			if (parts.size() > 2) {
 				throw new IllegalArgumentException("OrderBy must not be used more than once in a method name");
 			}
 
-			this.nodes = Arrays.stream(split(parts[0], "Or")) //
+			this.nodes = MethodNameLexer.split(parts.get(0), "Or").stream() //
 					.filter(StringUtils::hasText) //
 					.map(part -> new OrPart(part, domainClass, alwaysIgnoreCase)) //
 					.collect(Collectors.toList());
 
-			this.orderBySource = parts.length == 2 ? new OrderBySource(parts[1], Optional.of(domainClass))
+			this.orderBySource = parts.size() == 2 ? new OrderBySource(parts.get(1), Optional.of(domainClass))
 					: OrderBySource.EMPTY;
 		}
 
 		private String detectAndSetAllIgnoreCase(String predicate) {
 
-			Matcher matcher = ALL_IGNORE_CASE.matcher(predicate);
+			String stripped = MethodNameLexer.stripIgnoreCase(predicate, ALL_IGNORE_CASE);
 
-			if (matcher.find()) {
+			if (stripped != null) {
 				alwaysIgnoreCase = true;
-				predicate = predicate.substring(0, matcher.start()) + predicate.substring(matcher.end(), predicate.length());
+				return stripped;
 			}
 
 			return predicate;
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.query.parser;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.data.util.CacheStatistics;
+import org.springframework.data.util.ClassLoaderScopedCache;
+import org.springframework.util.Assert;
+
+/**
+ * JVM-wide bounded cache of {@link PartTree} instances keyed by method name and domain type. A {@link PartTree} is
+ * immutable once created and holds the resolved {@link org.springframework.data.core.PropertyPath property paths} of its
+ * {@link Part parts}, so repositories declaring structurally identical derived queries against the same domain type can
+ * share a single instance across repositories and application contexts.
+ * <p>
+ * Trees are cached per {@link ClassLoader} of the domain type and evicted in least-recently-used order once the cache
+ * exceeds its capacity. Trees cached for a class loader that is discarded must be released through
+ * {@link #clear(ClassLoader)}.
+ * The capacity per class loader defaults to {@value #DEFAULT_CACHE_SIZE} entries and can be configured through the
+ * {@value #CACHE_SIZE_PROPERTY} system property or {@link SpringProperties}. A capacity of {@code 0} disables caching.
+ * Method names that cannot be parsed are not cached.
+ *
+ * @since 4.2
+ * @see PartTree#of(String, Class)
+ * @see ClassLoaderScopedCache
+ */
+public final class PartTreeCache {
+
+	/**
+	 * System property to configure the maximum number of cached {@link PartTree} instances.
+	 */
+	public static final String CACHE_SIZE_PROPERTY = "spring.data.part-tree.cache-size";
+
+	/**
+	 * Default number of cached {@link PartTree} instances.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 1024;
+
+	private static final ClassLoaderScopedCache<CacheKey, PartTree> cache = new ClassLoaderScopedCache<>(
+			ClassLoaderScopedCache.getConfiguredCapacity(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE),
+			key -> new PartTree(key.source(), key.domainClass()));
+
+	private PartTreeCache() {}
+
+	/**
+	 * Return the {@link PartTree} for the given method name and domain type, parsing the method name if no tree is cached
+	 * yet.
+	 *
+	 * @param source the method name to parse, must not be {@literal null}.
+	 * @param domainClass the domain class to check individual parts against, must not be {@literal null}.
+	 * @return the {@link PartTree} for {@code source} and {@code domainClass}.
+	 */
+	public static PartTree get(String source, Class<?> domainClass) {
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(domainClass, "Domain class must not be null");
+
+		return cache.get(domainClass.getClassLoader(), new CacheKey(source, domainClass));
+	}
+
+	/**
+	 * Return a snapshot of the cache statistics.
+	 *
+	 * @return the current cache statistics.
+	 */
+	public static CacheStatistics getStatistics() {
+		return cache.getStatistics();
+	}
+
+	/**
+	 * Remove all cached {@link PartTree} instances and reset the cache statistics.
+	 */
+	public static void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * Remove all {@link PartTree} instances cached for domain types loaded by the given {@link ClassLoader}.
+	 *
+	 * @param classLoader the class loader to remove cached trees for.
+	 */
+	public static void clear(@Nullable ClassLoader classLoader) {
+		cache.clear(classLoader);
+	}
+
+	private record CacheKey(String source, Class<?> domainClass) {
+
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+/**
+ * Statistics of a bounded cache.
+ *
+ * @param capacity the maximum number of cached entries.
+ * @param size the current number of cached entries.
+ * @param hitCount the number of lookups served from the cache.
+ * @param missCount the number of lookups that required computing the cached value.
+ * @since 4.2
+ * @see ClassLoaderScopedCache
+ */
+public record CacheStatistics(int capacity, int size, long hitCount, long missCount) {
+
+	/**
+	 * @return the total number of lookups.
+	 */
+	public long requestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return the ratio of lookups served from the cache or {@code 1.0} if no lookups were recorded.
+	 */
+	public double hitRate() {
+
+		long requests = requestCount();
+		return requests == 0 ? 1.0 : (double) hitCount / requests;
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Bounded cache maintaining a {@link ConcurrentLruCache} per {@link ClassLoader}. Values are strongly referenced and
+ * evicted in least-recently-used order once the cache of a class loader exceeds its capacity so that cached values are
+ * retained under memory pressure. Caches of individual class loaders are strongly referenced as well and must be
+ * released through {@link #clear(ClassLoader)} once their class loader is discarded (for example when shutting down an
+ * application context) as cached keys and values referring to types otherwise prevent the class loader from being
+ * garbage collected.
+ *
+ * @param <K> the cache key type.
+ * @param <V> the cached value type.
+ * @since 4.2
+ */
+public final class ClassLoaderScopedCache<K, V> {
+
+	private static final Object BOOTSTRAP_CLASS_LOADER = new Object();
+
+	private final Map<Object, ConcurrentLruCache<K, V>> caches = new ConcurrentHashMap<>(16);
+	private final int capacity;
+	private final Function<K, V> generator;
+	private final LongAdder lookups = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Create a new {@link ClassLoaderScopedCache}.
+	 *
+	 * @param capacity the maximum number of entries per class loader. A capacity of {@code 0} disables caching.
+	 * @param generator function to compute values for keys that are not cached yet, must not be {@literal null}.
+	 */
+	public ClassLoaderScopedCache(int capacity, Function<K, V> generator) {
+
+		Assert.isTrue(capacity >= 0, "Capacity must be greater than or equal to zero");
+		Assert.notNull(generator, "Generator function must not be null");
+
+		this.capacity = capacity;
+		this.generator = generator;
+	}
+
+	/**
+	 * Return the cache capacity configured through the given {@link SpringProperties property} or the default capacity
+	 * if the property is not set.
+	 *
+	 * @param property the property name, must not be {@literal null}.
+	 * @param defaultCapacity the capacity to use if the property is not set.
+	 * @return the configured capacity.
+	 */
+	public static int getConfiguredCapacity(String property, int defaultCapacity) {
+
+		String value = SpringProperties.getProperty(property);
+		return StringUtils.hasText(value) ? NumberUtils.parseNumber(value.trim(), Integer.class) : defaultCapacity;
+	}
+
+	/**
+	 * Return the value for the given key from the cache of the given {@link ClassLoader}, computing the value if it is
+	 * not cached yet.
+	 *
+	 * @param classLoader the class loader that scopes the key, can be {@literal null} for the bootstrap class loader.
+	 * @param key the cache key, must not be {@literal null}.
+	 * @return the cached or computed value.
+	 */
+	public V get(@Nullable ClassLoader classLoader, K key) {
+
+		lookups.increment();
+		return getCache(classLoader).get(key);
+	}
+
+	/**
+	 * Return a snapshot of the cache statistics. The size is the number of entries across all class loaders.
+	 *
+	 * @return the current cache statistics.
+	 */
+	public CacheStatistics getStatistics() {
+
+		long misses = this.misses.sum();
+		long hits = Math.max(0, lookups.sum() - misses);
+		int size = 0;
+
+		for (ConcurrentLruCache<K, V> cache : caches.values()) {
+			size += cache.size();
+		}
+
+		return new CacheStatistics(capacity, size, hits, misses);
+	}
+
+	/**
+	 * Remove all cached entries and reset the cache statistics.
+	 */
+	public void clear() {
+
+		caches.clear();
+		lookups.reset();
+		misses.reset();
+	}
+
+	/**
+	 * Remove all entries cached for the given {@link ClassLoader}. Entries of other class loaders and the cache
+	 * statistics are retained.
+	 *
+	 * @param classLoader the class loader to remove cached entries for, can be {@literal null} for the bootstrap class
+	 *          loader.
+	 */
+	public void clear(@Nullable ClassLoader classLoader) {
+		caches.remove(getKey(classLoader));
+	}
+
+	private ConcurrentLruCache<K, V> getCache(@Nullable ClassLoader classLoader) {
+
+		Object key = getKey(classLoader);
+
+		// avoid computeIfAbsent locking on the hot path
+		ConcurrentLruCache<K, V> cache = caches.get(key);
+
+		if (cache != null) {
+			return cache;
+		}
+
+		return caches.computeIfAbsent(key, it -> new ConcurrentLruCache<>(capacity, this::generate));
+	}
+
+	private static Object getKey(@Nullable ClassLoader classLoader) {
+		return classLoader != null ? classLoader : BOOTSTRAP_CLASS_LOADER;
+	}
+
+	private V generate(K key) {
+
+		misses.increment();
+		return generator.apply(key);
+	}
+}
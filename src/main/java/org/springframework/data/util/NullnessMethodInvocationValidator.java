@@ -68,6 +68,18 @@ public class NullnessMethodInvocationValidator implements MethodInterceptor {
 				|| NullableUtils.isNonNull(type, ElementType.METHOD) || NullableUtils.isNonNull(type, ElementType.PARAMETER);
 	}
 
+	/**
+	 * Returns whether the given {@code method} is allowed to return {@literal null} according to its nullness
+	 * declarations. Callers should check {@link #supports(Class)} for the declaring type first.
+	 *
+	 * @param method the method to inspect.
+	 * @return {@literal true} if the method may return {@literal null}.
+	 * @since 4.2
+	 */
+	public static boolean isNullableReturn(Method method) {
+		return MethodNullness.of(method).isNullableReturn();
+	}
+
 	@Override
 	public @Nullable Object invoke(@SuppressWarnings("null") MethodInvocation invocation) throws Throwable {
 
@@ -36,6 +36,7 @@ import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.projection.Accessor;
 import org.springframework.data.projection.MethodInterceptorFactory;
+import org.springframework.data.web.StreamingJsonPathExtractor.ExtractedDocument;
 import org.springframework.util.Assert;
 
 import com.jayway.jsonpath.Configuration;
@@ -98,6 +99,10 @@ public class JsonProjectingMethodInterceptorFactory implements MethodInterceptor
 	@Override
 	public MethodInterceptor createMethodInterceptor(Object source, Class<?> targetType) {
 
+		if (source instanceof ExtractedDocument document) {
+			source = document.json();
+		}
+
 		DocumentContext context = source instanceof InputStream ? this.context.parse((InputStream) source)
 				: this.context.parse(source);
 
@@ -107,7 +112,8 @@ public class JsonProjectingMethodInterceptorFactory implements MethodInterceptor
 	@Override
 	public boolean supports(Object source, Class<?> targetType) {
 
-		if (source instanceof InputStream || source instanceof JSONObject || source instanceof JSONArray) {
+		if (source instanceof InputStream || source instanceof ExtractedDocument || source instanceof JSONObject
+				|| source instanceof JSONArray) {
 			return true;
 		}
 
@@ -131,6 +137,26 @@ public class JsonProjectingMethodInterceptorFactory implements MethodInterceptor
 		return false;
 	}
 
+	/**
+	 * Returns the JSONPath expressions to be used for the given method.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return the declared {@link org.springframework.data.web.JsonPath} expressions or the path of the property the
+	 *         method accesses.
+	 * @throws IllegalArgumentException if the method neither declares a path nor is an accessor method.
+	 */
+	static Collection<String> getJsonPaths(Method method) {
+
+		org.springframework.data.web.JsonPath annotation = AnnotationUtils.findAnnotation(method,
+				org.springframework.data.web.JsonPath.class);
+
+		if (annotation != null) {
+			return Arrays.asList(annotation.value());
+		}
+
+		return Collections.singletonList("$.".concat(new Accessor(method).getPropertyName()));
+	}
+
 	private record InputMessageProjecting(DocumentContext context) implements MethodInterceptor {
 
 		@Override
@@ -190,24 +216,6 @@ public class JsonProjectingMethodInterceptorFactory implements MethodInterceptor
 			return null;
 		}
 
-		/**
-		 * Returns the JSONPath expression to be used for the given method.
-		 *
-		 * @param method
-		 * @return
-		 */
-		private static Collection<String> getJsonPaths(Method method) {
-
-			org.springframework.data.web.JsonPath annotation = AnnotationUtils.findAnnotation(method,
-					org.springframework.data.web.JsonPath.class);
-
-			if (annotation != null) {
-				return Arrays.asList(annotation.value());
-			}
-
-			return Collections.singletonList("$.".concat(new Accessor(method).getPropertyName()));
-		}
-
 		private static class ResolvableTypeRef extends TypeRef<Object> {
 
 			private final ResolvableType type;
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.web;
 
+import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.ObjectReader;
@@ -28,6 +29,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
@@ -55,6 +57,11 @@ import com.jayway.jsonpath.spi.mapper.MappingProvider;
 /**
  * {@link org.springframework.http.converter.HttpMessageConverter} implementation to enable projected JSON binding to
  * interfaces annotated with {@link ProjectedPayload}.
+ * <p>
+ * By default, the request body is parsed into a JSON document that {@link JsonPath} expressions are evaluated against.
+ * With {@link #setStreamingExtraction(boolean) streaming extraction} enabled, the values of all definite
+ * {@link JsonPath} expressions of a projection interface are extracted in a single streaming pass over the request body
+ * so that only the matched values are held in memory.
  *
  * @author Mark Paluch
  * @author Oliver Gierke
@@ -67,6 +74,9 @@ public class ProjectingJacksonHttpMessageConverter extends JacksonJsonHttpMessag
 
 	private final SpelAwareProxyProjectionFactory projectionFactory;
 	private final Map<Class<?>, Boolean> supportedTypesCache = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Optional<StreamingJsonPathExtractor>> extractors = new ConcurrentHashMap<>();
+
+	private boolean streamingExtraction = false;
 
 	/**
 	 * Creates a new {@link ProjectingJacksonHttpMessageConverter} using a default {@link ObjectMapper}.
@@ -105,6 +115,19 @@ public class ProjectingJacksonHttpMessageConverter extends JacksonJsonHttpMessag
 		return projectionFactory;
 	}
 
+	/**
+	 * Configure whether to extract {@link JsonPath} values in a single streaming pass over the request body instead of
+	 * parsing the entire body into a JSON document. Streaming extraction applies to projection interfaces that only
+	 * declare definite paths (property names and array indexes). Projections using indefinite paths such as wildcards,
+	 * filters or deep scans read the entire document. Disabled by default.
+	 *
+	 * @param streamingExtraction whether to enable streaming extraction.
+	 * @since 4.2
+	 */
+	public void setStreamingExtraction(boolean streamingExtraction) {
+		this.streamingExtraction = streamingExtraction;
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		projectionFactory.setBeanClassLoader(classLoader);
@@ -158,7 +181,32 @@ public class ProjectingJacksonHttpMessageConverter extends JacksonJsonHttpMessag
 	@Override
 	public Object read(ResolvableType type, HttpInputMessage inputMessage, @Nullable Map<String, Object> hints)
 			throws IOException, HttpMessageNotReadableException {
-		return projectionFactory.createProjection(type.resolve(Object.class), inputMessage.getBody());
+
+		Class<?> projectionType = type.resolve(Object.class);
+		StreamingJsonPathExtractor extractor = streamingExtraction ? getExtractor(projectionType) : null;
+
+		if (extractor == null) {
+			return projectionFactory.createProjection(projectionType, inputMessage.getBody());
+		}
+
+		try {
+			return projectionFactory.createProjection(projectionType, extractor.extract(getMapper(), inputMessage.getBody()));
+		} catch (JacksonException ex) {
+			throw new HttpMessageNotReadableException("Could not read JSON: " + ex.getOriginalMessage(), ex, inputMessage);
+		}
+	}
+
+	private @Nullable StreamingJsonPathExtractor getExtractor(Class<?> projectionType) {
+
+		Optional<StreamingJsonPathExtractor> extractor = extractors.get(projectionType);
+
+		if (extractor == null) {
+			// avoid computeIfAbsent locking on the hot path
+			extractor = extractors.computeIfAbsent(projectionType,
+					it -> Optional.ofNullable(StreamingJsonPathExtractor.forType(it)));
+		}
+
+		return extractor.orElse(null);
 	}
 
 	record JacksonMappingProvider(ObjectMapper objectMapper) implements MappingProvider {
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.web;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Extracts the values of the {@link org.springframework.data.web.JsonPath JSON paths} declared by a projection
+ * interface in a single streaming pass over a JSON document. Values that are not referenced by any path are skipped
+ * without being materialized so that the resulting {@link ExtractedDocument document} only contains the matched values
+ * at their original position.
+ * <p>
+ * Extraction is only available for projection interfaces that exclusively declare definite paths consisting of
+ * property names and non-negative array indexes, see {@link #forType(Class)}.
+ *
+ * @since 4.2
+ * @see JsonProjectingMethodInterceptorFactory
+ */
+final class StreamingJsonPathExtractor {
+
+	private static final Object ABSENT = new Object();
+
+	private final PathNode root;
+
+	private StreamingJsonPathExtractor(PathNode root) {
+		this.root = root;
+	}
+
+	/**
+	 * Create a {@link StreamingJsonPathExtractor} for the given projection interface.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the extractor or {@literal null} if the type declares methods whose paths cannot be extracted in a
+	 *         streaming fashion (indefinite paths, negative array indexes, functions or non-accessor methods).
+	 */
+	static @Nullable StreamingJsonPathExtractor forType(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		PathNode root = new PathNode();
+
+		for (Method method : type.getMethods()) {
+
+			if (method.isDefault() || Modifier.isStatic(method.getModifiers())
+					|| method.getDeclaringClass().equals(Object.class)) {
+				continue;
+			}
+
+			try {
+				for (String path : JsonProjectingMethodInterceptorFactory.getJsonPaths(method)) {
+					if (!root.add(path)) {
+						return null;
+					}
+				}
+			} catch (IllegalArgumentException o_O) {
+				return null;
+			}
+		}
+
+		return new StreamingJsonPathExtractor(root);
+	}
+
+	/**
+	 * Extract the values of all paths from the given JSON {@link InputStream}.
+	 *
+	 * @param mapper the {@link ObjectMapper} to parse and read values with.
+	 * @param body the JSON input.
+	 * @return the document containing the extracted values.
+	 */
+	ExtractedDocument extract(ObjectMapper mapper, InputStream body) {
+
+		try (JsonParser parser = mapper.createParser(body)) {
+
+			if (parser.nextToken() == null) {
+				return new ExtractedDocument(new LinkedHashMap<>());
+			}
+
+			Object document = read(parser, mapper, root);
+
+			return new ExtractedDocument(document == null || document == ABSENT ? new LinkedHashMap<>() : document);
+		}
+	}
+
+	private static @Nullable Object read(JsonParser parser, ObjectMapper mapper, PathNode node) {
+
+		if (node.terminal) {
+			return mapper.readValue(parser, Object.class);
+		}
+
+		JsonToken token = parser.currentToken();
+
+		if (token == JsonToken.START_OBJECT && !node.properties.isEmpty()) {
+
+			Map<String, @Nullable Object> result = new LinkedHashMap<>();
+
+			while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+
+				String name = parser.currentName();
+				PathNode child = node.properties.get(name);
+				parser.nextToken();
+
+				if (child == null) {
+					parser.skipChildren();
+					continue;
+				}
+
+				Object value = read(parser, mapper, child);
+
+				if (value != ABSENT) {
+					result.put(name, value);
+				}
+			}
+
+			return result;
+		}
+
+		if (token == JsonToken.START_ARRAY && !node.indexes.isEmpty()) {
+
+			List<@Nullable Object> result = new ArrayList<>(node.maxIndex + 1);
+			int index = 0;
+
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+
+				PathNode child = index <= node.maxIndex ? node.indexes.get(index) : null;
+
+				if (child == null) {
+
+					parser.skipChildren();
+
+					if (index < node.maxIndex) {
+						result.add(null);
+					}
+				} else {
+
+					Object value = read(parser, mapper, child);
+					result.add(value == ABSENT ? null : value);
+				}
+
+				index++;
+			}
+
+			return result;
+		}
+
+		parser.skipChildren();
+
+		return ABSENT;
+	}
+
+	/**
+	 * JSON document containing the values extracted by a {@link StreamingJsonPathExtractor}.
+	 *
+	 * @param json the extracted JSON object or array.
+	 */
+	record ExtractedDocument(Object json) {
+
+	}
+
+	/**
+	 * Node of the tree of paths to extract. A terminal node reads the entire value at its position.
+	 */
+	private static final class PathNode {
+
+		private final Map<String, PathNode> properties = new HashMap<>();
+		private final Map<Integer, PathNode> indexes = new HashMap<>();
+		private boolean terminal;
+		private int maxIndex = -1;
+
+		/**
+		 * Add the given JSON path to the tree.
+		 *
+		 * @param path the JSON path.
+		 * @return {@literal true} if the path was added; {@literal false} if the path cannot be extracted.
+		 */
+		boolean add(String path) {
+
+			String normalized;
+
+			try {
+
+				JsonPath compiled = JsonPath.compile(path);
+
+				if (!compiled.isDefinite()) {
+					return false;
+				}
+
+				normalized = compiled.getPath();
+			} catch (InvalidPathException o_O) {
+				return false;
+			}
+
+			if (!normalized.startsWith("$")) {
+				return false;
+			}
+
+			PathNode node = this;
+			int position = 1;
+
+			while (position < normalized.length()) {
+
+				if (normalized.charAt(position) != '[') {
+					return false;
+				}
+
+				int end;
+
+				if (normalized.startsWith("['", position)) {
+
+					end = normalized.indexOf("']", position + 2);
+
+					if (end == -1) {
+						return false;
+					}
+
+					String name = normalized.substring(position + 2, end);
+
+					if (name.indexOf('\'') != -1) {
+						return false;
+					}
+
+					node = node.properties.computeIfAbsent(name, it -> new PathNode());
+					position = end + 2;
+				} else {
+
+					end = normalized.indexOf(']', position);
+
+					if (end == -1) {
+						return false;
+					}
+
+					int index;
+
+					try {
+						index = Integer.parseInt(normalized.substring(position + 1, end));
+					} catch (NumberFormatException o_O) {
+						return false;
+					}
+
+					if (index < 0) {
+						return false;
+					}
+
+					node.maxIndex = Math.max(node.maxIndex, index);
+					node = node.indexes.computeIfAbsent(index, it -> new PathNode());
+					position = end + 1;
+				}
+			}
+
+			node.terminal = true;
+
+			return true;
+		}
+	}
+}
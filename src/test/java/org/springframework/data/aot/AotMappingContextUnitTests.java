@@ -22,9 +22,13 @@ import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.core.test.tools.TestCompiler;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Reference;
 import org.springframework.data.core.TypeInformation;
+import org.springframework.data.mapping.model.EntityAccessorSourceGenerator;
 import org.springframework.data.util.TypeCollector;
 
 /**
@@ -64,6 +68,45 @@ public class AotMappingContextUnitTests {
 		});
 	}
 
+	@Test
+	void contributesAccessorAndInstantiatorSources() {
+
+		TestGenerationContext generationContext = new TestGenerationContext(DemoEntity.class);
+		context.contributeSources(DemoEntity.class, generationContext);
+		generationContext.writeGeneratedContent();
+
+		var entity = context.getRequiredPersistentEntity(DemoEntity.class);
+		String accessor = EntityAccessorSourceGenerator.getPropertyAccessorClassName(entity);
+		String instantiator = EntityAccessorSourceGenerator.getInstantiatorClassName(entity);
+
+		TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+
+			assertThat(compiled.getAllCompiledClasses()).map(Class::getName).contains(accessor, instantiator);
+			assertThat(compiled.getAllCompiledClasses()).filteredOn(it -> it.getName().equals(accessor))
+					.singleElement().satisfies(it -> assertThat(it.getField("PROPERTY_SLOTS").get(null))
+							.isEqualTo("id,name,referencedEntity"));
+			assertThat(compiled.getAllCompiledClasses()).filteredOn(it -> it.getName().equals(instantiator))
+					.singleElement().satisfies(it -> assertThat(it.getField("CREATOR_SIGNATURE").get(null)).isEqualTo("<init>()"));
+		});
+
+		new CodeContributionAssert(generationContext).contributesReflectionFor(accessor, instantiator);
+	}
+
+	@Test
+	void doesNotContributeAccessorSourceForPrivateMembers() {
+
+		TestGenerationContext generationContext = new TestGenerationContext(ConcretePerson.class);
+		context.contributeSources(ConcretePerson.class, generationContext);
+
+		var entity = context.getRequiredPersistentEntity(ConcretePerson.class);
+
+		String accessor = EntityAccessorSourceGenerator.getPropertyAccessorClassName(entity);
+
+		assertThat(EntityAccessorSourceGenerator.isPropertyAccessorSupported(entity)).isFalse();
+		assertThat(generationContext.getGeneratedFiles().getGeneratedFileContent(Kind.SOURCE,
+				accessor.replace('.', '/') + ".java")).isNull();
+	}
+
 	@Test // GH-3474
 	void doesNotCreateEntityWhenTypeCollectorFilterExcludesNestedType() {
 
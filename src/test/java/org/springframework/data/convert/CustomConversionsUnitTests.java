@@ -25,6 +25,9 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 
 import org.apache.commons.logging.Log;
@@ -40,6 +43,7 @@ import org.springframework.core.convert.converter.GenericConverter.ConvertiblePa
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.data.convert.CustomConversions.ConversionTargetStatistics;
 import org.springframework.data.convert.CustomConversions.ConverterConfiguration;
 import org.springframework.data.convert.CustomConversions.StoreConversions;
 import org.springframework.data.convert.Jsr310Converters.LocalDateTimeToDateConverter;
@@ -343,6 +347,65 @@ class CustomConversionsUnitTests {
 		verify(actualLoggerSpy, never()).warn(anyString(), any());
 	}
 
+	@Test
+	void doesNotRecordConversionTargetLookupStatisticsByDefault() {
+
+		var conversions = new CustomConversions(StoreConversions.NONE,
+				Arrays.asList(FormatToStringConverter.INSTANCE, StringToFormatConverter.INSTANCE));
+
+		conversions.hasCustomReadTarget(String.class, Format.class);
+		conversions.getCustomWriteTarget(Format.class);
+
+		assertThat(conversions.getReadTargetStatistics()).isEqualTo(new ConversionTargetStatistics(0, 0, 0));
+		assertThat(conversions.getWriteTargetStatistics()).isEqualTo(new ConversionTargetStatistics(0, 0, 0));
+	}
+
+	@Test
+	void recordsConversionTargetLookupStatistics() {
+
+		var conversions = new CustomConversions(StoreConversions.NONE,
+				Arrays.asList(FormatToStringConverter.INSTANCE, StringToFormatConverter.INSTANCE));
+		conversions.setStatisticsEnabled(true);
+
+		conversions.hasCustomReadTarget(String.class, Format.class);
+		conversions.hasCustomReadTarget(String.class, Format.class);
+		conversions.hasCustomReadTarget(String.class, Locale.class);
+		conversions.hasCustomReadTarget(String.class, Locale.class);
+		conversions.getCustomWriteTarget(Format.class);
+		conversions.getCustomWriteTarget(String.class);
+
+		assertThat(conversions.getReadTargetStatistics()).isEqualTo(new ConversionTargetStatistics(4, 2, 1));
+		assertThat(conversions.getReadTargetStatistics().missRate()).isEqualTo(0.5);
+		assertThat(conversions.getWriteTargetStatistics()).isEqualTo(new ConversionTargetStatistics(2, 2, 1));
+	}
+
+	@Test
+	void resolvesConversionTargetsConcurrently() throws Exception {
+
+		var conversions = new CustomConversions(StoreConversions.NONE,
+				Arrays.asList(FormatToStringConverter.INSTANCE, StringToFormatConverter.INSTANCE));
+		conversions.setStatisticsEnabled(true);
+
+		var executor = Executors.newFixedThreadPool(4);
+		List<Callable<Boolean>> tasks = Collections.nCopies(64,
+				() -> conversions.hasCustomReadTarget(String.class, Format.class)
+						&& !conversions.hasCustomReadTarget(String.class, Locale.class)
+						&& conversions.getCustomWriteTarget(Format.class).isPresent());
+
+		try {
+			for (Future<Boolean> result : executor.invokeAll(tasks)) {
+				assertThat(result.get()).isTrue();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		var statistics = conversions.getReadTargetStatistics();
+
+		assertThat(statistics.lookupCount()).isEqualTo(128);
+		assertThat(statistics.missCount()).isPositive().isLessThan(statistics.resolutionCount());
+	}
+
 	private static Class<?> createProxyTypeFor(Class<?> type) {
 
 		var factory = new ProxyFactory();
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.data.annotation.PersistenceCreator;
 import org.springframework.data.annotation.Reference;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.mapping.context.SampleMappingContext;
@@ -60,6 +61,60 @@ class DtoInstantiatingConverterUnitTests {
 		assertThat(dto.summary).isNull();
 	}
 
+	@Test
+	void reusesCopyPlanPerSourceType() {
+
+		DtoInstantiatingConverter converter = new DtoInstantiatingConverter(DtoWithTransientParam.class,
+				new SampleMappingContext(), new EntityInstantiators());
+
+		DtoWithTransientParam alice = (DtoWithTransientParam) converter.convert(new SourceEntity("1", "Alice"));
+		DtoWithTransientParam bob = (DtoWithTransientParam) converter.convert(new OtherSourceEntity("2", "Bob", 42));
+		DtoWithTransientParam carol = (DtoWithTransientParam) converter.convert(new SourceEntity("3", "Carol"));
+
+		assertThat(alice).isEqualTo(new DtoWithTransientParam("1", "Alice", null));
+		assertThat(bob).isEqualTo(new DtoWithTransientParam("2", "Bob", null));
+		assertThat(carol).isEqualTo(new DtoWithTransientParam("3", "Carol", null));
+	}
+
+	@Test
+	void copiesCreatorArgumentsAndPropertiesForEachSource() {
+
+		DtoInstantiatingConverter converter = new DtoInstantiatingConverter(DtoWithCreatorAndProperty.class,
+				new SampleMappingContext(), new EntityInstantiators());
+
+		DtoWithCreatorAndProperty first = (DtoWithCreatorAndProperty) converter.convert(new SourceEntity("1", "Alice"));
+		DtoWithCreatorAndProperty second = (DtoWithCreatorAndProperty) converter.convert(new SourceEntity("2", "Bob"));
+
+		assertThat(first.id).isEqualTo("1");
+		assertThat(first.name).isEqualTo("Alice");
+		assertThat(second.id).isEqualTo("2");
+		assertThat(second.name).isEqualTo("Bob");
+	}
+
+	@Test
+	void returnsDtoInstanceCreatedThroughWither() {
+
+		DtoInstantiatingConverter converter = new DtoInstantiatingConverter(DtoWithWither.class,
+				new SampleMappingContext(), new EntityInstantiators());
+
+		DtoWithWither dto = (DtoWithWither) converter.convert(new SourceEntity("1", "Alice"));
+
+		assertThat(dto.id).isEqualTo("1");
+		assertThat(dto.name).isEqualTo("Alice");
+	}
+
+	@Test
+	void bindsCreatorArgumentsWithoutDtoPropertyToSourceProperty() {
+
+		DtoInstantiatingConverter converter = new DtoInstantiatingConverter(DtoWithUnmappedParameter.class,
+				new SampleMappingContext(), new EntityInstantiators());
+
+		DtoWithUnmappedParameter dto = (DtoWithUnmappedParameter) converter.convert(new SourceEntity("1", "Alice"));
+
+		assertThat(dto.id).isEqualTo("1");
+		assertThat(dto.greeting).isEqualTo("Hello Alice");
+	}
+
 	static class MyAssociativeEntity {
 
 		String id;
@@ -93,6 +148,60 @@ class DtoInstantiatingConverterUnitTests {
 		}
 	}
 
+	static class OtherSourceEntity {
+
+		String id;
+		String name;
+		int age;
+
+		public OtherSourceEntity(String id, String name, int age) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+		}
+	}
+
+	static class DtoWithCreatorAndProperty {
+
+		final String id;
+		String name;
+
+		public DtoWithCreatorAndProperty(String id) {
+			this.id = id;
+		}
+	}
+
+	static class DtoWithWither {
+
+		final String id;
+		final String name;
+
+		@PersistenceCreator
+		DtoWithWither(String id) {
+			this(id, null);
+		}
+
+		private DtoWithWither(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		DtoWithWither withName(String name) {
+			return new DtoWithWither(id, name);
+		}
+	}
+
+	static class DtoWithUnmappedParameter {
+
+		final String id;
+		final @Transient String greeting;
+
+		DtoWithUnmappedParameter(String id, String name) {
+			this.id = id;
+			this.greeting = "Hello " + name;
+		}
+	}
+
 	record DtoWithTransientParam(String id, String name, @Transient String summary) {}
 
 	static class TheOtherThing {
@@ -30,6 +30,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import org.springframework.core.OverridingClassLoader;
+import org.springframework.data.util.CacheStatistics;
+
 /**
  * Unit tests for {@link PropertyPath}.
  *
@@ -406,6 +409,59 @@ class PropertyPathUnitTests {
 		assertThat(from("userName", Foo.class)).isSameAs(from("userName", Foo.class));
 	}
 
+	@Test
+	void recordsCacheStatistics() {
+
+		CacheStatistics before = PropertyPathCache.getStatistics();
+
+		from("user.name", Bar.class);
+		from("user.name", Bar.class);
+
+		CacheStatistics after = PropertyPathCache.getStatistics();
+
+		assertThat(after.capacity()).isEqualTo(PropertyPathCache.DEFAULT_CACHE_SIZE);
+		assertThat(after.hitCount()).isGreaterThan(before.hitCount());
+		assertThat(after.requestCount()).isGreaterThanOrEqualTo(before.requestCount() + 2);
+	}
+
+	@Test
+	void cachesPropertyPathsPerClassLoader() throws Exception {
+
+		ClassLoader classLoader = new OverridingClassLoader(getClass().getClassLoader());
+		TypeInformation<?> type = TypeInformation.of(classLoader.loadClass(Foo.class.getName()));
+
+		assertThat(type.getType()).isNotEqualTo(Foo.class);
+		assertThat(from("userName", type)).isSameAs(from("userName", type))
+				.isNotSameAs(from("userName", Foo.class));
+	}
+
+	@ParameterizedTest
+	@MethodSource("tokenizerArguments")
+	void tokenizesPropertyPaths(String source, List<String> parts) {
+		assertThat(SimplePropertyPath.tokenize(source)).isEqualTo(parts);
+	}
+
+	static Stream<Arguments> tokenizerArguments() {
+
+		return Stream.of(Arguments.of("user", List.of("user")), //
+				Arguments.of("user.name", List.of("user", "name")), //
+				Arguments.of("user_name", List.of("user", "name")), //
+				Arguments.of("_foo__email", List.of("_foo", "_email")), //
+				Arguments.of("user..name.", List.of("user", ".name")), //
+				Arguments.of(Pattern.quote("var_name.with_underscore"), List.of("var_name", "with_underscore")), //
+				Arguments.of(".", List.of()));
+	}
+
+	@Test
+	void findsTrailingCamelCasePart() {
+
+		assertThat(SimplePropertyPath.findNestedPropertyStart("userAddressCity")).isEqualTo(11);
+		assertThat(SimplePropertyPath.findNestedPropertyStart("categoryB1")).isEqualTo(8);
+		assertThat(SimplePropertyPath.findNestedPropertyStart("Address")).isZero();
+		assertThat(SimplePropertyPath.findNestedPropertyStart("userADDRESS")).isEqualTo(10);
+		assertThat(SimplePropertyPath.findNestedPropertyStart("user_name")).isEqualTo(-1);
+	}
+
 	@Test // DATACMNS-1198
 	void exposesLeafPropertyType() {
 		assertThat(from("user.name", Bar.class).getLeafType()).isEqualTo(String.class);
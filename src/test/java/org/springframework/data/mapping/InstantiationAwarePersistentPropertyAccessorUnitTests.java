@@ -17,6 +17,8 @@ package org.springframework.data.mapping;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.mapping.context.SampleMappingContext;
@@ -116,10 +118,56 @@ class InstantiationAwarePersistentPropertyAccessorUnitTests {
 		assertThat(wrapper.getBean()).isEqualTo(new RecordWithPersistentAndTransientParams(42L, "Bob", null));
 	}
 
+	@Test
+	void shouldSetPropertiesCreatingSingleInstance() {
+
+		var instantiators = new EntityInstantiators();
+		var context = new SampleMappingContext();
+
+		PersistentEntity<Object, SamplePersistentProperty> entity = context
+				.getRequiredPersistentEntity(CountingSample.class);
+
+		var bean = new CountingSample("Dave", "Matthews", 42);
+		CountingSample.instances.set(0);
+
+		PersistentPropertyAccessor<CountingSample> wrapper = new InstantiationAwarePropertyAccessor<>(bean,
+				entity::getPropertyAccessor, instantiators);
+
+		wrapper.setProperties(
+				new PersistentProperty<?>[] { entity.getRequiredPersistentProperty("firstname"),
+						entity.getRequiredPersistentProperty("lastname"), entity.getRequiredPersistentProperty("age") },
+				new Object[] { "Oliver August", "Heisenberg", 21 });
+
+		assertThat(CountingSample.instances).hasValue(1);
+		assertThat(wrapper.getBean()).isEqualTo(new CountingSample("Oliver August", "Heisenberg", 21));
+	}
+
+	@Test
+	void setPropertiesRejectsMismatchingValues() {
+
+		var context = new SampleMappingContext();
+		PersistentEntity<Object, SamplePersistentProperty> entity = context.getRequiredPersistentEntity(Sample.class);
+
+		PersistentPropertyAccessor<Sample> wrapper = new InstantiationAwarePropertyAccessor<>(
+				new Sample("Dave", "Matthews", 42), entity::getPropertyAccessor, new EntityInstantiators());
+
+		assertThatIllegalArgumentException().isThrownBy(() -> wrapper
+				.setProperties(new PersistentProperty<?>[] { entity.getRequiredPersistentProperty("firstname") }, new Object[0]));
+	}
+
 	record Sample(String firstname, String lastname, int age) {
 
 	}
 
+	record CountingSample(String firstname, String lastname, int age) {
+
+		static final AtomicInteger instances = new AtomicInteger();
+
+		CountingSample {
+			instances.incrementAndGet();
+		}
+	}
+
 	public record WithSingleArgConstructor(Long id, String name) {
 
 		public WithSingleArgConstructor(String name) {
@@ -24,6 +24,11 @@ import groovy.lang.MetaClass;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -397,6 +402,144 @@ class AbstractMappingContextUnitTests {
 		assertThat(context.hasPersistentEntityFor(SecureRandom.class)).isFalse();
 	}
 
+	@Test
+	void concurrentLookupsOnlySeeFullyInitializedEntities() throws Exception {
+
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<BasicPersistentEntity<Object, SamplePersistentProperty>>> futures = new ArrayList<>();
+
+		try {
+
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return context.getRequiredPersistentEntity(Extension.class);
+				}));
+			}
+
+			start.countDown();
+
+			var expected = futures.get(0).get();
+
+			for (var future : futures) {
+
+				var entity = future.get();
+
+				assertThat(entity).isSameAs(expected);
+				assertThat(entity.getPersistentProperty("foo")).isNotNull();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// served from the lock-free lookup table
+		assertThat(context.getPersistentEntity(Extension.class)).isSameAs(futures.get(0).get());
+		assertThat(context.hasPersistentEntityFor(Extension.class)).isTrue();
+	}
+
+	@Test
+	void frozenContextServesKnownEntities() {
+
+		context.setInitialEntitySet(Set.of(Person.class));
+		context.initialize();
+
+		var entity = context.getRequiredPersistentEntity(Person.class);
+
+		context.freeze();
+
+		assertThat(context.isFrozen()).isTrue();
+		assertThat(context.getPersistentEntity(Person.class)).isSameAs(entity);
+		assertThat(context.hasPersistentEntityFor(Person.class)).isTrue();
+		assertThat(context.getPersistentEntity(String.class)).isNull();
+	}
+
+	@Test
+	void frozenContextPrecomputesPersistentPropertyPaths() {
+
+		context.getRequiredPersistentEntity(Sample.class);
+		context.freeze();
+
+		var path = context.getPersistentPropertyPath("persons.name", Sample.class);
+
+		assertThat(path.toDotPath()).isEqualTo("persons.name");
+		assertThat(context.getPersistentPropertyPath("persons.name", Sample.class)).isSameAs(path);
+		assertThatExceptionOfType(InvalidPersistentPropertyPath.class)
+				.isThrownBy(() -> context.getPersistentPropertyPath("persons.unknown", Sample.class));
+	}
+
+	@Test
+	void frozenStrictContextRejectsUnknownTypes() {
+
+		context.setStrict(true);
+		context.freeze();
+
+		assertThatExceptionOfType(MappingException.class) //
+				.isThrownBy(() -> context.getPersistentEntity(Person.class));
+	}
+
+	@Test
+	void frozenContextAddsUnknownTypesInNonStrictMode() {
+
+		context.freeze();
+
+		assertThat(context.getPersistentEntity(Person.class)).isNotNull();
+		assertThat(context.hasPersistentEntityFor(Person.class)).isTrue();
+	}
+
+	@Test
+	void initializesManagedTypesConcurrently() {
+
+		var applicationContext = mock(ApplicationContext.class);
+
+		context.setInitialEntitySet(Set.of(Sample.class, Extension.class, WithMap.class));
+		context.setInitializationExecutor(ForkJoinPool.commonPool());
+		context.setApplicationEventPublisher(applicationContext);
+		context.initialize();
+
+		assertHasEntityFor(Sample.class, context, true);
+		assertHasEntityFor(Extension.class, context, true);
+		assertHasEntityFor(WithMap.class, context, true);
+
+		// nested types
+		assertHasEntityFor(Person.class, context, true);
+		assertHasEntityFor(Base.class, context, true);
+
+		assertThat(context.getRequiredPersistentEntity(Sample.class).getPersistentProperty("persons")).isNotNull();
+		verify(applicationContext, atLeast(3)).publishEvent(any(ApplicationEvent.class));
+	}
+
+	@Test
+	void registersNestedTypesBeforePublishingConcurrentlyInitializedEntities() {
+
+		var nestedTypeRegistered = new ArrayList<Boolean>();
+
+		context.setInitialEntitySet(Set.of(Sample.class));
+		context.setInitializationExecutor(ForkJoinPool.commonPool());
+		context.setApplicationEventPublisher(event -> {
+
+			if (event instanceof MappingContextEvent<?, ?> mappingEvent
+					&& mappingEvent.getPersistentEntity().getType().equals(Sample.class)) {
+				nestedTypeRegistered.add(context.hasPersistentEntityFor(Person.class));
+			}
+		});
+		context.initialize();
+
+		assertThat(nestedTypeRegistered).containsExactly(true);
+	}
+
+	@Test
+	void concurrentInitializationDoesNotPublishEntitiesOnFailure() {
+
+		context = TypeRejectingMappingContext.rejecting(() -> new MappingException("Not supported"), Unsupported.class);
+		context.setInitialEntitySet(Set.of(Person.class, Unsupported.class));
+		context.setInitializationExecutor(ForkJoinPool.commonPool());
+
+		assertThatExceptionOfType(MappingException.class).isThrownBy(context::initialize);
+		assertThat(context.getPersistentEntities()).isEmpty();
+	}
+
 	private static void assertHasEntityFor(Class<?> type, SampleMappingContext context, boolean expected) {
 
 		var found = false;
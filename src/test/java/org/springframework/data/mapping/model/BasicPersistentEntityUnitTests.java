@@ -23,7 +23,9 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
@@ -384,6 +386,19 @@ class BasicPersistentEntityUnitTests<T extends PersistentProperty<T>> {
 		assertThat(seenProperties).containsExactlyInAnyOrder("property", "association");
 	}
 
+	@Test
+	void assignsIdenticalPropertySlotsAcrossMappingContexts() {
+
+		PersistentEntity<Object, ?> first = createPopulatedPersistentEntity(WithAssociations.class);
+		PersistentEntity<Object, ?> second = createPopulatedPersistentEntity(WithAssociations.class);
+
+		Map<String, Integer> firstSlots = getPropertySlots(first);
+
+		assertThat(firstSlots).containsExactly(entry("alpha", 0), entry("bravo", 1), entry("charlie", 2),
+				entry("delta", 3), entry("echo", 4), entry("foxtrot", 5));
+		assertThat(getPropertySlots(second)).isEqualTo(firstSlots);
+	}
+
 	private <S> BasicPersistentEntity<S, T> createEntity(Class<S> type) {
 		return createEntity(type, null);
 	}
@@ -398,6 +413,20 @@ class BasicPersistentEntityUnitTests<T extends PersistentProperty<T>> {
 		return context.getRequiredPersistentEntity(type);
 	}
 
+	private static Map<String, Integer> getPropertySlots(PersistentEntity<?, ?> entity) {
+
+		Map<String, Integer> slots = new LinkedHashMap<>();
+
+		for (int slot = 0; entity.getPersistentProperty(slot) != null; slot++) {
+			slots.put(entity.getPersistentProperty(slot).getName(), slot);
+		}
+
+		entity.doWithAll(
+				property -> assertThat(entity.getPropertySlot(property)).isEqualTo(slots.get(property.getName())));
+
+		return slots;
+	}
+
 	@TypeAlias("foo")
 	private static class AliasedEntity {
 
@@ -508,4 +537,14 @@ class BasicPersistentEntityUnitTests<T extends PersistentProperty<T>> {
 		@Reference WithAssociation association;
 	}
 
+	static class WithAssociations {
+
+		String foxtrot;
+		@Reference WithAssociations echo;
+		String delta;
+		@Reference WithAssociations charlie;
+		@Reference WithAssociation bravo;
+		String alpha;
+	}
+
 }
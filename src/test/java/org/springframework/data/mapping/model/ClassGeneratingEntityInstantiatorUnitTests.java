@@ -39,6 +39,7 @@ import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PreferredConstructor;
 import org.springframework.data.mapping.model.ClassGeneratingEntityInstantiator.ObjectInstantiator;
+import org.springframework.data.mapping.model.ClassGeneratingEntityInstantiator.ObjectInstantiatorClassGenerator;
 import org.springframework.data.mapping.model.ClassGeneratingEntityInstantiatorUnitTests.Outer.Inner;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.ReflectionUtils;
@@ -218,6 +219,47 @@ class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProperty<P>
 		assertThat(result.name).isEqualTo("Hello Walter");
 	}
 
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void recordsCreatorSignatureInGeneratedInstantiator() {
+
+		PersistentEntity<WithFactoryMethod, P> entity = new BasicPersistentEntity<>(
+				TypeInformation.of(WithFactoryMethod.class));
+
+		var instantiatorClass = new ObjectInstantiatorClassGenerator().generateCustomInstantiatorClass(entity,
+				entity.getInstanceCreatorMetadata());
+
+		assertThat(ObjectInstantiatorClassGenerator.getCreatorSignature(entity))
+				.isEqualTo("create(java.lang.Long id,java.lang.String name)");
+		assertThat(ObjectInstantiatorClassGenerator.hasMatchingCreatorSignature(instantiatorClass, entity)).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void rejectsPrecompiledInstantiatorForDifferentCreator() {
+
+		PersistentEntity<StaleInstantiatorEntity, P> entity = new BasicPersistentEntity<>(
+				TypeInformation.of(StaleInstantiatorEntity.class));
+
+		var provider = new ParameterValueProvider<P>() {
+
+			@Override
+			public <T> T getParameterValue(Parameter<T, P> parameter) {
+				return (T) parameter.getName();
+			}
+		};
+
+		assertThat(ObjectInstantiatorClassGenerator.hasMatchingCreatorSignature(
+				StaleInstantiatorEntity__Instantiator_g3onso.class, entity)).isFalse();
+
+		var result = this.instance.createInstance(entity, provider);
+
+		assertThat(result.first).isEqualTo("first");
+		assertThat(result.second).isEqualTo("second");
+		assertThat(this.instance.getInstantiatorFor(entity))
+				.isNotInstanceOf(StaleInstantiatorEntity__Instantiator_g3onso.class);
+	}
+
 	@Test // DATACMNS-578, DATACMNS-1126
 	void instantiateObjCtorDefault() {
 
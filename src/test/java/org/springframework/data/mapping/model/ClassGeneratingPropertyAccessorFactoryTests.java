@@ -18,18 +18,22 @@ package org.springframework.data.mapping.model;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.Assumptions.*;
 
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.data.annotation.AccessType;
 import org.springframework.data.annotation.AccessType.Type;
+import org.springframework.data.mapping.IndexedPersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.model.ClassGeneratingPropertyAccessorFactory.PropertyAccessorClassGenerator;
 import org.springframework.data.mapping.model.subpackage.TypeInOtherPackage;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -115,6 +119,156 @@ public class ClassGeneratingPropertyAccessorFactoryTests {
 		});
 	}
 
+	@ParameterizedTest(name = "{3}")
+	@MethodSource("parameters")
+	void shouldSetAndGetPropertyBySlot(Object bean, String propertyName, Class<?> expectedConstructorType,
+			String displayName) {
+
+		assumeThat(propertyName).isNotEmpty();
+
+		var entity = mappingContext.getRequiredPersistentEntity(bean.getClass());
+		var property = entity.getRequiredPersistentProperty(propertyName);
+		int slot = entity.getPropertySlot(property);
+
+		assertThat(slot).isNotNegative();
+		assertThat(entity.getPersistentProperty(slot)).isEqualTo(property);
+		assertThat(getPersistentPropertyAccessor(bean)).isInstanceOfSatisfying(IndexedPersistentPropertyAccessor.class,
+				accessor -> {
+
+					if (property.isImmutable() && property.getWither() == null) {
+
+						assertThatThrownBy(() -> accessor.setProperty(slot, "value"))
+								.isInstanceOf(UnsupportedOperationException.class);
+					} else {
+
+						accessor.setProperty(slot, "value");
+						assertThat(accessor.getProperty(slot)).isEqualTo("value");
+						assertThat(accessor.getProperty(property)).isEqualTo("value");
+					}
+
+					assertThatExceptionOfType(UnsupportedOperationException.class)
+							.isThrownBy(() -> accessor.getProperty(Integer.MAX_VALUE));
+				});
+	}
+
+	@Test
+	void shouldSupportPropertiesWithCollidingNameHashCodes() {
+
+		var bean = new CollidingPropertyNames();
+		var entity = mappingContext.getRequiredPersistentEntity(CollidingPropertyNames.class);
+		var aa = entity.getRequiredPersistentProperty("Aa");
+		var bb = entity.getRequiredPersistentProperty("BB");
+
+		assertThat(aa.getName().hashCode()).isEqualTo(bb.getName().hashCode());
+		assertThat(factory.isSupported(entity)).isTrue();
+
+		var accessor = factory.getPropertyAccessor(entity, bean);
+		accessor.setProperty(aa, "aa");
+		accessor.setProperty(bb, "bb");
+
+		assertThat(bean.Aa).isEqualTo("aa");
+		assertThat(bean.BB).isEqualTo("bb");
+		assertThat(accessor.getProperty(aa)).isEqualTo("aa");
+		assertThat(accessor.getProperty(bb)).isEqualTo("bb");
+		assertThat(getProperty(new Dummy(), "dummy"))
+				.satisfies(property -> assertThatExceptionOfType(UnsupportedOperationException.class)//
+						.isThrownBy(() -> accessor.getProperty(property)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldDefineAccessorAsHiddenClass() throws Exception {
+
+		var bean = new InnerPublicType();
+		var entity = mappingContext.getRequiredPersistentEntity(InnerPublicType.class);
+		var property = entity.getRequiredPersistentProperty("privateField");
+
+		assertThat(BytecodeUtil.isHiddenClassDefinitionAvailable(InnerPublicType.class)).isTrue();
+		assertThat(BytecodeUtil.isHiddenClassDefinitionAvailable(String.class)).isFalse();
+
+		var className = PropertyAccessorClassGenerator.generateClassName(entity);
+		var bytecode = PropertyAccessorClassGenerator.generateBytecode(className.replace('.', '/'), entity);
+		var accessorClass = MethodHandles.privateLookupIn(InnerPublicType.class, MethodHandles.lookup())
+				.defineHiddenClass(bytecode, true).lookupClass();
+
+		assertThat(accessorClass.isHidden()).isTrue();
+
+		var accessor = (PersistentPropertyAccessor<Object>) accessorClass.getConstructors()[0].newInstance(bean);
+		accessor.setProperty(property, "value");
+
+		assertThat(accessor.getProperty(property)).isEqualTo("value");
+	}
+
+	@Test
+	void returnsExistingClassOnDuplicateDefinition() throws Exception {
+
+		var entity = mappingContext.getRequiredPersistentEntity(DefinedType.class);
+		var className = PropertyAccessorClassGenerator.generateClassName(entity);
+		var bytecode = PropertyAccessorClassGenerator.generateBytecode(className.replace('.', '/'), entity);
+
+		var accessorClass = BytecodeUtil.defineClass(className, bytecode, DefinedType.class);
+
+		assertThat(accessorClass.isHidden()).isFalse();
+		assertThat(BytecodeUtil.defineClass(className, bytecode, DefinedType.class)).isSameAs(accessorClass);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void fallsBackToHiddenClassIfClassLoaderInjectionFails() throws Exception {
+
+		var bean = new FallbackType();
+		var entity = mappingContext.getRequiredPersistentEntity(FallbackType.class);
+		var property = entity.getRequiredPersistentProperty("field");
+		var className = PropertyAccessorClassGenerator.generateClassName(entity);
+		var bytecode = PropertyAccessorClassGenerator.generateBytecode(className.replace('.', '/'), entity);
+
+		BytecodeUtil.defineClass(className, bytecode, FallbackType.class);
+
+		// injecting the same bytes again fails and no class is present under the requested name
+		var accessorClass = BytecodeUtil.defineClass(className + "Fallback", bytecode, FallbackType.class);
+
+		assertThat(accessorClass.isHidden()).isTrue();
+
+		var accessor = (PersistentPropertyAccessor<Object>) accessorClass.getConstructors()[0].newInstance(bean);
+		accessor.setProperty(property, "value");
+
+		assertThat(bean.field).isEqualTo("value");
+	}
+
+	@Test
+	void recordsPropertySlotsInGeneratedAccessor() {
+
+		var entity = mappingContext.getRequiredPersistentEntity(InnerPublicType.class);
+		var accessorClass = PropertyAccessorClassGenerator.generateCustomAccessorClass(entity);
+
+		assertThat(PropertyAccessorClassGenerator.getPropertySlots(entity).split(",")).isSorted().contains("privateField",
+				"publicProperty");
+		assertThat(PropertyAccessorClassGenerator.hasMatchingPropertySlots(accessorClass, entity)).isTrue();
+	}
+
+	@Test
+	void rejectsExistingAccessorWithDifferentPropertySlots() throws Exception {
+
+		var bean = new StaleType();
+		var entity = mappingContext.getRequiredPersistentEntity(StaleType.class);
+		var property = entity.getRequiredPersistentProperty("second");
+		var className = PropertyAccessorClassGenerator.generateClassName(entity);
+
+		// accessor generated for a different slot layout occupying the accessor class name
+		var staleBytecode = PropertyAccessorClassGenerator.generateBytecode(className.replace('.', '/'),
+				mappingContext.getRequiredPersistentEntity(DefinedType.class));
+		var staleClass = BytecodeUtil.defineClass(className, staleBytecode, StaleType.class);
+
+		assertThat(PropertyAccessorClassGenerator.hasMatchingPropertySlots(staleClass, entity)).isFalse();
+
+		var accessor = new ClassGeneratingPropertyAccessorFactory().getPropertyAccessor(entity, bean);
+		accessor.setProperty(property, "value");
+
+		assertThat(accessor.getClass()).isNotSameAs(staleClass);
+		assertThat(accessor.getClass().isHidden()).isTrue();
+		assertThat(bean.second).isEqualTo("value");
+	}
+
 	@ParameterizedTest(name = "{3}") // DATACMNS-809
 	@MethodSource("parameters")
 	@SuppressWarnings("rawtypes")
@@ -501,6 +655,13 @@ public class ClassGeneratingPropertyAccessorFactoryTests {
 
 	public static class SubtypeOfTypeInOtherPackage extends TypeInOtherPackage {}
 
+	@SuppressWarnings("unused")
+	public static class CollidingPropertyNames {
+
+		public String Aa;
+		public String BB;
+	}
+
 	// DATACMNS-809
 	@SuppressWarnings("unused")
 	private static class Dummy {
@@ -508,4 +669,23 @@ public class ClassGeneratingPropertyAccessorFactoryTests {
 		private String dummy;
 		public String publicField;
 	}
+
+	@SuppressWarnings("unused")
+	public static class DefinedType {
+
+		private String field;
+	}
+
+	@SuppressWarnings("unused")
+	public static class StaleType {
+
+		private String first;
+		private String second;
+	}
+
+	@SuppressWarnings("unused")
+	public static class FallbackType {
+
+		private String field;
+	}
 }
@@ -108,6 +108,18 @@ public class ConvertingPropertyAccessorUnitTests {
 		});
 	}
 
+	@Test
+	void convertsValuesOnBulkSetIfTypesDontMatch() {
+
+		var entity = new Entity();
+
+		assertThat(getIdProperty()).satisfies(property -> {
+			getAccessor(entity, CONVERSION_SERVICE).setProperties(new PersistentProperty<?>[] { property },
+					new Object[] { "1" });
+			assertThat(entity.id).isEqualTo(1L);
+		});
+	}
+
 	@Test // DATACMNS-596
 	public void doesNotInvokeConversionIfTypeAlreadyMatchesOnSet() {
 
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.context.SamplePersistentProperty;
+
+/**
+ * Unit tests for {@link EntityMaterializationPlan}.
+ */
+class EntityMaterializationPlanUnitTests {
+
+	SampleMappingContext context = new SampleMappingContext();
+	EntityInstantiators instantiators = new EntityInstantiators();
+
+	@Test
+	void separatesCreatorArgumentsFromPopulatedProperties() {
+
+		EntityMaterializationPlan<Person, SamplePersistentProperty> plan = getPlan(Person.class);
+
+		assertThat(plan.getPopulatedProperties()).extracting(SamplePersistentProperty::getName)
+				.containsExactlyInAnyOrder("lastname", "age");
+	}
+
+	@Test
+	void materializesEntityFromCreatorAndProperties() {
+
+		EntityMaterializationPlan<Person, SamplePersistentProperty> plan = getPlan(Person.class);
+
+		Person person = plan.materialize(provider(Map.of("firstname", "Walter", "lastname", "White", "age", 50)), null);
+
+		assertThat(person.firstname).isEqualTo("Walter");
+		assertThat(person.lastname).isEqualTo("White");
+		assertThat(person.age).isEqualTo(50);
+	}
+
+	@Test
+	void populatesMatchingPropertiesOnly() {
+
+		EntityMaterializationPlan<Person, SamplePersistentProperty> plan = getPlan(Person.class);
+		PropertyValueProvider<SamplePersistentProperty> provider = provider(Map.of("firstname", "Walter", "lastname",
+				"White"));
+
+		Person person = plan.createInstance(provider, null);
+		plan.populate(plan.getEntity().getPropertyAccessor(person), provider, it -> !it.getName().equals("age"));
+
+		assertThat(person.lastname).isEqualTo("White");
+		assertThat(person.age).isEqualTo(7);
+	}
+
+	@Test
+	void materializesImmutableEntityWithoutPopulation() {
+
+		EntityMaterializationPlan<ImmutablePerson, SamplePersistentProperty> plan = getPlan(ImmutablePerson.class);
+
+		ImmutablePerson person = plan.materialize(provider(Map.of("firstname", "Walter", "displayName", "Heisenberg")),
+				null);
+
+		assertThat(plan.getPopulatedProperties()).isEmpty();
+		assertThat(person).isEqualTo(new ImmutablePerson("Walter", null));
+	}
+
+	@Test
+	void cachesPlanPerEntity() {
+
+		PersistentEntity<Person, SamplePersistentProperty> entity = getEntity(Person.class);
+
+		assertThat(instantiators.getMaterializationPlan(entity)).isSameAs(instantiators.getMaterializationPlan(entity));
+	}
+
+	private <T> EntityMaterializationPlan<T, SamplePersistentProperty> getPlan(Class<T> type) {
+		return instantiators.getMaterializationPlan(getEntity(type));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> PersistentEntity<T, SamplePersistentProperty> getEntity(Class<T> type) {
+		return (PersistentEntity<T, SamplePersistentProperty>) context.getRequiredPersistentEntity(type);
+	}
+
+	private static PropertyValueProvider<SamplePersistentProperty> provider(Map<String, Object> values) {
+
+		return new PropertyValueProvider<>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> @Nullable T getPropertyValue(SamplePersistentProperty property) {
+				return (T) values.get(property.getName());
+			}
+		};
+	}
+
+	static class Person {
+
+		final String firstname;
+		String lastname;
+		int age = 7;
+
+		Person(String firstname) {
+			this.firstname = firstname;
+		}
+	}
+
+	record ImmutablePerson(String firstname, @Transient @Nullable String displayName) {
+
+	}
+}
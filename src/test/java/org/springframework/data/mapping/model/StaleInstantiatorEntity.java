@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+/**
+ * Entity whose precompiled instantiator {@link StaleInstantiatorEntity__Instantiator_g3onso} was generated for a
+ * previous version of its constructor declaring the parameters in a different order.
+ */
+public class StaleInstantiatorEntity {
+
+	final String first;
+	final String second;
+
+	public StaleInstantiatorEntity(String first, String second) {
+		this.first = first;
+		this.second = second;
+	}
+}
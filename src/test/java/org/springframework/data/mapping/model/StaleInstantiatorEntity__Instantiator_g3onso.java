@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+
+/**
+ * Ahead-of-time generated entity instantiator for {@link StaleInstantiatorEntity} as generated for a previous version
+ * of its constructor {@code StaleInstantiatorEntity(String second, String first)}.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class StaleInstantiatorEntity__Instantiator_g3onso implements EntityInstantiator {
+
+	public static final String CREATOR_SIGNATURE = "<init>(java.lang.String second,java.lang.String first)";
+
+	@Override
+	public <T, E extends PersistentEntity<? extends T, P>, P extends PersistentProperty<P>> T createInstance(E entity,
+			ParameterValueProvider<P> provider) {
+
+		List<Parameter<Object, P>> parameters = entity.getInstanceCreatorMetadata().getParameters();
+		Object arg0 = provider.getParameterValue(parameters.get(0));
+		Object arg1 = provider.getParameterValue(parameters.get(1));
+
+		try {
+			return (T) new StaleInstantiatorEntity((String) arg1, (String) arg0);
+		} catch (Exception ex) {
+			throw new MappingInstantiationException(entity, Arrays.asList(new Object[] { arg0, arg1 }), ex);
+		}
+	}
+}
@@ -386,6 +386,70 @@ class ProxyProjectionFactoryUnitTests {
 		assertThatNoException().isThrownBy(projection::getLastname);
 	}
 
+	@Test
+	void backsClosedProjectionWithGeneratedClass() {
+
+		var customer = new Customer();
+		customer.firstname = "Dave";
+
+		var excerpt = factory.createProjection(CustomerExcerpt.class, customer);
+
+		assertThat(Proxy.isProxyClass(excerpt.getClass())).isFalse();
+		assertThat(factory.createProjection(CustomerExcerpt.class, new Customer())).hasSameClassAs(excerpt);
+		assertThat(excerpt.getFirstname()).isEqualTo("Dave");
+		assertThat(excerpt).hasToString(customer.toString()).hasSameHashCodeAs(customer);
+		assertThat(((TargetAware) excerpt).getTarget()).isSameAs(customer);
+		assertThat(((TargetAware) excerpt).getTargetClass()).isEqualTo(Customer.class);
+	}
+
+	@Test
+	void generatedProjectionsWithEqualTargetsAreEqual() {
+
+		var customer = new Customer();
+		var excerpt = factory.createProjection(CustomerExcerpt.class, customer);
+
+		assertThat(Proxy.isProxyClass(excerpt.getClass())).isFalse();
+		assertThat(excerpt).isEqualTo(excerpt) //
+				.isEqualTo(factory.createProjection(CustomerExcerpt.class, customer)) //
+				.isNotEqualTo(factory.createProjection(CustomerExcerpt.class, new Customer())) //
+				.isNotEqualTo(factory.createProjection(CustomerWithOptional.class, customer)) //
+				.isNotEqualTo(customer) //
+				.isNotEqualTo(null);
+	}
+
+	@Test
+	void invokesDefaultMethodOnGeneratedProjection() {
+
+		var customer = new Customer();
+		customer.id = 1L;
+		customer.firstname = "Dave";
+
+		var excerpt = factory.createProjection(CustomerExcerptWithDefaultMethod.class, customer);
+
+		assertThat(Proxy.isProxyClass(excerpt.getClass())).isFalse();
+		assertThat(excerpt.getFirstnameAndId()).isEqualTo("Dave 1");
+	}
+
+	@Test
+	void generatedProjectionConsidersNullabilityAnnotations() {
+
+		var projection = factory.createProjection(CustomerProjectionWithNullables.class, new Customer());
+
+		assertThat(Proxy.isProxyClass(projection.getClass())).isFalse();
+		assertThatNoException().isThrownBy(projection::getFirstname);
+		assertThatExceptionOfType(NullPointerException.class).isThrownBy(projection::getLastname);
+	}
+
+	@Test
+	void fallsBackToProxyIfSourceDoesNotProvideProjectedProperties() {
+
+		var address = new Address();
+		address.zipCode = "ZIP";
+
+		assertThat(Proxy.isProxyClass(factory.createProjection(AddressExcerpt.class, address).getClass())).isFalse();
+		assertThat(Proxy.isProxyClass(factory.createProjection(CustomerExcerpt.class, address).getClass())).isTrue();
+	}
+
 	interface Contact {}
 
 	interface CustomerWithLocalDateTime {
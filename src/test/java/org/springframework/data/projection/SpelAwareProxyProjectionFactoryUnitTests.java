@@ -21,8 +21,11 @@ import java.beans.PropertyDescriptor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.NotWritablePropertyException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.expression.spel.SpelCompilerMode;
 
 /**
  * Unit tests for {@link SpelAwareProxyProjectionFactory}.
@@ -95,6 +98,53 @@ class SpelAwareProxyProjectionFactoryUnitTests {
 		assertThatExceptionOfType(NotWritablePropertyException.class).isThrownBy(() -> projection.setFirstName("Carl"));
 	}
 
+	@Test
+	void reusesParsedExpressionsAcrossProjections() {
+
+		var dave = new Customer();
+		dave.firstname = "Dave";
+		dave.lastname = "Matthews";
+
+		var carter = new Customer();
+		carter.firstname = "Carter";
+		carter.lastname = "Beauford";
+
+		var first = factory.createProjection(CustomerExcerpt.class, dave);
+		var second = factory.createProjection(CustomerExcerpt.class, carter);
+
+		assertThat(second.getFullName()).isEqualTo("Carter Beauford");
+		assertThat(first.getFullName()).isEqualTo("Dave Matthews");
+	}
+
+	@Test
+	void distinguishesOverloadedExpressionMethods() {
+
+		var customer = new Customer();
+		customer.firstname = "Dave";
+
+		var projection = factory.createProjection(GreetingProjection.class, customer);
+
+		assertThat(projection.greet()).isEqualTo("Hello Dave");
+		assertThat(projection.greet("Hi")).isEqualTo("Hi Dave");
+	}
+
+	@ParameterizedTest
+	@EnumSource(SpelCompilerMode.class)
+	void evaluatesExpressionsUsingCompilerMode(SpelCompilerMode compilerMode) {
+
+		var factory = new SpelAwareProxyProjectionFactory(compilerMode);
+
+		for (int i = 0; i < 5; i++) {
+
+			var customer = new Customer();
+			customer.firstname = "Dave" + i;
+			customer.lastname = "Matthews";
+
+			assertThat(factory.createProjection(CustomerExcerpt.class, customer).getFullName())
+					.isEqualTo("Dave" + i + " Matthews");
+		}
+	}
+
 	static class Customer {
 
 		public String firstname, lastname;
@@ -110,6 +160,15 @@ class SpelAwareProxyProjectionFactoryUnitTests {
 		void setFirstname(String firstname);
 	}
 
+	interface GreetingProjection {
+
+		@Value("#{'Hello ' + target.firstname}")
+		String greet();
+
+		@Value("#{args[0] + ' ' + target.firstname}")
+		String greet(String greeting);
+	}
+
 	interface ProjectionWithNotWriteableProperty {
 
 		void setFirstName(String firstname);
@@ -15,14 +15,20 @@
  */
 package org.springframework.data.repository.config;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.event.ContextRefreshedEvent;
@@ -74,5 +80,61 @@ class DeferredRepositoryInitializationListenerUnitTests {
 		verify(beanFactory, never()).getBeansOfType(Repository.class);
 	}
 
+	@Test
+	void initializesRepositoriesConcurrently() {
+
+		var beanFactory = new DefaultListableBeanFactory();
+		var threads = ConcurrentHashMap.<String> newKeySet();
+
+		for (int i = 0; i < 4; i++) {
+			beanFactory.registerBeanDefinition("repository" + i, new RootBeanDefinition(SampleRepository.class, () -> {
+				threads.add(Thread.currentThread().getName());
+				return new SampleRepository();
+			}));
+		}
+
+		var listener = new DeferredRepositoryInitializationListener(beanFactory, 2);
+		listener.onApplicationEvent(new ContextRefreshedEvent(new GenericApplicationContext(beanFactory)));
+
+		for (int i = 0; i < 4; i++) {
+			assertThat(beanFactory.containsSingleton("repository" + i)).isTrue();
+		}
+		assertThat(threads).allMatch(it -> it.startsWith("spring-data-repository-init-"));
+	}
+
+	@Test
+	void initializesRepositoriesOnBootstrapExecutor() {
+
+		var beanFactory = new DefaultListableBeanFactory();
+		var executions = new AtomicInteger();
+		beanFactory.setBootstrapExecutor(command -> {
+			executions.incrementAndGet();
+			command.run();
+		});
+		beanFactory.registerBeanDefinition("repository", new RootBeanDefinition(SampleRepository.class));
+
+		var listener = new DeferredRepositoryInitializationListener(beanFactory, 2);
+		listener.onApplicationEvent(new ContextRefreshedEvent(new GenericApplicationContext(beanFactory)));
+
+		assertThat(beanFactory.containsSingleton("repository")).isTrue();
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void propagatesConcurrentInitializationFailures() {
+
+		var beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("repository", new RootBeanDefinition(SampleRepository.class, () -> {
+			throw new IllegalStateException("Boom");
+		}));
+
+		var listener = new DeferredRepositoryInitializationListener(beanFactory, 2);
+		var event = new ContextRefreshedEvent(new GenericApplicationContext(beanFactory));
+
+		assertThatExceptionOfType(BeanCreationException.class).isThrownBy(() -> listener.onApplicationEvent(event));
+	}
+
+	static class SampleRepository implements Repository<Object, Long> {}
+
 
 }
@@ -27,8 +27,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -419,6 +421,20 @@ class QueryExecutionResultHandlerUnitTests {
 		assertThat(handler.postProcessInvocationResult(source, getMethod("option"))).isSameAs(source);
 	}
 
+	@Test
+	void compiledAdaptationReconsidersChangingResultTypes() throws Exception {
+
+		var adaptation = handler.compile(getMethod("set"));
+		var set = new HashSet<>(Set.of(new Entity()));
+
+		assertThat(adaptation.adapt(set)).isSameAs(set);
+		assertThat(adaptation.adapt(List.of(new Entity()))).isInstanceOfSatisfying(Set.class,
+				it -> assertThat(it).hasSize(1));
+		assertThat(adaptation.adapt(set)).isSameAs(set);
+		assertThat(adaptation.adapt(new ArrayList<>(List.of(new Entity(), new Entity())))).isInstanceOfSatisfying(Set.class,
+				it -> assertThat(it).hasSize(2));
+	}
+
 	private static MethodParameter getMethod(String methodName) throws Exception {
 		return new MethodParameter(Sample.class.getMethod(methodName), -1);
 	}
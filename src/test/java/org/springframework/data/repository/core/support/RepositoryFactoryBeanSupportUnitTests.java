@@ -27,6 +27,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTreeCache;
 import org.springframework.test.util.ReflectionTestUtils;
 
 /**
@@ -135,6 +137,21 @@ class RepositoryFactoryBeanSupportUnitTests {
 		assertThat(factory).extracting("publisher").isNotNull();
 	}
 
+	@Test
+	void releasesCachedPartTreesOnDestroy() {
+
+		RepositoryFactoryBeanSupport<SampleRepository, Object, Long> factoryBean = //
+				new DummyRepositoryFactoryBean<>(SampleRepository.class);
+		factoryBean.setBeanClassLoader(Person.class.getClassLoader());
+
+		PartTree tree = PartTreeCache.get("findByName", Person.class);
+		assertThat(PartTreeCache.get("findByName", Person.class)).isSameAs(tree);
+
+		factoryBean.destroy();
+
+		assertThat(PartTreeCache.get("findByName", Person.class)).isNotSameAs(tree);
+	}
+
 	interface SampleRepository extends Repository<Object, Long> {
 
 		void someMethod();
@@ -142,4 +159,8 @@ class RepositoryFactoryBeanSupportUnitTests {
 	}
 
 	interface SampleWithQuerydslRepository extends Repository<Object, Long>, QuerydslPredicateExecutor<Object> {}
+
+	static class Person {
+		String name;
+	}
 }
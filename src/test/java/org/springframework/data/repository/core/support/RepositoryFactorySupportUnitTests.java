@@ -166,6 +166,48 @@ class RepositoryFactorySupportUnitTests {
 		verify(backingRepo, times(0)).findById(1);
 	}
 
+	@Test
+	void dispatchesDirectlyToTargetAndFragments() {
+
+		factory.setDirectMethodDispatch(true);
+		factory.addInvocationListener(invocationListener);
+
+		var repository = factory.getRepository(ObjectRepository.class, customImplementation);
+		repository.save(repository);
+		repository.findById(1);
+
+		verify(backingRepo, times(1)).save(any(Object.class));
+		verify(customImplementation, times(1)).findById(1);
+		verify(backingRepo, times(0)).findById(1);
+		verify(invocationListener, times(2)).afterInvocation(any());
+	}
+
+	@Test
+	void dispatchesDirectlyToQueries() {
+
+		var reference = new Object();
+		when(factory.queryOne.execute(any(Object[].class))).thenReturn(reference);
+
+		factory.setDirectMethodDispatch(true);
+
+		var repository = factory.getRepository(ObjectRepository.class);
+
+		assertThat(repository.findByClass(Object.class)).isSameAs(reference);
+		verify(factory.queryOne, times(1)).execute(any(Object[].class));
+	}
+
+	@Test
+	void propagatesFragmentExceptionsWithDirectDispatch() {
+
+		when(customImplementation.findById(1)).thenThrow(new IllegalStateException());
+
+		factory.setDirectMethodDispatch(true);
+
+		var repository = factory.getRepository(ObjectRepository.class, customImplementation);
+
+		assertThatIllegalStateException().isThrownBy(() -> repository.findById(1));
+	}
+
 	@Test
 	void createsRepositoryInstanceWithCustomIntermediateRepository() {
 
@@ -500,6 +542,23 @@ class RepositoryFactorySupportUnitTests {
 		orderedInvocation.verify(startup).start("spring.data.repository.proxy");
 	}
 
+	@Test
+	void warmsUpRepositoryMethodsOnRepositoryInitialization() {
+
+		factory.setWarmUp(true);
+
+		var repository = factory.getRepository(ObjectRepository.class, customImplementation);
+
+		var startup = factory.getApplicationStartup();
+		verify(startup).start("spring.data.repository.warmup");
+
+		repository.findById(1);
+		repository.save(repository);
+
+		verify(customImplementation).findById(1);
+		verify(backingRepo).save(any(Object.class));
+	}
+
 	@Test // GH-2341
 	void dummyRepositoryShouldsupportQuerydsl() {
 		factory.getRepository(WithQuerydsl.class, backingRepo);
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult.State;
+
+/**
+ * Unit tests for {@link RepositoryInvocationMetrics}.
+ */
+class RepositoryInvocationMetricsUnitTests {
+
+	RepositoryInvocationMetrics metrics = new RepositoryInvocationMetrics();
+
+	@Test
+	void recordsInvocationsPerMethod() throws Exception {
+
+		Method findAll = SampleRepository.class.getMethod("findAll");
+		Method findById = SampleRepository.class.getMethod("findById", Long.class);
+
+		metrics.afterInvocation(invocation(findAll, State.SUCCESS, 10, 1_000));
+		metrics.afterInvocation(invocation(findAll, State.SUCCESS, 2, 3_000));
+		metrics.afterInvocation(invocation(findById, State.ERROR, -1, 500));
+
+		assertThat(metrics.getMetrics()).hasSize(2);
+		assertThat(metrics.getMetrics(SampleRepository.class)).hasSize(2);
+
+		RepositoryInvocationMetrics.MethodMetrics findAllMetrics = metrics.getMetrics(SampleRepository.class, findAll);
+
+		assertThat(findAllMetrics.getInvocationCount()).isEqualTo(2);
+		assertThat(findAllMetrics.getErrorCount()).isZero();
+		assertThat(findAllMetrics.getTotalDuration()).isEqualTo(Duration.ofNanos(4_000));
+		assertThat(findAllMetrics.getMeanDuration()).isEqualTo(Duration.ofNanos(2_000));
+		assertThat(findAllMetrics.getMaxDuration()).isEqualTo(Duration.ofNanos(3_000));
+		assertThat(findAllMetrics.getResultCount()).isEqualTo(2);
+		assertThat(findAllMetrics.getTotalResultSize()).isEqualTo(12);
+		assertThat(findAllMetrics.getMaxResultSize()).isEqualTo(10);
+
+		RepositoryInvocationMetrics.MethodMetrics findByIdMetrics = metrics.getMetrics(SampleRepository.class, findById);
+
+		assertThat(findByIdMetrics.getInvocationCount()).isOne();
+		assertThat(findByIdMetrics.getErrorCount()).isOne();
+		assertThat(findByIdMetrics.getResultCount()).isZero();
+	}
+
+	@Test
+	void approximatesPercentilesFromHistogram() throws Exception {
+
+		Method findAll = SampleRepository.class.getMethod("findAll");
+
+		for (int i = 0; i < 99; i++) {
+			metrics.afterInvocation(invocation(findAll, State.SUCCESS, 1, 1_000));
+		}
+		metrics.afterInvocation(invocation(findAll, State.SUCCESS, 1, 1_000_000));
+
+		RepositoryInvocationMetrics.MethodMetrics methodMetrics = metrics.getMetrics(SampleRepository.class, findAll);
+
+		assertThat(methodMetrics.getHistogram()[9]).isEqualTo(99); // 512..1023ns
+		assertThat(methodMetrics.getDurationAtPercentile(0.5)).isEqualTo(Duration.ofNanos(1023));
+		assertThat(methodMetrics.getDurationAtPercentile(0.99)).isEqualTo(Duration.ofNanos(1023));
+		assertThat(methodMetrics.getDurationAtPercentile(1)).isEqualTo(Duration.ofNanos(1_000_000));
+	}
+
+	@Test
+	void recordsConcurrentInvocations() throws Exception {
+
+		Method findAll = SampleRepository.class.getMethod("findAll");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			CompletableFuture.allOf(IntStream.range(0, 4).mapToObj(it -> CompletableFuture.runAsync(() -> {
+				for (int i = 0; i < 1000; i++) {
+					metrics.afterInvocation(invocation(findAll, State.SUCCESS, 1, 100));
+				}
+			}, executor)).toArray(CompletableFuture[]::new)).join();
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(metrics.getMetrics(SampleRepository.class, findAll).getInvocationCount()).isEqualTo(4000);
+		assertThat(metrics.getMetrics(SampleRepository.class, findAll).getTotalResultSize()).isEqualTo(4000);
+	}
+
+	@Test
+	void resetDiscardsMetrics() throws Exception {
+
+		Method findAll = SampleRepository.class.getMethod("findAll");
+		metrics.afterInvocation(invocation(findAll, State.SUCCESS, 1, 100));
+
+		metrics.reset();
+
+		assertThat(metrics.getMetrics()).isEmpty();
+		assertThat(metrics.getMetrics(SampleRepository.class, findAll)).isNull();
+	}
+
+	private static RepositoryMethodInvocation invocation(Method method, State state, long resultSize, long durationNs) {
+
+		RepositoryMethodInvocationResult result = new RepositoryMethodInvocationResult() {
+
+			@Override
+			public State getState() {
+				return state;
+			}
+
+			@Override
+			public @Nullable Throwable getError() {
+				return state == State.ERROR ? new IllegalStateException() : null;
+			}
+
+			@Override
+			public long getResultSize() {
+				return resultSize;
+			}
+		};
+
+		return new RepositoryMethodInvocation(SampleRepository.class, method, result, durationNs);
+	}
+
+	interface SampleRepository extends Repository<Object, Long> {
+
+		List<Object> findAll();
+
+		Object findById(Long id);
+	}
+}
@@ -32,6 +32,7 @@ import java.util.Queue;
 import java.util.Spliterator;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -254,6 +255,81 @@ class RepositoryMethodInvokerUnitTests {
 		assertThat(multicaster.first().getResult().getError()).isNull();
 	}
 
+	@Test
+	void skipsCaptureWithoutListeners() throws Exception {
+
+		when(query.execute(any())).thenReturn(new TestDummy());
+
+		Object result = repositoryMethodInvoker("findAll").invoke(RepositoryInvocationMulticaster.create(List.of(), 1));
+
+		assertThat(result).isInstanceOf(TestDummy.class);
+		assertThat(multicaster).isEmpty();
+	}
+
+	@Test
+	void capturesSampleOfInvocationsWhenSampling() throws Exception {
+
+		when(query.execute(any())).thenReturn(new TestDummy());
+
+		var sampling = new RepositoryInvocationMulticaster.SamplingRepositoryInvocationMulticaster(multicaster, 3);
+		var invoker = repositoryMethodInvoker("findAll");
+
+		for (int i = 0; i < 1200; i++) {
+			invoker.invoke(sampling);
+		}
+
+		assertThat(multicaster).hasSizeBetween(300, 500);
+		verify(query, times(1200)).execute(any());
+	}
+
+	@Test
+	void capturesResultSize() throws Exception {
+
+		when(query.execute(any())).thenReturn(List.of(new TestDummy(), new TestDummy()), null, new TestDummy());
+
+		var invoker = repositoryMethodInvoker("findAll");
+		invoker.invoke();
+		invoker.invoke();
+		invoker.invoke();
+
+		assertThat(multicaster).extracting(it -> it.getResult().getResultSize()).containsExactly(2L, 0L, 1L);
+	}
+
+	@Test
+	void capturesConsumedStreamElementsAsResultSize() throws Exception {
+
+		when(query.execute(any())).thenReturn(Stream.generate(TestDummy::new));
+
+		Stream<TestDummy> stream = repositoryMethodInvoker("streamAll").invoke();
+		stream.limit(3).forEach(it -> {});
+		stream.close();
+
+		assertThat(multicaster.first().getResult().getResultSize()).isEqualTo(3);
+	}
+
+	@Test
+	void capturesCountedStreamElementsAsResultSize() throws Exception {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		when(query.execute(any()))
+				.thenReturn(Stream.of(new TestDummy(), new TestDummy(), new TestDummy()).onClose(() -> closed.set(true)));
+
+		Stream<TestDummy> stream = repositoryMethodInvoker("streamAll").invoke();
+		assertThat(stream.count()).isEqualTo(3);
+		stream.close();
+
+		assertThat(multicaster.first().getResult().getResultSize()).isEqualTo(3);
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void rejectsInvalidSampleRate() {
+
+		var listeners = List.of(mock(RepositoryMethodInvocationListener.class));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> RepositoryInvocationMulticaster.create(listeners, 0));
+	}
+
 	RepositoryMethodInvokerStub repositoryMethodInvoker(String methodName) {
 		return new RepositoryMethodInvokerStub(DummyRepository.class, multicaster, methodName, query::execute);
 	}
@@ -27,8 +27,10 @@ import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,9 +38,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
@@ -336,6 +341,107 @@ class ResultProcessorUnitTests {
 				}).verifyComplete();
 	}
 
+	@Test
+	void lazilyProjectsListElementsOnAccess() throws Exception {
+
+		var processor = getProcessor("findAllProjection").withLazyProjection();
+		var conversions = new AtomicInteger();
+
+		List<Sample> source = List.of(new Sample("Dave", "Matthews"), new Sample("Carter", "Beauford"));
+		List<SampleProjection> result = processor.processResult(source, it -> {
+			conversions.incrementAndGet();
+			return it;
+		});
+
+		assertThat(result).hasSize(2);
+		assertThat(conversions).hasValue(0);
+
+		assertThat(result.get(1).getLastname()).isEqualTo("Beauford");
+		assertThat(conversions).hasValue(1);
+
+		assertThat(result).extracting(SampleProjection::getLastname).containsExactly("Matthews", "Beauford");
+		assertThat(conversions).hasValue(3);
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> result.remove(0));
+	}
+
+	@Test
+	void lazilyProjectsPageContent() throws Exception {
+
+		var processor = getProcessor("findPageProjection", Pageable.class).withLazyProjection();
+
+		Page<Sample> source = new PageImpl<>(List.of(new Sample("Dave", "Matthews")), PageRequest.of(1, 1), 3);
+		Page<SampleProjection> result = processor.processResult(source);
+
+		assertThat(result.getTotalElements()).isEqualTo(3);
+		assertThat(result.getPageable()).isEqualTo(PageRequest.of(1, 1));
+		assertThat(result.hasNext()).isTrue();
+		assertThat(result.getContent()).extracting(SampleProjection::getLastname).containsExactly("Matthews");
+		assertThat(result.map(SampleProjection::getLastname)).isInstanceOf(Page.class).containsExactly("Matthews");
+	}
+
+	@Test
+	void lazilyProjectsWindowContent() throws Exception {
+
+		var processor = getProcessor("findWindowProjection", ScrollPosition.class).withLazyProjection();
+
+		Window<Sample> source = Window.from(List.of(new Sample("Dave", "Matthews")), ScrollPosition::offset, true);
+		Window<SampleProjection> result = processor.processResult(source);
+
+		assertThat(result.hasNext()).isTrue();
+		assertThat(result.positionAt(0)).isEqualTo(ScrollPosition.offset(0));
+		assertThat(result).extracting(SampleProjection::getLastname).containsExactly("Matthews");
+	}
+
+	@Test
+	void lazyProjectionViewsUseValueEquality() throws Exception {
+
+		var pageProcessor = getProcessor("findPageProjection", Pageable.class).withLazyProjection();
+		var sliceProcessor = getProcessor("findSliceProjection", Pageable.class).withLazyProjection();
+		var windowProcessor = getProcessor("findWindowProjection", ScrollPosition.class).withLazyProjection();
+
+		List<Sample> content = List.of(new Sample("Dave", "Matthews"));
+
+		Page<String> page = pageProcessor.<Page<SampleProjection>> processResult(
+				new PageImpl<>(content, PageRequest.of(1, 1), 3)).map(SampleProjection::getLastname);
+		Page<String> samePage = pageProcessor.<Page<SampleProjection>> processResult(
+				new PageImpl<>(content, PageRequest.of(1, 1), 3)).map(SampleProjection::getLastname);
+		Page<String> otherTotal = pageProcessor.<Page<SampleProjection>> processResult(
+				new PageImpl<>(content, PageRequest.of(1, 1), 4)).map(SampleProjection::getLastname);
+
+		assertThat(page).isEqualTo(samePage).hasSameHashCodeAs(samePage).isNotEqualTo(otherTotal);
+
+		Slice<String> slice = sliceProcessor.<Slice<SampleProjection>> processResult(
+				new SliceImpl<>(content, PageRequest.of(1, 1), true)).map(SampleProjection::getLastname);
+		Slice<String> sameSlice = sliceProcessor.<Slice<SampleProjection>> processResult(
+				new SliceImpl<>(content, PageRequest.of(1, 1), true)).map(SampleProjection::getLastname);
+		Slice<String> lastSlice = sliceProcessor.<Slice<SampleProjection>> processResult(
+				new SliceImpl<>(content, PageRequest.of(1, 1), false)).map(SampleProjection::getLastname);
+
+		assertThat(slice).isEqualTo(sameSlice).hasSameHashCodeAs(sameSlice).isNotEqualTo(lastSlice).isNotEqualTo(page);
+
+		Window<String> window = windowProcessor.<Window<SampleProjection>> processResult(
+				Window.from(content, ScrollPosition::offset, true)).map(SampleProjection::getLastname);
+		Window<String> sameWindow = windowProcessor.<Window<SampleProjection>> processResult(
+				Window.from(content, ScrollPosition::offset, true)).map(SampleProjection::getLastname);
+		Window<String> otherPositions = windowProcessor.<Window<SampleProjection>> processResult(
+				Window.from(content, it -> ScrollPosition.offset(it + 1), true)).map(SampleProjection::getLastname);
+
+		assertThat(window).isEqualTo(sameWindow).hasSameHashCodeAs(sameWindow).isNotEqualTo(otherPositions);
+	}
+
+	@Test
+	void retainsLazyProjectionForDynamicProjections() throws Exception {
+
+		var accessor = mock(ParameterAccessor.class);
+		doReturn(SampleProjection.class).when(accessor).findDynamicProjection();
+
+		var processor = getProcessor("findAllDynamic", Class.class).withLazyProjection().withDynamicProjection(accessor);
+		List<SampleProjection> result = processor.processResult(new LinkedList<>(List.of(new Sample("Dave", "Matthews"))));
+
+		assertThat(result).isNotInstanceOf(LinkedList.class);
+		assertThat(result).extracting(SampleProjection::getLastname).containsExactly("Matthews");
+	}
+
 	private static ResultProcessor getProcessor(String methodName, Class<?>... parameters) throws Exception {
 		return getQueryMethod(methodName, parameters).getResultProcessor();
 	}
@@ -369,8 +475,12 @@ class ResultProcessorUnitTests {
 
 		Slice<SampleProjection> findSliceProjection(Pageable pageable);
 
+		Window<SampleProjection> findWindowProjection(ScrollPosition position);
+
 		<T> T findOneDynamic(Class<T> type);
 
+		<T> List<T> findAllDynamic(Class<T> type);
+
 		Stream<SampleProjection> findStreamProjection();
 
 		Mono<Sample> findMonoSample();
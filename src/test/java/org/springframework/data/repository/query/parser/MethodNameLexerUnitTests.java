@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.query.parser;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.repository.query.parser.MethodNameLexer.Subject;
+import org.springframework.data.repository.query.parser.MethodNameLexer.SubjectType;
+
+/**
+ * Unit tests for {@link MethodNameLexer}.
+ */
+class MethodNameLexerUnitTests {
+
+	@Test
+	void findsSubject() {
+
+		assertThat(MethodNameLexer.findSubject("findByLastname")).isEqualTo(new Subject(SubjectType.QUERY, 4, 6));
+		assertThat(MethodNameLexer.findSubject("countDistinctUserByLastname"))
+				.isEqualTo(new Subject(SubjectType.COUNT, 5, 19));
+		assertThat(MethodNameLexer.findSubject("removeByLastname")).isEqualTo(new Subject(SubjectType.DELETE, 6, 8));
+		assertThat(MethodNameLexer.findSubject("existsByLastname")).isEqualTo(new Subject(SubjectType.EXISTS, 6, 8));
+	}
+
+	@Test
+	void doesNotFindSubjectWithoutCamelCaseBoundary() {
+
+		assertThat(MethodNameLexer.findSubject("findbyLastname")).isNull();
+		assertThat(MethodNameLexer.findSubject("finder")).isNull();
+		assertThat(MethodNameLexer.findSubject("lastname")).isNull();
+	}
+
+	@Test
+	void findsMaxResults() {
+
+		assertThat(maxResults("findFirstByLastname")).isOne();
+		assertThat(maxResults("findTop10ByLastname")).isEqualTo(10);
+		assertThat(maxResults("findDistinctFirst3UsersByLastname")).isEqualTo(3);
+		assertThat(maxResults("findFirst2xByLastname")).isNull();
+		assertThat(maxResults("countTop10ByLastname")).isNull();
+		assertThat(maxResults("findByFirstname")).isNull();
+	}
+
+	@Test
+	void splitsAroundKeywordsFollowedByUpperCaseOrNonLatinLetters() {
+
+		assertThat(MethodNameLexer.split("FirstnameAndLastname", "And")).containsExactly("Firstname", "Lastname");
+		assertThat(MethodNameLexer.split("AndroidAndLastname", "And")).containsExactly("Android", "Lastname");
+		assertThat(MethodNameLexer.split("Firstname和And名字", "And")).containsExactly("Firstname和", "名字");
+		assertThat(MethodNameLexer.split("OrderByName", "OrderBy")).containsExactly("", "Name");
+		assertThat(MethodNameLexer.split("NameOrderBy", "OrderBy")).containsExactly("NameOrderBy");
+		assertThat(MethodNameLexer.split("", "Or")).containsExactly("");
+	}
+
+	@Test
+	void stripsIgnoreCaseKeywords() {
+
+		assertThat(MethodNameLexer.stripIgnoreCase("LastnameAllIgnoreCase", "AllIgnor")).isEqualTo("Lastname");
+		assertThat(MethodNameLexer.stripIgnoreCase("LastnameIgnoringCase", "Ignor")).isEqualTo("Lastname");
+		assertThat(MethodNameLexer.stripIgnoreCase("IgnoredLastnameIgnoreCase", "Ignor")).isEqualTo("IgnoredLastname");
+		assertThat(MethodNameLexer.stripIgnoreCase("Lastname", "Ignor")).isNull();
+	}
+
+	@Test
+	void splitsOrderByClause() {
+
+		assertThat(MethodNameLexer.splitOrderBy("LastnameAscUsernameDesc")).containsExactly("LastnameAsc", "UsernameDesc");
+		assertThat(MethodNameLexer.splitOrderBy("AscendingDesc")).containsExactly("AscendingDesc");
+		assertThat(MethodNameLexer.findDirection("UsernameDesc")).isEqualTo(8);
+		assertThat(MethodNameLexer.findDirection("Desc")).isEqualTo(4);
+		assertThat(MethodNameLexer.findDirection("Username")).isEqualTo(8);
+	}
+
+	@Test
+	void suffixTriePrefersFirstAddedKeyword() {
+
+		MethodNameLexer.KeywordTrie<String> trie = MethodNameLexer.KeywordTrie.forSuffixes();
+		trie.add("IsNotNull", "IS_NOT_NULL");
+		trie.add("Null", "IS_NULL");
+		trie.add("Not", "NEGATING_SIMPLE_PROPERTY");
+
+		assertThat(trie.find("LastnameIsNotNull").value()).isEqualTo("IS_NOT_NULL");
+		assertThat(trie.find("LastnameNull").value()).isEqualTo("IS_NULL");
+		assertThat(trie.find("LastnameNot").length()).isEqualTo(3);
+		assertThat(trie.find("Lastname")).isNull();
+	}
+
+	private static Integer maxResults(String source) {
+
+		Subject subject = MethodNameLexer.findSubject(source);
+		return subject == null ? null : MethodNameLexer.findMaxResults(source, subject);
+	}
+}
@@ -29,11 +29,13 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.core.PropertyPath;
+import org.springframework.data.core.PropertyReferenceException;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
 import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.data.repository.query.parser.PartTree.OrPart;
+import org.springframework.data.util.CacheStatistics;
 
 /**
  * Unit tests for {@link PartTree}.
@@ -642,6 +644,36 @@ class PartTreeUnitTests {
 		assertThat(tree.getParts()).hasSize(1);
 	}
 
+	@Test
+	void sharesCachedPartTrees() {
+
+		CacheStatistics before = PartTreeCache.getStatistics();
+
+		PartTree tree = PartTree.of("findByFirstnameAndLastnameOrderByBirthdayDesc", User.class);
+
+		assertThat(PartTree.of("findByFirstnameAndLastnameOrderByBirthdayDesc", User.class)).isSameAs(tree);
+		assertThat(PartTree.of("findByFirstnameAndLastnameOrderByBirthdayAsc", User.class)).isNotSameAs(tree);
+
+		CacheStatistics after = PartTreeCache.getStatistics();
+
+		assertThat(after.capacity()).isEqualTo(PartTreeCache.DEFAULT_CACHE_SIZE);
+		assertThat(after.hitCount()).isGreaterThan(before.hitCount());
+		assertThat(after.requestCount()).isGreaterThanOrEqualTo(before.requestCount() + 3);
+	}
+
+	@Test
+	void doesNotCacheInvalidMethodNames() {
+
+		long misses = PartTreeCache.getStatistics().missCount();
+
+		assertThatExceptionOfType(PropertyReferenceException.class)
+				.isThrownBy(() -> PartTree.of("findByUnknownProperty", User.class));
+		assertThatExceptionOfType(PropertyReferenceException.class)
+				.isThrownBy(() -> PartTree.of("findByUnknownProperty", User.class));
+
+		assertThat(PartTreeCache.getStatistics().missCount()).isGreaterThanOrEqualTo(misses + 2);
+	}
+
 	private static void assertLimiting(String methodName, Class<?> entityType, boolean limiting, Integer maxResults) {
 		assertLimiting(methodName, entityType, limiting, maxResults, false);
 	}
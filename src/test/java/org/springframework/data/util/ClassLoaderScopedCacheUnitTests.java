@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.OverridingClassLoader;
+
+/**
+ * Unit tests for {@link ClassLoaderScopedCache}.
+ */
+class ClassLoaderScopedCacheUnitTests {
+
+	ClassLoader classLoader = getClass().getClassLoader();
+
+	@Test
+	void cachesValuesPerClassLoader() {
+
+		ClassLoaderScopedCache<String, Object> cache = new ClassLoaderScopedCache<>(16, key -> new Object());
+		ClassLoader other = new OverridingClassLoader(classLoader);
+
+		Object value = cache.get(classLoader, "key");
+
+		assertThat(cache.get(classLoader, "key")).isSameAs(value);
+		assertThat(cache.get(other, "key")).isNotSameAs(value);
+		assertThat(cache.get(null, "key")).isNotSameAs(value);
+		assertThat(cache.getStatistics()).isEqualTo(new CacheStatistics(16, 3, 1, 3));
+	}
+
+	@Test
+	void doesNotCacheValuesWithZeroCapacity() {
+
+		ClassLoaderScopedCache<String, Object> cache = new ClassLoaderScopedCache<>(0, key -> new Object());
+
+		assertThat(cache.get(classLoader, "key")).isNotSameAs(cache.get(classLoader, "key"));
+		assertThat(cache.getStatistics()).isEqualTo(new CacheStatistics(0, 0, 0, 2));
+	}
+
+	@Test
+	void clearRemovesValuesAndResetsStatistics() {
+
+		ClassLoaderScopedCache<String, Object> cache = new ClassLoaderScopedCache<>(16, key -> new Object());
+
+		Object value = cache.get(classLoader, "key");
+		cache.clear();
+
+		assertThat(cache.getStatistics()).isEqualTo(new CacheStatistics(16, 0, 0, 0));
+		assertThat(cache.get(classLoader, "key")).isNotSameAs(value);
+	}
+
+	@Test
+	void clearRemovesValuesOfClassLoader() {
+
+		ClassLoaderScopedCache<String, Object> cache = new ClassLoaderScopedCache<>(16, key -> new Object());
+		ClassLoader other = new OverridingClassLoader(classLoader);
+
+		Object value = cache.get(classLoader, "key");
+		Object otherValue = cache.get(other, "key");
+		Object bootstrapValue = cache.get(null, "key");
+
+		cache.clear(other);
+		cache.clear(null);
+
+		assertThat(cache.get(classLoader, "key")).isSameAs(value);
+		assertThat(cache.get(other, "key")).isNotSameAs(otherValue);
+		assertThat(cache.get(null, "key")).isNotSameAs(bootstrapValue);
+	}
+
+	@Test
+	void readsConfiguredCapacity() {
+
+		assertThat(ClassLoaderScopedCache.getConfiguredCapacity("spring.data.test.unknown-cache-size", 42)).isEqualTo(42);
+	}
+}
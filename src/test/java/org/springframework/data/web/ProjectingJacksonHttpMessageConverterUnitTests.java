@@ -16,11 +16,19 @@
 package org.springframework.data.web;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 
 /**
  * Unit tests for {@link ProjectingJacksonHttpMessageConverter}.
@@ -64,9 +72,92 @@ class ProjectingJacksonHttpMessageConverterUnitTests {
 		assertThat(converter.canRead(ResolvableType.forMethodParameter(method, 0), ANYTHING_JSON)).isFalse();
 	}
 
+	@Test
+	void extractsDefinitePathsInStreamingPass() throws Exception {
+
+		converter.setStreamingExtraction(true);
+
+		var payload = (Customer) converter.read(ResolvableType.forClass(Customer.class), message("""
+				{ "firstname" : "Dave", "lastname" : "Matthews", "ignored" : { "nested" : [ 1, 2, { "deep" : true } ] },
+				  "address" : { "zipCode" : "01097", "city" : "Dresden" },
+				  "addresses" : [ { "city" : "Dresden" }, { "city" : "Weinheim" }, { "city" : "Berlin" } ],
+				  "tags" : [ "a", "b" ] }"""), null);
+
+		assertThat(payload.getFirstname()).isEqualTo("Dave");
+		assertThat(payload.getLastname()).isEqualTo("Matthews");
+		assertThat(payload.getCity()).isEqualTo("Dresden");
+		assertThat(payload.getSecondCity()).isEqualTo("Weinheim");
+		assertThat(payload.getTags()).containsExactly("a", "b");
+		assertThat(payload.getAddress().getZipCode()).isEqualTo("01097");
+		assertThat(payload.getMissing()).isNull();
+		assertThat(payload.toString()).doesNotContain("ignored", "Berlin");
+	}
+
+	@Test
+	void readsEntireDocumentForIndefinitePaths() throws Exception {
+
+		converter.setStreamingExtraction(true);
+
+		var payload = (Cities) converter.read(ResolvableType.forClass(Cities.class),
+				message("{ \"addresses\" : [ { \"city\" : \"Dresden\" }, { \"city\" : \"Weinheim\" } ] }"), null);
+
+		assertThat(payload.getCities()).containsExactly("Dresden", "Weinheim");
+	}
+
+	@Test
+	void rejectsMalformedJsonInStreamingPass() {
+
+		converter.setStreamingExtraction(true);
+
+		assertThatExceptionOfType(HttpMessageNotReadableException.class).isThrownBy(
+				() -> converter.read(ResolvableType.forClass(Customer.class), message("{ \"firstname\" : "), null));
+	}
+
+	private static HttpInputMessage message(String payload) throws IOException {
+
+		HttpInputMessage message = mock(HttpInputMessage.class);
+		when(message.getBody()).thenReturn(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)));
+
+		return message;
+	}
+
 	@ProjectedPayload
 	interface SampleInterface {}
 
+	@ProjectedPayload
+	interface Customer {
+
+		@JsonPath("$.firstname")
+		String getFirstname();
+
+		String getLastname();
+
+		@JsonPath("$.address.city")
+		String getCity();
+
+		@JsonPath("$.addresses[1].city")
+		String getSecondCity();
+
+		@JsonPath("$.tags")
+		List<String> getTags();
+
+		Address getAddress();
+
+		@JsonPath({ "$.unknown", "$.address.unknown" })
+		String getMissing();
+	}
+
+	interface Address {
+		String getZipCode();
+	}
+
+	@ProjectedPayload
+	interface Cities {
+
+		@JsonPath("$..city")
+		List<String> getCities();
+	}
+
 	interface UnannotatedInterface {}
 
 	class SampleClass {}